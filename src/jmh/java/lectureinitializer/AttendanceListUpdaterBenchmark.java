@@ -0,0 +1,53 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendanceListUpdaterBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private File attendanceList;
+
+    private String attendanceListContent;
+
+    private Path directory;
+
+    private File teamsExport;
+
+    @Setup(Level.Invocation)
+    public void resetAttendanceList() throws IOException {
+        Files.writeString(this.attendanceList.toPath(), this.attendanceListContent);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("attendance");
+        this.attendanceList = this.directory.resolve("241007.txt").toFile();
+        this.attendanceListContent = SyntheticInputs.attendanceList(this.records);
+        this.teamsExport = this.directory.resolve("teams.csv").toFile();
+        Files.write(this.teamsExport.toPath(), SyntheticInputs.teamsExport(this.records));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+    @Benchmark
+    public long updateAttendanceList() throws IOException {
+        AttendanceListUpdater.updateAttendanceList(this.attendanceList, this.teamsExport);
+        return this.attendanceList.length();
+    }
+
+}
@@ -0,0 +1,58 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendanceMatrixBenchmark {
+
+    private static final int SESSIONS = 12;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private Path directory;
+
+    private List<Path> exports;
+
+    private List<String> participants;
+
+    @Benchmark
+    public AttendanceMatrix fromExports() throws IOException {
+        return AttendanceMatrix.fromExports(
+            this.participants,
+            this.exports,
+            Runtime.getRuntime().availableProcessors()
+        );
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("attendance");
+        this.participants = IntStream.range(0, this.records).mapToObj(SyntheticInputs::participant).toList();
+        final byte[] export = SyntheticInputs.teamsExport(this.records);
+        final List<Path> exports = new ArrayList<Path>(AttendanceMatrixBenchmark.SESSIONS);
+        for (int i = 0; i < AttendanceMatrixBenchmark.SESSIONS; i++) {
+            final Path file = this.directory.resolve(String.format("session%02d.csv", i));
+            Files.write(file, export);
+            exports.add(file);
+        }
+        this.exports = exports;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+}
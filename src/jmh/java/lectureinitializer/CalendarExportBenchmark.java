@@ -0,0 +1,50 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import ocp.*;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarExportBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private File calendarExport;
+
+    private Path directory;
+
+    @Benchmark
+    public CalendarExport parseCalendarExport() throws IOException {
+        return CalendarExport.parseCalendarExport(this.calendarExport);
+    }
+
+    @Benchmark
+    public Map<Lecture, List<OCEntry>> sequential() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(this.calendarExport))) {
+            return OCEntry.parseAndGroup(reader, LectureExtractor.INSTANCE);
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("calendarExport");
+        this.calendarExport = this.directory.resolve("calendar.csv").toFile();
+        Files.writeString(this.calendarExport.toPath(), SyntheticInputs.calendarExport(this.records));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+}
@@ -0,0 +1,41 @@
+package lectureinitializer;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaTeXEscaperBenchmark {
+
+    private static String regexEscape(final String text) {
+        return text.replaceAll("\\\\", "\\\\textbackslash")
+            .replaceAll("([&\\$%\\{\\}_#])", "\\\\$1")
+            .replaceAll("~", "\\\\textasciitilde{}")
+            .replaceAll("\\^", "\\\\textasciicircum{}")
+            .replaceAll("\\\\textbackslash", "\\\\textbackslash{}")
+            .replaceAll("([^\\\\])\"", "$1''")
+            .replaceAll("^\"", "''");
+    }
+
+    @Param({
+        "Welche Aussage zum Wasserfallmodell trifft zu?",
+        "\"Big Data\" bezeichnet 50% der Daten mit $n_i$ & {#x} ~ 2^10"
+    })
+    public String text;
+
+    @Benchmark
+    public String regex() {
+        return LaTeXEscaperBenchmark.regexEscape(this.text);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return LaTeXEscaper.escape(this.text);
+    }
+
+}
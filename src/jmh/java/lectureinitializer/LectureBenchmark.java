@@ -0,0 +1,50 @@
+package lectureinitializer;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LectureBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private List<String> subjects;
+
+    @Benchmark
+    public Map<Lecture, Integer> interned() {
+        final Map<Lecture, Integer> result = new LinkedHashMap<Lecture, Integer>();
+        for (final String subject : this.subjects) {
+            result.merge(Lecture.parse(subject), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<LegacyLecture, Integer> legacy() {
+        final Map<LegacyLecture, Integer> result = new LinkedHashMap<LegacyLecture, Integer>();
+        for (final String subject : this.subjects) {
+            result.merge(LegacyLecture.parse(subject), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    @Setup
+    public void setup() {
+        this.subjects =
+            SyntheticInputs.calendarExport(this.records)
+            .lines()
+            .skip(1)
+            .filter(line -> line.startsWith("\""))
+            .map(line -> line.substring(1, line.indexOf('"', 1)).replaceAll(" \\((Vorlesung|Klausur)\\)", ""))
+            .toList();
+    }
+
+}
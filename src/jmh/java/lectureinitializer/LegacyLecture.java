@@ -0,0 +1,16 @@
+package lectureinitializer;
+
+import java.util.*;
+import java.util.stream.*;
+
+record LegacyLecture(String title, Set<String> groups) {
+
+    static LegacyLecture parse(final String line) {
+        final String[] parts = line.split("\\|");
+        return new LegacyLecture(
+            parts[0].trim(),
+            Arrays.stream(parts[1].split(",")).map(String::trim).collect(Collectors.toSet())
+        );
+    }
+
+}
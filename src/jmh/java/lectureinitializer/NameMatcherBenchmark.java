@@ -0,0 +1,60 @@
+package lectureinitializer;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameMatcherBenchmark {
+
+    private static String attendee(final int index) {
+        switch (index % 3) {
+        case 0:
+            return SyntheticInputs.participant(index);
+        case 1:
+            return String.format("Nachname%d, Vorname%d", index, index);
+        default:
+            return String.format("Vorname%d Nachnme%d", index, index);
+        }
+    }
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private List<String> attendees;
+
+    private NameMatcher matcher;
+
+    private List<String> participants;
+
+    @Benchmark
+    public NameMatcher index() {
+        return new NameMatcher(this.participants);
+    }
+
+    @Benchmark
+    public int matchAll() {
+        int result = 0;
+        for (final String attendee : this.attendees) {
+            if (this.matcher.match(attendee).matched()) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Setup
+    public void setup() {
+        this.participants = IntStream.range(0, this.records).mapToObj(SyntheticInputs::participant).toList();
+        this.attendees = IntStream.range(0, this.records).mapToObj(NameMatcherBenchmark::attendee).toList();
+        this.matcher = new NameMatcher(this.participants);
+    }
+
+}
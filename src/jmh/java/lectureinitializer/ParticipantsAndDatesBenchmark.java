@@ -0,0 +1,33 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipantsAndDatesBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private String classFile;
+
+    @Benchmark
+    public ParticipantsAndDates fromReader() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(this.classFile))) {
+            return ParticipantsAndDates.fromReader(reader);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        this.classFile = SyntheticInputs.classFile(this.records);
+    }
+
+}
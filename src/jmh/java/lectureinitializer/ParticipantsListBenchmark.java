@@ -0,0 +1,50 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipantsListBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private Path directory;
+
+    private File participantsList;
+
+    @Benchmark
+    public ParticipantsList parse() throws IOException {
+        return new ParticipantsList(this.participantsList);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("participantsList");
+        this.participantsList = this.directory.resolve("participants.txt").toFile();
+        Files.writeString(this.participantsList.toPath(), SyntheticInputs.participantsList(this.records));
+    }
+
+    @Benchmark
+    public int stream() throws IOException {
+        final int[] participants = new int[1];
+        try (BufferedReader reader = new BufferedReader(new FileReader(this.participantsList))) {
+            ParticipantsList.parse(reader, (lecture, list) -> participants[0] += list.size());
+        }
+        return participants[0];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+}
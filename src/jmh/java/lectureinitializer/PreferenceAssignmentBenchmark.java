@@ -0,0 +1,35 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreferenceAssignmentBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int records;
+
+    private Preferences preferences;
+
+    @Benchmark
+    public int[] assign() throws IOException {
+        return PreferenceAssignment.assign(this.preferences);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        try (
+            BufferedReader reader = new BufferedReader(new StringReader(SyntheticInputs.preferencesFile(this.records)))
+        ) {
+            this.preferences = Preferences.fromReader(reader);
+        }
+    }
+
+}
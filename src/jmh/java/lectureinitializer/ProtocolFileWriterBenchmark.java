@@ -0,0 +1,58 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.time.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolFileWriterBenchmark {
+
+    private static final TalkAssignment ASSIGNMENT =
+        new TalkAssignment(
+            new TopicAssignment("Jörg Müller", "Künstliche Intelligenz im Alltag"),
+            LocalDateTime.of(2024, 3, 5, 9, 45)
+        );
+
+    private static final Subject SUBJECT = new Subject("Softwaretechnik", "SE");
+
+    @Param({"TALK40QUIZ10", "TALK40QUIZ20", "TALK50SCIENCE", "TALK80QUIZ20"})
+    public TalkMode talkMode;
+
+    private final ByteArrayOutputStream stream = new ByteArrayOutputStream(16384);
+
+    @Benchmark
+    public int legacyWriter() throws IOException {
+        this.stream.reset();
+        final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(this.stream));
+        LegacyProtocolFileWriter.writeProtocol(
+            writer,
+            this.talkMode,
+            ProtocolFileWriterBenchmark.SUBJECT,
+            "Bergisch Gladbach",
+            ProtocolFileWriterBenchmark.ASSIGNMENT
+        );
+        writer.flush();
+        return this.stream.size();
+    }
+
+    @Benchmark
+    public int template() throws IOException {
+        this.stream.reset();
+        ProtocolFileWriter.writeProtocol(
+            this.stream,
+            this.talkMode,
+            ProtocolFileWriterBenchmark.SUBJECT,
+            "Bergisch Gladbach",
+            ProtocolFileWriterBenchmark.ASSIGNMENT
+        );
+        return this.stream.size();
+    }
+
+}
@@ -0,0 +1,89 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolFilesBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private List<TalkAssignment> assignments;
+
+    private Path directory;
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("protocols");
+        final List<LocalDateTime> dates = SyntheticInputs.dates(this.records);
+        final List<TalkAssignment> assignments = new ArrayList<TalkAssignment>(this.records);
+        for (int i = 0; i < this.records; i++) {
+            assignments.add(
+                new TalkAssignment(
+                    new TopicAssignment(SyntheticInputs.participant(i), "Topic number " + i),
+                    dates.get(i)
+                )
+            );
+        }
+        this.assignments = assignments;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+    @Benchmark
+    public void writeProtocolFiles() throws IOException {
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            this.write(files);
+            files.complete();
+        }
+    }
+
+    @Benchmark
+    public MemorySink writeProtocolFilesToMemory() throws IOException {
+        final MemorySink sink = new MemorySink();
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            this.write(files);
+            files.complete();
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public void writeProtocolFilesToZip() throws IOException {
+        try (
+            GeneratedFiles files =
+                GeneratedFiles.direct(new ZipSink(this.directory.resolve("protocols.zip"), this.directory))
+        ) {
+            this.write(files);
+            files.complete();
+        }
+    }
+
+    private void write(final GeneratedFiles files) throws IOException {
+        for (final TalkAssignment assignment : this.assignments) {
+            ProtocolFileWriter.writeProtocolFile(
+                files,
+                this.directory,
+                TalkMode.TALK40QUIZ20,
+                new Subject("Softwaretechnik", "SE"),
+                "Bergisch Gladbach",
+                assignment
+            );
+        }
+    }
+
+}
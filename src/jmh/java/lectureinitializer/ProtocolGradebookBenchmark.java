@@ -0,0 +1,39 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolGradebookBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private Path root;
+
+    @Benchmark
+    public List<ProtocolGradebook> fromDirectory() throws IOException {
+        return ProtocolGradebook.fromDirectory(this.root, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.root = Files.createTempDirectory("gradebook");
+        SyntheticInputs.protocols(this.root, this.records);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.root);
+    }
+
+}
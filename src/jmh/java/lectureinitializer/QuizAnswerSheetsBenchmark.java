@@ -0,0 +1,83 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizAnswerSheetsBenchmark {
+
+    @Param({"10", "100", "300", "600"})
+    public int participants;
+
+    private Path directory;
+
+    private List<String> roster;
+
+    @Benchmark
+    public void legacySheets() throws IOException {
+        for (final String speaker : this.roster) {
+            final String[] nameParts = speaker.split(" ");
+            final String lastName = nameParts[nameParts.length - 1].toLowerCase();
+            try (
+                BufferedWriter writer =
+                    new BufferedWriter(new FileWriter(this.directory.resolve(lastName + ".csv").toFile()))
+            ) {
+                writer.write(speaker);
+                writer.write("\n");
+                for (final String participant : this.roster) {
+                    if (participant.equals(speaker)) {
+                        continue;
+                    }
+                    writer.write(participant);
+                    writer.write(";\n");
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void matrix() throws IOException {
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            new QuizAnswerSheets(this.roster).writeMatrix(files, this.directory.resolve("quizAnswers.csv"));
+            files.complete();
+        }
+    }
+
+    @Benchmark
+    public void sheets() throws IOException {
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            new QuizAnswerSheets(this.roster).writeSheets(files, this.directory);
+            files.complete();
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("quizAnswers");
+        this.roster =
+            IntStream.range(0, this.participants)
+            .mapToObj(i -> String.format("Vorname%d Nachname%d", i, i))
+            .toList();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (final Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+}
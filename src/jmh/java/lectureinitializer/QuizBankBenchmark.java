@@ -0,0 +1,86 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizBankBenchmark {
+
+    private static final int FILES = 10;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private QuizBank bank;
+
+    private int count;
+
+    private Path directory;
+
+    private File output;
+
+    private List<String> topics;
+
+    @Benchmark
+    public long assembleQuiz() throws IOException {
+        QuizBank.assembleQuiz(this.directory.toFile(), this.output, this.topics, this.count, 42);
+        return this.output.length();
+    }
+
+    @Benchmark
+    public int open() throws IOException {
+        return QuizBank.open(this.directory.resolve(QuizBank.FILE_NAME)).size();
+    }
+
+    @Benchmark
+    public long rebuild() throws IOException {
+        Files.delete(this.directory.resolve(QuizBank.FILE_NAME));
+        QuizBank.update(this.directory.toFile());
+        return Files.size(this.directory.resolve(QuizBank.FILE_NAME));
+    }
+
+    @Benchmark
+    public List<QuizQuestion> sample() throws IOException {
+        return this.bank.sample(this.topics, this.count, new SplittableRandom(42));
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("bank");
+        this.output = this.directory.resolve("mixed.tex").toFile();
+        final int perFile = Math.max(2, this.records / QuizBankBenchmark.FILES);
+        for (int i = 0; i < QuizBankBenchmark.FILES; i++) {
+            final Path topic = this.directory.resolve(String.format("topic%d", i));
+            Files.createDirectories(topic);
+            Files.writeString(
+                topic.resolve("quiz.txt"),
+                SyntheticInputs.quizFile(perFile).replaceFirst("topic", String.format("topic %d", i))
+            );
+        }
+        QuizBank.update(this.directory.toFile());
+        this.bank = QuizBank.open(this.directory.resolve(QuizBank.FILE_NAME));
+        this.topics = this.bank.topics().subList(0, 2);
+        this.count = Math.min(20, this.bank.size(this.topics));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+    @Benchmark
+    public long update() throws IOException {
+        QuizBank.update(this.directory.toFile());
+        return Files.size(this.directory.resolve(QuizBank.FILE_NAME));
+    }
+
+}
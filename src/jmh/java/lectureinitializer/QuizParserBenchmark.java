@@ -0,0 +1,52 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizParserBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private Path directory;
+
+    private Path legacy;
+
+    private Path quiz;
+
+    @Benchmark
+    public QuizQuestions parse() throws IOException {
+        return QuizParser.parse(this.quiz, new SplittableRandom(42));
+    }
+
+    @Benchmark
+    public QuizQuestions parseLegacy() throws IOException {
+        return QuizParser.parse(this.legacy, new SplittableRandom(42));
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("quiz");
+        this.quiz = this.directory.resolve("quiz.txt");
+        this.legacy = this.directory.resolve("legacy.txt");
+        final String content = SyntheticInputs.quizFile(this.records);
+        Files.writeString(this.quiz, content);
+        Files.writeString(this.legacy, content.replace("\n\n", "\n"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+}
@@ -0,0 +1,61 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizQuestionsBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private Path directory;
+
+    private List<String> lines;
+
+    private File output;
+
+    private File quiz;
+
+    @Benchmark
+    public QuizQuestions parse() {
+        return new QuizQuestions(this.lines.iterator());
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("quiz");
+        this.quiz = this.directory.resolve("quiz.txt").toFile();
+        this.output = this.directory.resolve("quiz.tex").toFile();
+        final String content = SyntheticInputs.quizFile(this.records);
+        Files.writeString(this.quiz.toPath(), content);
+        this.lines = content.lines().filter(line -> !line.isBlank()).skip(1).toList();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+    @Benchmark
+    public long transformQuizFile() throws IOException {
+        QuizQuestions.transformQuizFile(this.quiz, this.output);
+        return this.output.length();
+    }
+
+    @Benchmark
+    public long writeVariants() throws IOException {
+        QuizQuestions.writeVariants(this.quiz, this.output, 42, 8);
+        return this.directory.resolve("quiz-key.csv").toFile().length();
+    }
+
+}
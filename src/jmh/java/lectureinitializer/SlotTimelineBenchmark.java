@@ -0,0 +1,48 @@
+package lectureinitializer;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotTimelineBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private String[] codes;
+
+    private StringBuilder encoded;
+
+    @Benchmark
+    public StringBuilder encode() {
+        this.encoded.setLength(0);
+        for (final String code : this.codes) {
+            SlotTimeline.encode(SlotTimeline.decode(code), SlotTimeline.multiplicity(code), this.encoded);
+        }
+        return this.encoded;
+    }
+
+    @Benchmark
+    public int fromCodes() {
+        return SlotTimeline
+            .fromCodes(this.codes, SlotTimeline.DEFAULT_SLOT_LENGTH, SlotTimeline.DEFAULT_BREAK_LENGTH)
+            .firstSlotFor(this.records);
+    }
+
+    @Setup
+    public void setup() {
+        this.codes = new String[this.records];
+        final int start = SlotTimeline.decode("24100709454");
+        for (int i = 0; i < this.records; i++) {
+            this.codes[i] = SlotTimeline.encode(start + i * SlotTimeline.MINUTES_PER_DAY, 4);
+        }
+        this.encoded = new StringBuilder(this.records * 11);
+    }
+
+}
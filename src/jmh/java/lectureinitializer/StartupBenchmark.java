@@ -0,0 +1,103 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static List<String> args(final String command) {
+        switch (command) {
+        case "help":
+            return List.of();
+        case "classfile":
+            return List.of("-c", "classes/244bwiin123a.txt");
+        case "assignment":
+            return List.of("-c", "classes/244bwiin123b.txt", "-a", "classes/244bwiin123b/assignment.txt");
+        case "participants":
+            return List.of("-p", "participants.txt", "-e", "calendar.csv");
+        case "attendance":
+            return List.of("-t", "attendance.txt", "-e", "teams.csv");
+        case "quiz":
+            return List.of("-q", "quiz.txt", "-o", "quiz.tex");
+        default:
+            throw new IllegalArgumentException("Unknown command " + command + "!");
+        }
+    }
+
+    private static void copyRecursively(final Path source, final Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (final Path file : files.toList()) {
+                final Path copy = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(copy);
+                } else {
+                    Files.copy(file, copy);
+                }
+            }
+        }
+    }
+
+    @Param({"none", "cds"})
+    public String archive;
+
+    @Param({"help", "classfile", "assignment", "participants", "attendance", "quiz"})
+    public String command;
+
+    private Path directory;
+
+    private Process process;
+
+    private ProcessBuilder processBuilder;
+
+    @TearDown(Level.Invocation)
+    public void finishRun() throws IOException, InterruptedException {
+        this.process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        this.process.waitFor();
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+    @Benchmark
+    public int firstOutput() throws IOException {
+        this.process = this.processBuilder.start();
+        return this.process.getInputStream().read();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareRun() throws IOException {
+        this.directory = Files.createTempDirectory("startup");
+        StartupBenchmark.copyRecursively(Path.of(System.getProperty("lectureinitializer.training")), this.directory);
+        this.processBuilder.directory(this.directory.toFile());
+    }
+
+    @Setup
+    public void setup() {
+        final List<String> command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if ("cds".equals(this.archive)) {
+            final String archive = System.getProperty("lectureinitializer.archive");
+            if (!Files.isRegularFile(Path.of(archive))) {
+                throw new IllegalStateException(
+                    String.format("No CDS archive at %s, run the cdsArchive task before the benchmarks!", archive)
+                );
+            }
+            command.add("-XX:SharedArchiveFile=" + archive);
+            command.addAll(List.of(System.getProperty("lectureinitializer.archiveOptions").split(" ")));
+        }
+        command.add("-jar");
+        command.add(System.getProperty("lectureinitializer.jar"));
+        command.addAll(StartupBenchmark.args(this.command));
+        this.processBuilder = new ProcessBuilder(command).redirectErrorStream(true);
+    }
+
+}
@@ -0,0 +1,274 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+class SyntheticInputs {
+
+    private static final String[] LECTURES = {
+        "Advanced Software Engineering",
+        "Algorithmen und Datenstrukturen",
+        "Grundlagen der Informatik",
+        "Operations Research",
+        "Programmierung I",
+        "Software Testing & DevOps",
+        "Wirtschaftsmathematik"
+    };
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 10, 7, 9, 0);
+
+    static String assignmentFile(final int records) {
+        final StringBuilder result = new StringBuilder(records * 48);
+        for (int i = 0; i < records; i++) {
+            result.append(SyntheticInputs.participant(i));
+            result.append(" -> ");
+            result.append(i + 1);
+            result.append(") Topic number ");
+            result.append(i);
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    static String attendanceList(final int records) {
+        final StringBuilder result = new StringBuilder(records * 24);
+        for (int i = 0; i < records; i++) {
+            result.append(SyntheticInputs.participant(i));
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    static String calendarExport(final int records) {
+        final StringBuilder result = new StringBuilder(records * 256);
+        result.append(
+            "\"Betreff\",\"Beginnt am\",\"Beginnt um\",\"Endet am\",\"Endet um\",\"Ganztägiges Ereignis\","
+            + "\"Erinnerung Ein/Aus\",\"Erinnerung am\",\"Erinnerung um\",\"Besprechungsplanung\","
+            + "\"Erforderliche Teilnehmer\",\"Optionale Teilnehmer\",\"Besprechungsressourcen\",\"Abrechnungsinformationen\","
+            + "\"Beschreibung\",\"Kategorien\",\"Ort\",\"Priorität\",\"Privat\",\"Reisekilometer\",\"Vertraulichkeit\","
+            + "\"Zeitspanne zeigen als\"\n"
+        );
+        for (int i = 0; i < records; i++) {
+            final LocalDateTime start = SyntheticInputs.START.plusDays(i / 4).plusHours(2 * (i % 4));
+            final String startDate = SyntheticInputs.toCalendarDate(start);
+            result.append("\"");
+            result.append(SyntheticInputs.LECTURES[i % SyntheticInputs.LECTURES.length]);
+            result.append(i % 10 == 9 ? " (Klausur)" : " (Vorlesung)");
+            result.append(" | BWIN");
+            result.append(100 + i % 3);
+            result.append("A, BWIN");
+            result.append(100 + i % 3);
+            result.append("B\",\"");
+            result.append(startDate);
+            result.append("\",\"");
+            result.append(String.format("%02d:%02d:00", start.getHour(), start.getMinute()));
+            result.append("\",\"");
+            result.append(startDate);
+            result.append("\",\"");
+            result.append(String.format("%02d:%02d:00", start.getHour() + 1, start.getMinute() + 30));
+            result.append("\",\"Aus\",\"Aus\",\"");
+            result.append(startDate);
+            result.append("\",\"08:45:00\",\"Dozent\",\"\",\"\",\"\",\"\",\"Raum B");
+            result.append(i % 20);
+            result.append("\nBitte pünktlich erscheinen.\",\"\",\"Campus\",\"Normal\",\"Aus\",\"\",\"Normal\",\"2\"\n");
+        }
+        return result.toString();
+    }
+
+    static String classFile(final int records) {
+        final StringBuilder result = new StringBuilder(records * 36);
+        result.append(records);
+        result.append("\n");
+        for (int i = 0; i < records; i++) {
+            result.append(SyntheticInputs.participant(i));
+            result.append("\n");
+        }
+        result.append(records);
+        result.append("\n");
+        for (int i = 0; i < records; i++) {
+            result.append(SyntheticInputs.toClassFileDate(i));
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    static List<LocalDateTime> dates(final int records) {
+        return
+            IntStream.range(0, records)
+            .mapToObj(SyntheticInputs::toClassFileDate)
+            .flatMap(TalkAssignments::toLocalDateTime)
+            .toList();
+    }
+
+    static void deleteRecursively(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    static String participant(final int index) {
+        return String.format("Vorname%d Nachname%d%s", index, index, index % 7 == 0 ? "ä" : "");
+    }
+
+    static String participantsList(final int records) {
+        final StringBuilder result = new StringBuilder(records * 40);
+        int lecture = 0;
+        result.append(SyntheticInputs.participantsListHeader(lecture));
+        for (int i = 0; i < records; i++) {
+            if (i > 0 && i % 40 == 0) {
+                if (i % 200 == 0) {
+                    lecture++;
+                }
+                result.append("Seite ");
+                result.append(i / 40);
+                result.append("\n\n ");
+                result.append(SyntheticInputs.participantsListHeader(lecture));
+            }
+            result.append("BWIN");
+            result.append(100 + lecture % 900);
+            result.append("A ");
+            result.append(SyntheticInputs.participant(i));
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    static String preferencesFile(final int records) {
+        final int topics = Math.max(1, records / 5);
+        final StringBuilder result = new StringBuilder(records * 40);
+        result.append(topics);
+        result.append("\n");
+        for (int i = 0; i < topics; i++) {
+            result.append("Topic number ");
+            result.append(i);
+            result.append("\n");
+        }
+        result.append(records);
+        result.append("\n");
+        for (int i = 0; i < records; i++) {
+            result.append(SyntheticInputs.participant(i));
+            result.append(";");
+            result.append(i * 7 % topics + 1);
+            result.append(",");
+            result.append((i * 13 + 1) % topics + 1);
+            result.append(",");
+            result.append((i * 31 + 2) % topics + 1);
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    static void protocols(final Path root, final int records) throws IOException {
+        final TalkMode[] talkModes = TalkMode.values();
+        Path protocols = null;
+        for (int i = 0; i < records; i++) {
+            final TalkMode talkMode = talkModes[i / 30 % talkModes.length];
+            if (i % 30 == 0) {
+                final Path lecture = root.resolve("lecture" + i / 30);
+                protocols = lecture.resolve("classes/class/protocols");
+                Files.createDirectories(protocols);
+                Files.writeString(lecture.resolve("classes/meta.txt"), "Lecture\nLE\n" + talkMode.name() + "\n0\n");
+            }
+            final ByteArrayOutputStream protocol = new ByteArrayOutputStream();
+            ProtocolTemplate.forTalkMode(talkMode).render(
+                protocol,
+                Map.of(
+                    ProtocolTemplate.Slot.SUBJECT, "Lecture",
+                    ProtocolTemplate.Slot.STUDENT, LaTeXEscaper.escape(SyntheticInputs.participant(i)),
+                    ProtocolTemplate.Slot.TITLE, "Topic number " + i,
+                    ProtocolTemplate.Slot.DATE, "7.\\ Oktober 2024",
+                    ProtocolTemplate.Slot.PLACE, "Raum 1"
+                )
+            );
+            Files.writeString(
+                protocols.resolve("protokollLE" + i + ".tex"),
+                protocol.toString(StandardCharsets.UTF_8).replace(i % 3 == 0 ? "iv{}" : "ii{}", "i{}")
+            );
+        }
+    }
+
+    static void quizAnswers(final Path directory, final int records) throws IOException {
+        final int participants = Math.max(2, (int)Math.sqrt(records));
+        final String answers = "abcd";
+        final StringBuilder solutions = new StringBuilder();
+        Files.createDirectories(directory.resolve("quizAnswers"));
+        for (int speaker = 0; speaker < participants; speaker++) {
+            solutions.append(SyntheticInputs.participant(speaker));
+            for (int question = 0; question < 5; question++) {
+                solutions.append(';').append(answers.charAt((speaker + question) % 4));
+            }
+            solutions.append('\n');
+            final StringBuilder sheet = new StringBuilder(SyntheticInputs.participant(speaker)).append('\n');
+            for (int participant = 0; participant < participants; participant++) {
+                if (participant == speaker) {
+                    continue;
+                }
+                sheet.append(SyntheticInputs.participant(participant));
+                for (int question = 0; question < 5; question++) {
+                    sheet.append(';').append(answers.charAt((speaker * participant + question) % 4));
+                }
+                sheet.append(participant % 17 == 16 ? ";x?\n" : "\n");
+            }
+            Files.writeString(directory.resolve("quizAnswers").resolve(speaker + ".csv"), sheet);
+        }
+        Files.writeString(directory.resolve("quizSolutions.csv"), solutions);
+    }
+
+    static String quizFile(final int records) {
+        final StringBuilder result = new StringBuilder(records * 160);
+        result.append("Synthetic & generated topic\n\n");
+        for (int i = 0; i < records; i++) {
+            result.append(String.format("Frage %d: Was gilt für $x_%d$ und \"Daten\" in 50%% der Fälle?\n", i + 1, i));
+            result.append("a) Die richtige Antwort (richtig)\n");
+            result.append("b) Die erste falsche Antwort {a}\n");
+            result.append("c) Die zweite falsche Antwort ~\n");
+            result.append("d) Die dritte falsche Antwort #\n\n");
+        }
+        return result.toString();
+    }
+
+    static byte[] teamsExport(final int records) {
+        final StringBuilder result = new StringBuilder(records * 64);
+        result.append("Name\tErste Teilnahme\tLetztes Verlassen\tDauer\tE-Mail\tTeilnehmer-ID\tRolle\n");
+        for (int i = 0; i < records; i++) {
+            if (i % 5 == 4) {
+                continue;
+            }
+            result.append(SyntheticInputs.participant(i % 3 == 2 ? i + records : i));
+            result.append(" / Gast\t07.10.24, 09:01:12\t07.10.24, 10:30:00\t1 Std. 28 Min.\t\t\tTeilnehmer\n");
+        }
+        return result.toString().getBytes(StandardCharsets.UTF_16LE);
+    }
+
+    private static String participantsListHeader(final int lecture) {
+        return String.format(
+            "%s | BWIN%dA, BWIN%dB |\n",
+            SyntheticInputs.LECTURES[lecture % SyntheticInputs.LECTURES.length],
+            100 + lecture % 900,
+            100 + lecture % 900
+        );
+    }
+
+    private static String toCalendarDate(final LocalDateTime date) {
+        return String.format("%d.%d.%d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+
+    private static String toClassFileDate(final int index) {
+        final LocalDateTime date = SyntheticInputs.START.plusDays(index);
+        return String.format(
+            "%02d%02d%02d%02d%02d4",
+            date.getYear() % 100,
+            date.getMonthValue(),
+            date.getDayOfMonth(),
+            date.getHour(),
+            date.getMinute()
+        );
+    }
+
+}
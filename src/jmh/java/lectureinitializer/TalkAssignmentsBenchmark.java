@@ -0,0 +1,38 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TalkAssignmentsBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private String assignmentFile;
+
+    private List<LocalDateTime> dates;
+
+    @Benchmark
+    public TalkAssignments constructor() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(this.assignmentFile))) {
+            return new TalkAssignments(reader, this.dates);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        this.assignmentFile = SyntheticInputs.assignmentFile(this.records);
+        this.dates = SyntheticInputs.dates(this.records);
+    }
+
+}
@@ -0,0 +1,81 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextInputBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int records;
+
+    private Path classFile;
+
+    private Path directory;
+
+    private Path teamsExport;
+
+    @Benchmark
+    public int filesReadAllLines() throws IOException {
+        return Files.readAllLines(this.classFile).size();
+    }
+
+    @Benchmark
+    public int legacyFileReader() throws IOException {
+        int result = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(this.classFile.toFile()))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                result += line.length();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int legacyTeamsExport() throws IOException {
+        return new String(Files.readAllBytes(this.teamsExport), StandardCharsets.UTF_16LE).lines().toList().size();
+    }
+
+    @Benchmark
+    public int textInputLines() throws IOException {
+        final int[] result = new int[1];
+        try (TextInput input = TextInput.open(this.classFile)) {
+            input.forEachLine((line, number) -> result[0] += line.length());
+        }
+        return result[0];
+    }
+
+    @Benchmark
+    public int textInputTeamsExport() throws IOException {
+        final int[] result = new int[1];
+        try (TextInput input = TextInput.open(this.teamsExport)) {
+            input.forEachLine((line, number) -> result[0]++);
+        }
+        return result[0];
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("textInput");
+        this.classFile = this.directory.resolve("class.txt");
+        Files.writeString(this.classFile, SyntheticInputs.classFile(this.records));
+        this.teamsExport = this.directory.resolve("teams.csv");
+        Files.write(this.teamsExport, SyntheticInputs.teamsExport(this.records));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticInputs.deleteRecursively(this.directory);
+    }
+
+}
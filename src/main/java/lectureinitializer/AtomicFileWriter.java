@@ -0,0 +1,59 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+public class AtomicFileWriter {
+
+    @FunctionalInterface
+    public static interface Content {
+
+        void writeTo(BufferedWriter writer) throws IOException;
+
+    }
+
+    @FunctionalInterface
+    public static interface BinaryContent {
+
+        void writeTo(OutputStream stream) throws IOException;
+
+    }
+
+    public static void write(final Path target, final Content content) throws IOException {
+        AtomicFileWriter.writeBinary(
+            target,
+            stream -> {
+                final BufferedWriter writer =
+                    new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+                content.writeTo(writer);
+                writer.flush();
+            }
+        );
+    }
+
+    public static void writeBinary(final Path target, final BinaryContent content) throws IOException {
+        final Path temporary =
+            target.resolveSibling(
+                String.format(".%s.%d.tmp", target.getFileName().toString(), Thread.currentThread().threadId())
+            );
+        try {
+            try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(temporary.toFile()))) {
+                content.writeTo(stream);
+            }
+            AtomicFileWriter.move(temporary, target);
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
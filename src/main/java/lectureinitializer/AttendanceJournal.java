@@ -0,0 +1,362 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.zip.*;
+
+public class AttendanceJournal implements Closeable {
+
+    public static record Session(String name, Instant recorded, BitSet present, List<String> unknownAttendees) {}
+
+    public static final String FILE_NAME = "attendance.journal";
+
+    private static final int MAGIC = 0x4C494A31;
+
+    private static final byte PARTICIPANT = 1;
+
+    private static final byte SESSION = 2;
+
+    public static void exportSessions(final File classFile, final File directory) throws IOException {
+        Files.createDirectories(directory.toPath());
+        try (
+            AttendanceJournal journal = AttendanceJournal.forClass(classFile);
+            GeneratedFiles files = GeneratedFiles.direct()
+        ) {
+            for (final Session session : journal.sessions()) {
+                files.writeText(
+                    directory.toPath().resolve(session.name() + ".txt"),
+                    writer -> journal.export(session, writer)
+                );
+            }
+            files.complete();
+            System.out.println(
+                String.format("Exported %d sessions to %s.", journal.sessions().size(), directory.getName())
+            );
+        }
+    }
+
+    public static AttendanceJournal forClass(final File classFile) throws IOException {
+        final Path root = ParticipantsAndDates.toClassDirectory(classFile);
+        Files.createDirectories(root);
+        return AttendanceJournal.open(
+            root.resolve(AttendanceJournal.FILE_NAME),
+            List.of(ParticipantsAndDates.fromFile(classFile).participants())
+        );
+    }
+
+    public static AttendanceJournal open(final Path file, final List<String> participants) throws IOException {
+        final FileChannel channel =
+            FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final AttendanceJournal journal = new AttendanceJournal(file, channel);
+            journal.replay();
+            journal.extendParticipants(participants);
+            return journal;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static void writeReportToConsole(final File classFile, final OptionalInt maxAbsences) throws IOException {
+        try (AttendanceJournal journal = AttendanceJournal.forClass(classFile)) {
+            final List<Session> sessions = journal.sessions();
+            if (maxAbsences.isPresent()) {
+                final List<Integer> absentees = journal.absentMoreThan(maxAbsences.getAsInt());
+                for (final int participant : absentees) {
+                    System.out.println(
+                        String.format(
+                            "%s: missed %d of %d sessions",
+                            journal.participants().get(participant),
+                            sessions.size() - journal.count(participant),
+                            sessions.size()
+                        )
+                    );
+                }
+                System.out.println(
+                    String.format(
+                        "%d of %d participants missed more than %d sessions.",
+                        absentees.size(),
+                        journal.participants().size(),
+                        maxAbsences.getAsInt()
+                    )
+                );
+                return;
+            }
+            for (int participant = 0; participant < journal.participants().size(); participant++) {
+                System.out.println(
+                    String.format(
+                        "%s: attended %d of %d sessions",
+                        journal.participants().get(participant),
+                        journal.count(participant),
+                        sessions.size()
+                    )
+                );
+            }
+            for (int session = 0; session < sessions.size(); session++) {
+                System.out.println(
+                    String.format(
+                        Locale.ROOT,
+                        "%s: %.1f%% coverage",
+                        sessions.get(session).name(),
+                        journal.coverage(session) * 100
+                    )
+                );
+            }
+        }
+    }
+
+    private static byte[] encodeParticipant(final String participant) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(AttendanceJournal.PARTICIPANT);
+            out.writeUTF(participant);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeSession(final Session session, final int participants) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(AttendanceJournal.SESSION);
+            out.writeUTF(session.name());
+            out.writeLong(session.recorded().toEpochMilli());
+            out.writeInt(participants);
+            final long[] words = session.present().toLongArray();
+            out.writeInt(words.length);
+            for (final long word : words) {
+                out.writeLong(word);
+            }
+            out.writeInt(session.unknownAttendees().size());
+            for (final String attendee : session.unknownAttendees()) {
+                out.writeUTF(attendee);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private final FileChannel channel;
+
+    private int[] counts;
+
+    private final Path file;
+
+    private final List<String> participants;
+
+    private final Map<String, Integer> sessionIndex;
+
+    private final List<Session> sessions;
+
+    private AttendanceJournal(final Path file, final FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+        this.participants = new ArrayList<String>();
+        this.sessions = new ArrayList<Session>();
+        this.sessionIndex = new HashMap<String, Integer>();
+        this.counts = new int[0];
+    }
+
+    public List<Integer> absentMoreThan(final int absences) {
+        final List<Integer> result = new ArrayList<Integer>();
+        for (int participant = 0; participant < this.participants.size(); participant++) {
+            if (this.sessions.size() - this.counts[participant] > absences) {
+                result.add(participant);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.channel.force(false);
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    public int count(final int participant) {
+        return this.counts[participant];
+    }
+
+    public double coverage(final int session) {
+        return this.participants.isEmpty() ?
+            0 :
+                this.sessions.get(session).present().cardinality() / (double)this.participants.size();
+    }
+
+    public void export(final Session session, final BufferedWriter writer) throws IOException {
+        for (int participant = 0; participant < this.participants.size(); participant++) {
+            if (!session.present().get(participant)) {
+                writer.write("//");
+            }
+            writer.write(this.participants.get(participant));
+            writer.newLine();
+        }
+        if (!session.unknownAttendees().isEmpty()) {
+            writer.newLine();
+            for (final String attendee : session.unknownAttendees()) {
+                writer.write("//");
+                writer.write(attendee);
+                writer.newLine();
+            }
+        }
+    }
+
+    public List<String> participants() {
+        return Collections.unmodifiableList(this.participants);
+    }
+
+    public boolean record(
+        final String session,
+        final BitSet present,
+        final List<String> unknownAttendees
+    ) throws IOException {
+        final Integer existing = this.sessionIndex.get(session);
+        if (
+            existing != null
+            && this.sessions.get(existing).present().equals(present)
+            && this.sessions.get(existing).unknownAttendees().equals(unknownAttendees)
+        ) {
+            return false;
+        }
+        if (present.length() > this.participants.size()) {
+            throw new IOException(
+                String.format("Session %s refers to participants unknown to %s!", session, this.file.getFileName())
+            );
+        }
+        final Session record =
+            new Session(session, Instant.now(), (BitSet)present.clone(), List.copyOf(unknownAttendees));
+        this.append(AttendanceJournal.encodeSession(record, this.participants.size()));
+        this.apply(record);
+        return true;
+    }
+
+    public List<Session> sessions() {
+        return Collections.unmodifiableList(this.sessions);
+    }
+
+    private void append(final byte[] payload) throws IOException {
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        final ByteBuffer buffer = ByteBuffer.allocate(payload.length + 8);
+        buffer.putInt(payload.length).put(payload).putInt((int)crc.getValue()).flip();
+        this.channel.position(this.channel.size());
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+    }
+
+    private void apply(final Session session) {
+        final Integer existing = this.sessionIndex.get(session.name());
+        if (existing == null) {
+            this.sessionIndex.put(session.name(), this.sessions.size());
+            this.sessions.add(session);
+        } else {
+            final BitSet previous = this.sessions.get(existing).present();
+            for (int i = previous.nextSetBit(0); i >= 0; i = previous.nextSetBit(i + 1)) {
+                this.counts[i]--;
+            }
+            this.sessions.set(existing, session);
+        }
+        final BitSet present = session.present();
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            this.counts[i]++;
+        }
+    }
+
+    private Session decodeSession(final DataInputStream in) throws IOException {
+        final String name = in.readUTF();
+        final Instant recorded = Instant.ofEpochMilli(in.readLong());
+        in.readInt();
+        final long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        final int unknownCount = in.readInt();
+        final List<String> unknownAttendees = new ArrayList<String>(unknownCount);
+        for (int i = 0; i < unknownCount; i++) {
+            unknownAttendees.add(in.readUTF());
+        }
+        final BitSet present = BitSet.valueOf(words);
+        if (present.length() > this.participants.size()) {
+            throw new IOException(
+                String.format("Session %s refers to participants unknown to %s!", name, this.file.getFileName())
+            );
+        }
+        return new Session(name, recorded, present, unknownAttendees);
+    }
+
+    private void extendParticipants(final List<String> participants) throws IOException {
+        if (
+            participants.size() < this.participants.size()
+            || !participants.subList(0, this.participants.size()).equals(this.participants)
+        ) {
+            throw new IOException(
+                String.format(
+                    "The participants of the class no longer match %s - only appending participants is supported!",
+                    this.file.getFileName()
+                )
+            );
+        }
+        for (final String participant : participants.subList(this.participants.size(), participants.size())) {
+            this.append(AttendanceJournal.encodeParticipant(participant));
+            this.participants.add(participant);
+        }
+        this.counts = Arrays.copyOf(this.counts, this.participants.size());
+    }
+
+    private void replay() throws IOException {
+        final long size = this.channel.size();
+        if (size == 0) {
+            this.channel.write(ByteBuffer.allocate(4).putInt(AttendanceJournal.MAGIC).flip());
+            return;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+        this.channel.read(buffer, 0);
+        buffer.flip();
+        if (buffer.remaining() < 4 || buffer.getInt() != AttendanceJournal.MAGIC) {
+            throw new IOException(String.format("%s is no attendance journal!", this.file.getFileName()));
+        }
+        final CRC32 crc = new CRC32();
+        while (buffer.remaining() >= 4) {
+            final int start = buffer.position();
+            final int length = buffer.getInt();
+            if (length <= 0 || buffer.remaining() < length + 4) {
+                buffer.position(start);
+                break;
+            }
+            final byte[] payload = new byte[length];
+            buffer.get(payload);
+            crc.reset();
+            crc.update(payload);
+            if (buffer.getInt() != (int)crc.getValue()) {
+                buffer.position(start);
+                break;
+            }
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+                switch (in.readByte()) {
+                case PARTICIPANT:
+                    this.participants.add(in.readUTF());
+                    this.counts = Arrays.copyOf(this.counts, this.participants.size());
+                    break;
+                case SESSION:
+                    this.apply(this.decodeSession(in));
+                    break;
+                default:
+                    throw new IOException(
+                        String.format("Unknown record at offset %d in %s!", start, this.file.getFileName())
+                    );
+                }
+            }
+        }
+        if (buffer.position() < size) {
+            this.channel.truncate(buffer.position());
+        }
+    }
+
+}
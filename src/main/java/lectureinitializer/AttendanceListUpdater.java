@@ -1,44 +1,107 @@
 package lectureinitializer;
 
 import java.io.*;
-import java.nio.charset.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 public class AttendanceListUpdater {
 
+    public static Set<String> readAttendees(final Path teamsAttendeesExport) throws IOException {
+        final Set<String> result = new LinkedHashSet<String>();
+        try (TextInput input = TextInput.open(teamsAttendeesExport)) {
+            input.forEachLine(
+                (line, number) -> {
+                    if (number > 1 && !TextInput.isBlank(line)) {
+                        int end = 0;
+                        while (end < line.length() && line.charAt(end) != '\t' && line.charAt(end) != '/') {
+                            end++;
+                        }
+                        result.add(line.subSequence(0, end).toString().trim());
+                    }
+                }
+            );
+        }
+        return result;
+    }
+
     public static void updateAttendanceList(
         final File attendanceList,
         final File teamsAttendeesExport
     ) throws IOException {
-        final Set<String> actualAttendees =
-            new LinkedHashSet<String>(
-                Files.lines(teamsAttendeesExport.toPath(), StandardCharsets.UTF_16LE)
-                .skip(1)
-                .filter(line -> !line.isBlank())
-                .map(line -> line.split("\t")[0].split("/")[0].trim())
-                .toList()
+        AttendanceListUpdater.updateAttendanceList(attendanceList, teamsAttendeesExport, NameMatcher::exact);
+    }
+
+    public static void updateAttendanceList(
+        final File attendanceList,
+        final File teamsAttendeesExport,
+        final double similarity
+    ) throws IOException {
+        AttendanceListUpdater.updateAttendanceList(
+            attendanceList,
+            teamsAttendeesExport,
+            participants -> new NameMatcher(participants, similarity, NameMatcher.DEFAULT_MARGIN)
+        );
+    }
+
+    private static void updateAttendanceList(
+        final File attendanceList,
+        final File teamsAttendeesExport,
+        final Function<List<String>, NameMatcher> matchers
+    ) throws IOException {
+        final Set<String> actualAttendees = AttendanceListUpdater.readAttendees(teamsAttendeesExport.toPath());
+        final List<String> expectedAttendees = new ArrayList<String>();
+        try (TextInput input = TextInput.open(attendanceList.toPath())) {
+            input.forEachLine(
+                (line, number) -> {
+                    if (!TextInput.isBlank(line)) {
+                        expectedAttendees.add(line.toString().trim());
+                    }
+                }
             );
-        final List<String> expectedAttendees =
-            Files.lines(attendanceList.toPath()).filter(line -> !line.isBlank()).map(String::trim).toList();
+        }
+        final NameMatcher matcher = matchers.apply(expectedAttendees);
+        final Set<String> present = new HashSet<String>();
+        final List<String> strangers = new ArrayList<String>();
+        for (final String attendee : actualAttendees) {
+            final NameMatcher.Match match = matcher.match(attendee);
+            if (match.matched()) {
+                present.add(expectedAttendees.get(match.participant()));
+            } else {
+                strangers.add(attendee);
+            }
+            if (match.ambiguous()) {
+                System.out.println(
+                    String.format(
+                        "%s is ambiguous: %s",
+                        attendee,
+                        match.candidates().stream().map(expectedAttendees::get).collect(Collectors.joining(", "))
+                    )
+                );
+            }
+        }
         final List<String> result =
             expectedAttendees.stream()
-            .map(name -> actualAttendees.contains(name) ? name : "//" + name)
+            .map(name -> present.contains(name) ? name : "//" + name)
             .collect(Collectors.toCollection(ArrayList::new));
-        if (!expectedAttendees.containsAll(actualAttendees)) {
+        if (!strangers.isEmpty()) {
             result.add("");
-            for (final String name : actualAttendees) {
-                if (!expectedAttendees.contains(name)) {
-                    result.add("//" + name);
-                }
+            for (final String name : strangers) {
+                result.add("//" + name);
             }
         }
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(attendanceList))) {
-            for (final String line : result) {
-                writer.write(line);
-                writer.newLine();
-            }
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.writeText(
+                attendanceList.toPath(),
+                writer -> {
+                    for (final String line : result) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            );
+            files.complete();
         }
     }
 
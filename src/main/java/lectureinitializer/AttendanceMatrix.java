@@ -0,0 +1,287 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+public class AttendanceMatrix {
+
+    public static final String FILE_NAME = "attendance.csv";
+
+    private static final String SEPARATOR = ";";
+
+    public static AttendanceMatrix fromExports(
+        final List<String> participants,
+        final List<Path> exports,
+        final int parallelism
+    ) throws IOException {
+        return AttendanceMatrix.fromExports(participants, exports, parallelism, NameMatcher.exact(participants));
+    }
+
+    public static AttendanceMatrix fromExports(
+        final List<String> participants,
+        final List<Path> exports,
+        final int parallelism,
+        final NameMatcher matcher
+    ) throws IOException {
+        final List<Future<Set<String>>> futures = new ArrayList<Future<Set<String>>>(exports.size());
+        try (
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, exports.size())))
+        ) {
+            for (final Path export : exports) {
+                futures.add(executor.submit(() -> AttendanceListUpdater.readAttendees(export)));
+            }
+        }
+        final List<BitSet> attendance = new ArrayList<BitSet>(exports.size());
+        final List<List<NameMatcher.Match>> fuzzyMatches = new ArrayList<List<NameMatcher.Match>>(exports.size());
+        final List<List<String>> unknownAttendees = new ArrayList<List<String>>(exports.size());
+        final List<String> failedExports = new ArrayList<String>();
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        for (int session = 0; session < exports.size(); session++) {
+            final Set<String> attendees;
+            try {
+                attendees = futures.get(session).get();
+            } catch (final ExecutionException e) {
+                failedExports.add(exports.get(session).getFileName().toString());
+                failures.add(e.getCause());
+                continue;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading attendance exports!");
+            }
+            final BitSet present = new BitSet(participants.size());
+            final List<NameMatcher.Match> fuzzy = new ArrayList<NameMatcher.Match>();
+            final List<String> unknown = new ArrayList<String>();
+            for (final String attendee : attendees) {
+                final NameMatcher.Match match = matcher.match(attendee);
+                if (match.matched()) {
+                    present.set(match.participant());
+                } else {
+                    unknown.add(attendee);
+                }
+                if (
+                    match.ambiguous()
+                    || match.matched() && !match.attendee().equals(participants.get(match.participant()))
+                ) {
+                    fuzzy.add(match);
+                }
+            }
+            attendance.add(present);
+            fuzzyMatches.add(fuzzy);
+            unknownAttendees.add(unknown);
+        }
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(
+                    String.format("Could not read attendance exports %s!", String.join(", ", failedExports))
+                );
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return new AttendanceMatrix(
+            participants,
+            exports.stream().map(AttendanceMatrix::toSessionName).toList(),
+            attendance,
+            fuzzyMatches,
+            unknownAttendees
+        );
+    }
+
+    public static void mergeAttendance(final File classFile, final File exportsDirectory) throws IOException {
+        AttendanceMatrix.mergeAttendance(classFile, exportsDirectory, NameMatcher::exact);
+    }
+
+    public static void mergeAttendance(
+        final File classFile,
+        final File exportsDirectory,
+        final double similarity
+    ) throws IOException {
+        AttendanceMatrix.mergeAttendance(
+            classFile,
+            exportsDirectory,
+            participants -> new NameMatcher(participants, similarity, NameMatcher.DEFAULT_MARGIN)
+        );
+    }
+
+    private static void mergeAttendance(
+        final File classFile,
+        final File exportsDirectory,
+        final Function<List<String>, NameMatcher> matchers
+    ) throws IOException {
+        final List<Path> exports;
+        try (Stream<Path> files = Files.list(exportsDirectory.toPath())) {
+            exports =
+                files
+                .filter(file -> file.getFileName().toString().endsWith(".csv") && Files.isRegularFile(file))
+                .sorted()
+                .toList();
+        }
+        final List<String> participants = List.of(ParticipantsAndDates.fromFile(classFile).participants());
+        final AttendanceMatrix matrix =
+            AttendanceMatrix.fromExports(
+                participants,
+                exports,
+                Runtime.getRuntime().availableProcessors(),
+                matchers.apply(participants)
+            );
+        final Path root = ParticipantsAndDates.toClassDirectory(classFile);
+        Files.createDirectories(root);
+        final Path target = root.resolve(AttendanceMatrix.FILE_NAME);
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.writeText(target, matrix::write);
+            files.complete();
+        }
+        int recorded = 0;
+        try (AttendanceJournal journal = AttendanceJournal.forClass(classFile)) {
+            for (int session = 0; session < matrix.sessions().size(); session++) {
+                if (
+                    journal.record(
+                        matrix.sessions().get(session),
+                        matrix.attendance.get(session),
+                        matrix.unknownAttendees(session)
+                    )
+                ) {
+                    recorded++;
+                }
+            }
+        }
+        matrix.writeReportToConsole();
+        System.out.println(
+            String.format(
+                "Merged %d sessions for %d participants into %s, %d new or changed sessions journaled.",
+                matrix.sessions().size(),
+                matrix.participants().size(),
+                target.getFileName(),
+                recorded
+            )
+        );
+    }
+
+    private static String toSessionName(final Path export) {
+        final String fileName = export.getFileName().toString();
+        return fileName.substring(0, fileName.length() - ".csv".length());
+    }
+
+    private final List<BitSet> attendance;
+
+    private final int[] counts;
+
+    private final List<List<NameMatcher.Match>> fuzzyMatches;
+
+    private final List<String> participants;
+
+    private final List<String> sessions;
+
+    private final List<List<String>> unknownAttendees;
+
+    private AttendanceMatrix(
+        final List<String> participants,
+        final List<String> sessions,
+        final List<BitSet> attendance,
+        final List<List<NameMatcher.Match>> fuzzyMatches,
+        final List<List<String>> unknownAttendees
+    ) {
+        this.participants = participants;
+        this.sessions = sessions;
+        this.attendance = attendance;
+        this.fuzzyMatches = fuzzyMatches;
+        this.unknownAttendees = unknownAttendees;
+        this.counts = new int[participants.size()];
+        for (final BitSet present : attendance) {
+            for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                this.counts[i]++;
+            }
+        }
+    }
+
+    public int count(final int participant) {
+        return this.counts[participant];
+    }
+
+    public List<NameMatcher.Match> fuzzyMatches(final int session) {
+        return this.fuzzyMatches.get(session);
+    }
+
+    public List<String> participants() {
+        return this.participants;
+    }
+
+    public boolean present(final int participant, final int session) {
+        return this.attendance.get(session).get(participant);
+    }
+
+    public double rate(final int participant) {
+        return this.sessions.isEmpty() ? 0 : this.counts[participant] / (double)this.sessions.size();
+    }
+
+    public List<String> sessions() {
+        return this.sessions;
+    }
+
+    public List<String> unknownAttendees(final int session) {
+        return this.unknownAttendees.get(session);
+    }
+
+    public void write(final BufferedWriter writer) throws IOException {
+        writer.write("Name");
+        for (final String session : this.sessions) {
+            writer.write(AttendanceMatrix.SEPARATOR);
+            writer.write(session);
+        }
+        writer.write(AttendanceMatrix.SEPARATOR);
+        writer.write("Rate\n");
+        for (int participant = 0; participant < this.participants.size(); participant++) {
+            writer.write(this.participants.get(participant));
+            for (int session = 0; session < this.sessions.size(); session++) {
+                writer.write(AttendanceMatrix.SEPARATOR);
+                if (this.present(participant, session)) {
+                    writer.write("x");
+                }
+            }
+            writer.write(AttendanceMatrix.SEPARATOR);
+            writer.write(String.format(Locale.ROOT, "%.1f%%", this.rate(participant) * 100));
+            writer.write("\n");
+        }
+    }
+
+    private void writeReportToConsole() {
+        for (int session = 0; session < this.sessions.size(); session++) {
+            final List<String> unknown = this.unknownAttendees.get(session);
+            System.out.println(
+                String.format(
+                    "%s: %d of %d participants present%s",
+                    this.sessions.get(session),
+                    this.attendance.get(session).cardinality(),
+                    this.participants.size(),
+                    unknown.isEmpty() ? "" : ", unknown attendees: " + String.join(", ", unknown)
+                )
+            );
+            for (final NameMatcher.Match match : this.fuzzyMatches.get(session)) {
+                System.out.println("  " + this.describe(match));
+            }
+        }
+    }
+
+    private String describe(final NameMatcher.Match match) {
+        if (match.ambiguous()) {
+            return String.format(
+                Locale.ROOT,
+                "%s is ambiguous (%.2f): %s",
+                match.attendee(),
+                match.score(),
+                match.candidates().stream().map(this.participants::get).collect(Collectors.joining(", "))
+            );
+        }
+        return String.format(
+            Locale.ROOT,
+            "%s matched as %s (%.2f)",
+            match.attendee(),
+            this.participants.get(match.participant()),
+            match.score()
+        );
+    }
+
+}
@@ -0,0 +1,244 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import clit.*;
+
+public class Batch {
+
+    public static record Job(int line, String command) {}
+
+    public static record Result(Job job, boolean successful, Duration duration, String output) {}
+
+    private static final Set<Flag> LONG_RUNNING = Set.of(Flag.WATCH);
+
+    private static final Set<Flag> OUTPUT_DIRECTORIES = Set.of(Flag.BANK, Flag.BUILD, Flag.GRADEBOOK, Flag.SCORES);
+
+    private static final Set<Flag> OUTPUT_FILES =
+        Set.of(Flag.ATTENDANCE, Flag.CLASSFILE, Flag.OUTPUT, Flag.PARTICIPANTS);
+
+    public static List<Result> execute(
+        final List<Job> jobs,
+        final Path workingDirectory,
+        final int parallelism
+    ) throws IOException {
+        OutputRouting.install();
+        final List<List<Job>> groups = Batch.groupByOutputDirectory(jobs, workingDirectory);
+        final List<Future<List<Result>>> futures = new ArrayList<Future<List<Result>>>(groups.size());
+        try (
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, groups.size())))
+        ) {
+            for (final List<Job> group : groups) {
+                futures.add(
+                    executor.submit(() -> {
+                        final List<Result> results = new ArrayList<Result>(group.size());
+                        for (final Job job : group) {
+                            results.add(Batch.execute(job, workingDirectory));
+                        }
+                        return results;
+                    })
+                );
+            }
+        }
+        final List<Result> results = new ArrayList<Result>(jobs.size());
+        for (final Future<List<Result>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (final ExecutionException e) {
+                throw new IOException("Batch job crashed!", e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while running batch jobs!");
+            }
+        }
+        results.sort(Comparator.comparingInt(result -> result.job().line()));
+        return results;
+    }
+
+    public static List<Job> parseManifest(final BufferedReader reader) throws IOException {
+        final List<Job> result = new ArrayList<Job>();
+        int lineNumber = 0;
+        String line = reader.readLine();
+        while (line != null) {
+            lineNumber++;
+            final String command = line.strip();
+            if (!command.isEmpty() && !command.startsWith("#")) {
+                result.add(new Job(lineNumber, command));
+            }
+            line = reader.readLine();
+        }
+        return result;
+    }
+
+    public static void run(final File manifest, final int parallelism) throws IOException {
+        final List<Job> jobs;
+        try (TextInput input = TextInput.open(manifest.toPath())) {
+            jobs = Batch.parseManifest(input.reader());
+        }
+        final long start = System.nanoTime();
+        final List<Result> results =
+            Batch.execute(jobs, manifest.getAbsoluteFile().toPath().getParent(), parallelism);
+        final Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+        Batch.writeReportToConsole(results, wallTime);
+        final List<String> failed =
+            results
+            .stream()
+            .filter(result -> !result.successful())
+            .map(result -> String.valueOf(result.job().line()))
+            .toList();
+        if (!failed.isEmpty()) {
+            throw new IOException(String.format("Batch jobs in lines %s failed!", String.join(", ", failed)));
+        }
+    }
+
+    static List<String> tokenize(final String command) throws IOException {
+        final List<String> result = new ArrayList<String>();
+        final StringBuilder token = new StringBuilder();
+        boolean inToken = false;
+        boolean quoted = false;
+        for (int i = 0; i < command.length(); i++) {
+            final char c = command.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+                inToken = true;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (inToken) {
+                    result.add(token.toString());
+                    token.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                token.append(c);
+                inToken = true;
+            }
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quote in batch job!");
+        }
+        if (inToken) {
+            result.add(token.toString());
+        }
+        return result;
+    }
+
+    private static Result execute(final Job job, final Path workingDirectory) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final long start = System.nanoTime();
+        boolean successful = false;
+        OutputRouting.route(output, output);
+        try {
+            final CLITamer<Flag> tamer = new CLITamer<Flag>(Flag.class);
+            Main.execute(tamer, Batch.parseJob(tamer, job), workingDirectory);
+            successful = true;
+        } catch (final Exception e) {
+            e.printStackTrace();
+        } finally {
+            OutputRouting.unroute();
+        }
+        return new Result(
+            job,
+            successful,
+            Duration.ofNanos(System.nanoTime() - start),
+            output.toString(System.out.charset())
+        );
+    }
+
+    private static List<List<Job>> groupByOutputDirectory(final List<Job> jobs, final Path workingDirectory) {
+        final List<List<Job>> groups = new ArrayList<List<Job>>();
+        final List<Set<Path>> directories = new ArrayList<Set<Path>>();
+        for (final Job job : jobs) {
+            final Set<Path> jobDirectories = Batch.outputDirectories(job, workingDirectory);
+            final List<Job> group = new ArrayList<Job>();
+            final Set<Path> groupDirectories = new LinkedHashSet<Path>(jobDirectories);
+            for (int i = groups.size() - 1; i >= 0; i--) {
+                if (Batch.overlaps(jobDirectories, directories.get(i))) {
+                    group.addAll(groups.remove(i));
+                    groupDirectories.addAll(directories.remove(i));
+                }
+            }
+            group.add(job);
+            group.sort(Comparator.comparingInt(Job::line));
+            groups.add(group);
+            directories.add(groupDirectories);
+        }
+        return groups;
+    }
+
+    private static Set<Path> outputDirectories(final Job job, final Path workingDirectory) {
+        final Parameters<Flag> options;
+        try {
+            options = Batch.parseJob(new CLITamer<Flag>(Flag.class), job);
+        } catch (final Exception e) {
+            return Set.of();
+        }
+        final Set<Path> result = new LinkedHashSet<Path>();
+        for (final Flag flag : options.keySet()) {
+            final Path path = workingDirectory.resolve(options.get(flag)).toAbsolutePath().normalize();
+            if (Batch.OUTPUT_DIRECTORIES.contains(flag)) {
+                result.add(path);
+            } else if (Batch.OUTPUT_FILES.contains(flag)) {
+                result.add(path.getParent());
+            }
+        }
+        return result;
+    }
+
+    private static boolean overlaps(final Set<Path> directories, final Set<Path> others) {
+        for (final Path directory : directories) {
+            for (final Path other : others) {
+                if (directory.startsWith(other) || other.startsWith(directory)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Parameters<Flag> parseJob(final CLITamer<Flag> tamer, final Job job) throws IOException {
+        final Parameters<Flag> options = tamer.parse(Batch.tokenize(job.command()).toArray(String[]::new));
+        if (!Main.isAllowed(options.keySet()) || options.containsKey(Flag.BATCH)) {
+            throw new IOException(String.format("Flag combination in line %d is not allowed in batches!", job.line()));
+        }
+        for (final Flag flag : Batch.LONG_RUNNING) {
+            if (options.containsKey(flag)) {
+                throw new IOException(
+                    String.format("--%s runs until it is stopped and cannot be run in a batch!", flag.longName())
+                );
+            }
+        }
+        return options;
+    }
+
+    private static void writeReportToConsole(final List<Result> results, final Duration wallTime) {
+        Duration jobTime = Duration.ZERO;
+        for (final Result result : results) {
+            jobTime = jobTime.plus(result.duration());
+            System.out.print(result.output());
+            System.out.println(
+                String.format(
+                    Locale.ROOT,
+                    "Line %d (%s): %s in %.2f s",
+                    result.job().line(),
+                    result.job().command(),
+                    result.successful() ? "succeeded" : "failed",
+                    result.duration().toMillis() / 1000.0
+                )
+            );
+        }
+        System.out.println(
+            String.format(
+                Locale.ROOT,
+                "Ran %d jobs in %.2f s (%.2f s job time), %d failed.",
+                results.size(),
+                wallTime.toMillis() / 1000.0,
+                jobTime.toMillis() / 1000.0,
+                results.stream().filter(result -> !result.successful()).count()
+            )
+        );
+    }
+
+}
@@ -4,51 +4,102 @@ import java.io.*;
 import java.nio.file.*;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 import ocp.*;
 
 public class CalendarExport extends LinkedHashMap<Lecture, List<OCEntry>>{
 
+    private static final int MIN_CHUNK_SIZE = 512;
+
     private static final long serialVersionUID = 1L;
 
     public static void createClassFiles(final File participantsList, final File calendarExport) throws IOException {
         final Map<Lecture, List<String>> participantsByEvent = new ParticipantsList(participantsList);
         final CalendarExport calendarEntriesByEvent = CalendarExport.parseCalendarExport(calendarExport);
-        for (final Map.Entry<Lecture, List<String>> participantsEntries : participantsByEvent.entrySet()) {
-            final Lecture lecture = participantsEntries.getKey();
-            if (calendarEntriesByEvent.containsKey(lecture)) {
-                final List<OCEntry> calendarEntries = calendarEntriesByEvent.get(lecture);
-                final File classFile =
-                    CalendarExport.computeClassFile(
-                        lecture,
-                        calendarEntries,
-                        participantsList.toPath().toAbsolutePath().getParent()
-                    );
-                if (classFile.exists()) {
-                    continue;
-                }
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(classFile))) {
-                    writer.write(String.valueOf(participantsEntries.getValue().size()));
-                    writer.write("\n");
-                    for (final String participant : participantsEntries.getValue()) {
-                        writer.write(participant);
-                        writer.write("\n");
-                    }
-                    writer.write(String.valueOf(calendarEntries.size()));
-                    writer.write("\n");
-                    for (final OCEntry calendarEntry : calendarEntries) {
-                        writer.write(CalendarExport.toClassFileLine(calendarEntry));
-                        writer.write("\n");
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            for (final Map.Entry<Lecture, List<String>> participantsEntries : participantsByEvent.entrySet()) {
+                final Lecture lecture = participantsEntries.getKey();
+                if (calendarEntriesByEvent.containsKey(lecture)) {
+                    final List<OCEntry> calendarEntries = calendarEntriesByEvent.get(lecture);
+                    final File classFile =
+                        CalendarExport.computeClassFile(
+                            lecture,
+                            calendarEntries,
+                            participantsList.toPath().toAbsolutePath().getParent()
+                        );
+                    if (classFile.exists()) {
+                        continue;
                     }
+                    files.writeText(
+                        classFile.toPath(),
+                        writer -> {
+                            writer.write(String.valueOf(participantsEntries.getValue().size()));
+                            writer.write("\n");
+                            for (final String participant : participantsEntries.getValue()) {
+                                writer.write(participant);
+                                writer.write("\n");
+                            }
+                            writer.write(String.valueOf(calendarEntries.size()));
+                            writer.write("\n");
+                            for (final OCEntry calendarEntry : calendarEntries) {
+                                writer.write(CalendarExport.toClassFileLine(calendarEntry));
+                                writer.write("\n");
+                            }
+                        }
+                    );
                 }
             }
+            files.complete();
         }
     }
 
     public static CalendarExport parseCalendarExport(final File calendarExport) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(calendarExport))) {
-            return new CalendarExport(OCEntry.parseAndGroup(reader, LectureExtractor.INSTANCE));
+        return CalendarExport.parseCalendarExport(calendarExport, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static CalendarExport parseCalendarExport(
+        final File calendarExport,
+        final int parallelism
+    ) throws IOException {
+        final List<String> records;
+        try (TextInput input = TextInput.open(calendarExport.toPath())) {
+            records = CalendarExport.readRecords(input.reader());
+        }
+        final int numOfChunks =
+            Math.max(1, Math.min(parallelism * 4, records.size() / CalendarExport.MIN_CHUNK_SIZE));
+        final int chunkSize = (records.size() + numOfChunks - 1) / numOfChunks;
+        final Function<OCEntry, Lecture> extractor = LectureExtractor.memoizing();
+        final List<Future<List<Map.Entry<Lecture, OCEntry>>>> chunks =
+            new ArrayList<Future<List<Map.Entry<Lecture, OCEntry>>>>(numOfChunks);
+        try (
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, numOfChunks)))
+        ) {
+            for (int start = 0; start < records.size(); start += chunkSize) {
+                final List<String> chunk = records.subList(start, Math.min(start + chunkSize, records.size()));
+                chunks.add(executor.submit(() -> CalendarExport.parseRecords(chunk, extractor)));
+            }
+        }
+        final Map<Lecture, List<OCEntry>> result = new LinkedHashMap<Lecture, List<OCEntry>>();
+        for (final Future<List<Map.Entry<Lecture, OCEntry>>> chunk : chunks) {
+            try {
+                for (final Map.Entry<Lecture, OCEntry> entry : chunk.get()) {
+                    result
+                    .computeIfAbsent(entry.getKey(), lecture -> new LinkedList<OCEntry>())
+                    .add(entry.getValue());
+                }
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException)e.getCause();
+                }
+                throw new IOException(e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while parsing calendar export!");
+            }
         }
+        return new CalendarExport(result);
     }
 
     private static File computeClassFile(
@@ -61,6 +112,16 @@ public class CalendarExport extends LinkedHashMap<Lecture, List<OCEntry>>{
         return lecturesPath.resolve(folder).resolve("classes").resolve(classFileName).toFile();
     }
 
+    private static boolean endQuoted(final String line) {
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"' && (i == 0 || line.charAt(i - 1) != '\\')) {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
     private static String folderForLecture(final String lecture) {
         switch (lecture) {
         case "Advanced Software Engineering":
@@ -94,16 +155,49 @@ public class CalendarExport extends LinkedHashMap<Lecture, List<OCEntry>>{
         }
     }
 
+    private static List<Map.Entry<Lecture, OCEntry>> parseRecords(
+        final List<String> records,
+        final Function<OCEntry, Lecture> extractor
+    ) {
+        final List<Map.Entry<Lecture, OCEntry>> result = new ArrayList<Map.Entry<Lecture, OCEntry>>(records.size());
+        for (final String record : records) {
+            final OCEntry entry = OCEntry.parseEntry(record);
+            result.add(Map.entry(extractor.apply(entry), entry));
+        }
+        return result;
+    }
+
+    private static List<String> readRecords(final BufferedReader reader) throws IOException {
+        final List<String> result = new ArrayList<String>();
+        reader.readLine();
+        String line = reader.readLine();
+        while (line != null) {
+            boolean quoted = CalendarExport.endQuoted(line);
+            String next = reader.readLine();
+            if (quoted && next != null) {
+                final StringBuilder record = new StringBuilder(line);
+                while (quoted && next != null) {
+                    record.append('\n');
+                    record.append(next);
+                    quoted ^= CalendarExport.endQuoted(next);
+                    next = reader.readLine();
+                }
+                line = record.toString();
+            }
+            result.add(line);
+            line = next;
+        }
+        return result;
+    }
+
     private static String toClassFileLine(final OCEntry calendarEntry) {
         final LocalDateTime start = calendarEntry.start();
-        return String.format(
-            "%02d%02d%02d%02d%02d%d",
-            start.getYear() % 100,
-            start.getMonthValue(),
-            start.getDayOfMonth(),
-            start.getHour(),
-            start.getMinute(),
-            Duration.between(start, calendarEntry.end()).toMinutes() / 45
+        return SlotTimeline.encode(
+            SlotTimeline.toEpochMinute(start),
+            SlotTimeline.slotsWithin(
+                (int)Duration.between(start, calendarEntry.end()).toMinutes(),
+                SlotTimeline.DEFAULT_SLOT_LENGTH
+            )
         );
     }
 
@@ -0,0 +1,213 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+import clit.*;
+
+public class Daemon implements Closeable {
+
+    private static class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream channel;
+
+        private final byte type;
+
+        private FrameOutputStream(final DataOutputStream channel, final byte type) {
+            this.channel = channel;
+            this.type = type;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (this.channel) {
+                this.channel.flush();
+            }
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            synchronized (this.channel) {
+                this.channel.writeByte(this.type);
+                this.channel.writeInt(length);
+                this.channel.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.write(new byte[] {(byte)b}, 0, 1);
+        }
+
+    }
+
+    private static final byte ERR = 2;
+
+    private static final byte EXIT = 0;
+
+    private static final Set<Flag> LONG_RUNNING = Set.of(Flag.WATCH);
+
+    private static final byte OUT = 1;
+
+    public static int forward(
+        final Path socket,
+        final Path workingDirectory,
+        final List<String> args,
+        final OutputStream out,
+        final OutputStream err
+    ) throws IOException {
+        try (
+            SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+            DataOutputStream request =
+                new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DataInputStream response = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)))
+        ) {
+            request.writeUTF(workingDirectory.toAbsolutePath().toString());
+            request.writeInt(args.size());
+            for (final String arg : args) {
+                request.writeUTF(arg);
+            }
+            request.flush();
+            byte[] buffer = new byte[8192];
+            while (true) {
+                final byte type = response.readByte();
+                if (type == Daemon.EXIT) {
+                    out.flush();
+                    err.flush();
+                    return response.readInt();
+                }
+                final int length = response.readInt();
+                if (length > buffer.length) {
+                    buffer = new byte[length];
+                }
+                response.readFully(buffer, 0, length);
+                (type == Daemon.ERR ? err : out).write(buffer, 0, length);
+            }
+        }
+    }
+
+    public static Daemon open(final Path socket) throws IOException {
+        Files.deleteIfExists(socket);
+        final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            Daemon.bindPrivately(server, socket.toAbsolutePath());
+        } catch (final IOException | RuntimeException e) {
+            server.close();
+            throw e;
+        }
+        OutputRouting.install();
+        return new Daemon(socket, server);
+    }
+
+    private static void bindPrivately(final ServerSocketChannel server, final Path socket) throws IOException {
+        if (!socket.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            return;
+        }
+        final Path directory =
+            Files.createTempDirectory(
+                socket.getParent(),
+                ".li",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"))
+            );
+        try {
+            final Path staged = directory.resolve("s");
+            server.bind(UnixDomainSocketAddress.of(staged));
+            Files.setPosixFilePermissions(staged, PosixFilePermissions.fromString("rw-------"));
+            Files.move(staged, socket, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(directory.resolve("s"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void handle(final SocketChannel channel) {
+        try (
+            channel;
+            DataInputStream request = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            DataOutputStream response =
+                new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))
+        ) {
+            final Path workingDirectory = Path.of(request.readUTF());
+            final String[] args = new String[request.readInt()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = request.readUTF();
+            }
+            final FrameOutputStream out = new FrameOutputStream(response, Daemon.OUT);
+            final FrameOutputStream err = new FrameOutputStream(response, Daemon.ERR);
+            OutputRouting.route(out, err);
+            int exitCode = 0;
+            try {
+                Daemon.run(args, workingDirectory);
+            } catch (final Exception e) {
+                e.printStackTrace();
+                exitCode = 1;
+            } finally {
+                OutputRouting.unroute();
+            }
+            synchronized (response) {
+                response.writeByte(Daemon.EXIT);
+                response.writeInt(exitCode);
+                response.flush();
+            }
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void run(final String[] args, final Path workingDirectory) throws Exception {
+        final CLITamer<Flag> tamer = new CLITamer<Flag>(Flag.class);
+        if (args.length < 1) {
+            Main.printHelp(tamer);
+            return;
+        }
+        final Parameters<Flag> options = tamer.parse(args);
+        if (options.containsKey(Flag.DAEMON) || options.containsKey(Flag.SOCKET)) {
+            Main.printHelp(tamer);
+            return;
+        }
+        for (final Flag flag : Daemon.LONG_RUNNING) {
+            if (options.containsKey(flag)) {
+                throw new IOException(
+                    String.format("--%s runs until it is stopped and cannot be served by the daemon!", flag.longName())
+                );
+            }
+        }
+        Main.execute(tamer, options, workingDirectory);
+    }
+
+    private final ServerSocketChannel server;
+
+    private final Path socket;
+
+    private Daemon(final Path socket, final ServerSocketChannel server) {
+        this.socket = socket;
+        this.server = server;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.server.close();
+        Files.deleteIfExists(this.socket);
+    }
+
+    public void serve() throws IOException {
+        while (this.server.isOpen()) {
+            final SocketChannel channel;
+            try {
+                channel = this.server.accept();
+            } catch (final ClosedChannelException e) {
+                return;
+            }
+            Thread.ofVirtual().name("lectureinitializer-request").start(() -> Daemon.handle(channel));
+        }
+    }
+
+}
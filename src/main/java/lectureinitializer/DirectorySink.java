@@ -0,0 +1,96 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+public class DirectorySink implements OutputSink {
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private final ConcurrentMap<Path, Path> staged;
+
+    public DirectorySink() {
+        this.staged = new ConcurrentSkipListMap<Path, Path>();
+    }
+
+    @Override
+    public void close() throws IOException {
+        final List<IOException> failures = new ArrayList<IOException>();
+        for (final Path temporary : this.staged.values()) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (final IOException e) {
+                failures.add(e);
+            }
+        }
+        this.staged.clear();
+        if (!failures.isEmpty()) {
+            final IOException exception = new IOException("Could not discard staged files!");
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    @Override
+    public void commit() throws IOException {
+        final List<String> failedFiles = new ArrayList<String>();
+        final List<IOException> failures = new ArrayList<IOException>();
+        for (final Map.Entry<Path, Path> entry : this.staged.entrySet()) {
+            try {
+                AtomicFileWriter.move(entry.getValue(), entry.getKey());
+            } catch (final IOException e) {
+                Files.deleteIfExists(entry.getValue());
+                failedFiles.add(entry.getKey().toString());
+                failures.add(e);
+            }
+        }
+        this.staged.clear();
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(String.format("Could not commit generated files %s!", String.join(", ", failedFiles)));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    public Set<Path> staged() {
+        return Collections.unmodifiableSet(this.staged.keySet());
+    }
+
+    @Override
+    public void write(
+        final Path target,
+        final boolean executable,
+        final AtomicFileWriter.BinaryContent content
+    ) throws IOException {
+        final Path normalized = target.toAbsolutePath().normalize();
+        Files.createDirectories(normalized.getParent());
+        final String name = normalized.getFileName().toString();
+        final Path temporary =
+            normalized.resolveSibling(String.format(".%s.%d.tmp", name, DirectorySink.COUNTER.incrementAndGet()));
+        try {
+            try (
+                OutputStream stream =
+                    new BufferedOutputStream(
+                        Files.newOutputStream(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+                    )
+            ) {
+                content.writeTo(stream);
+            }
+            if (executable) {
+                temporary.toFile().setExecutable(true);
+            }
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        final Path previous = this.staged.put(normalized, temporary);
+        if (previous != null) {
+            Files.deleteIfExists(previous);
+        }
+    }
+
+}
@@ -4,19 +4,61 @@ import clit.*;
 
 public enum Flag implements Parameter {
 
+    ABSENCES("u", "absences", "Only list participants who missed more than the given number of sessions."),
+
     ASSIGNMENT("a", "assignment", "File containing the assignment of topics to participants."),
 
     ATTENDANCE("t", "attendance", "File containing the attendance list for the lecture."),
 
+    BANK("f", "bank", "Directory tree whose quiz files are collected into a memory-mapped question bank."),
+
+    BATCH("m", "batch", "Manifest with one allowed flag combination per line to run concurrently in one JVM."),
+
+    BUILD("b", "build", "Directory containing LaTeX files to compile in parallel."),
+
     CLASSFILE("c", "classfile", "File containing the participants and dates of the lecture."),
 
+    COMPILER("l", "latex", "Command for compiling LaTeX files (pdflatex by default)."),
+
+    DAEMON("d", "daemon", "Unix domain socket on which to serve commands from a resident JVM."),
+
     EXPORT("e", "export", "CSV-export of the outlook calendar or teams participants."),
 
+    GRADEBOOK("gb", "gradebook", "Directory tree whose protocols are graded into one gradebook.csv per class."),
+
+    INCREMENTAL("i", "incremental", "Only rewrite generated files whose content changed since the last run."),
+
+    JOURNAL("j", "journal", "Query the attendance journal of the class (attended sessions and coverage)."),
+
+    MATRIX("x", "matrix", "Write the quiz answers of all speakers into one matrix CSV instead of one file each."),
+
     OUTPUT("o", "output", "File for output."),
 
     PARTICIPANTS("p", "participants", "File containing the participants of lectures."),
 
-    QUIZ("q", "quiz", "File containing quiz questions.");
+    PREFERENCES("r", "preferences", "File containing the topic preferences to assign topics from."),
+
+    QUESTIONS("h", "questions", "Number of random questions to draw from the quiz bank into a mixed quiz."),
+
+    QUIZ("q", "quiz", "File containing quiz questions."),
+
+    SCORES("qs", "scores", "Directory with quizSolutions.csv and filled-in quiz answers to grade into a score table."),
+
+    SEED("k", "seed", "Seed for generating reproducible quiz variants (random by default)."),
+
+    SESSIONS("n", "sessions", "Directory containing one Teams attendance export per session."),
+
+    SIMILARITY("y", "similarity", "Minimum similarity (0 to 1) for fuzzy matching of attendee names (exact by default)."),
+
+    SOCKET("s", "socket", "Unix domain socket of a running daemon to forward the command to."),
+
+    SPREAD("g", "spread", "Schedule at most one talk per topic (talk group) and day when assigning from preferences."),
+
+    TOPICS("z", "topics", "Semicolon-separated topics of the quiz bank to draw questions from (all by default)."),
+
+    VARIANTS("v", "variants", "Number of shuffled quiz variants to generate with a separate answer key."),
+
+    WATCH("w", "watch", "Lecture directory to watch for changed inputs whose dependent artifacts are regenerated.");
 
     private final String description;
 
@@ -0,0 +1,306 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class GeneratedFiles implements Closeable {
+
+    public static enum Status {
+
+        CREATED, KEPT, SKIPPED, UPDATED;
+
+    }
+
+    public static final String MANIFEST = ".lectureinitializer.manifest";
+
+    private static final String GENERATOR_INPUT = "<generator>";
+
+    private static final String INPUT = "input";
+
+    private static final String OPTIONS_INPUT = "<options>";
+
+    private static final String OUTPUT = "output";
+
+    private static final String SEPARATOR = "\t";
+
+    public static GeneratedFiles direct() {
+        return GeneratedFiles.direct(new DirectorySink());
+    }
+
+    public static GeneratedFiles direct(final OutputSink sink) {
+        return new GeneratedFiles(null, null, sink);
+    }
+
+    public static GeneratedFiles incremental(final Path directory, final String generator) throws IOException {
+        final GeneratedFiles result =
+            new GeneratedFiles(directory.toAbsolutePath().normalize(), generator, new DirectorySink());
+        result.loadManifest();
+        return result;
+    }
+
+    private static String fingerprint(final Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return "-";
+        }
+        return GeneratedFiles.hash(Files.readAllBytes(file));
+    }
+
+    private static String generatorFingerprint() {
+        final CodeSource codeSource = GeneratedFiles.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return "-";
+        }
+        try {
+            final Path location = Path.of(codeSource.getLocation().toURI());
+            if (!Files.isRegularFile(location)) {
+                return "-";
+            }
+            return Files.size(location) + ":" + Files.getLastModifiedTime(location).toMillis();
+        } catch (final IOException | URISyntaxException e) {
+            return "-";
+        }
+    }
+
+    private static String hash(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Path directory;
+
+    private final String generator;
+
+    private final Map<String, String> inputs;
+
+    private final Map<String, String> previousInputs;
+
+    private final Map<String, String> outputs;
+
+    private final Map<String, String> previousOutputs;
+
+    private final OutputSink sink;
+
+    private final Map<String, Status> statuses;
+
+    private final List<String> foreignLines;
+
+    private boolean complete;
+
+    private GeneratedFiles(final Path directory, final String generator, final OutputSink sink) {
+        this.directory = directory;
+        this.generator = generator;
+        this.sink = sink;
+        this.inputs = new TreeMap<String, String>();
+        this.previousInputs = new TreeMap<String, String>();
+        this.outputs = new ConcurrentHashMap<String, String>();
+        this.previousOutputs = new TreeMap<String, String>();
+        this.statuses = new ConcurrentSkipListMap<String, Status>();
+        this.foreignLines = new ArrayList<String>();
+        this.complete = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.complete && this.isIncremental()) {
+                this.saveManifest();
+            }
+            if (this.complete) {
+                this.sink.commit();
+            }
+        } finally {
+            this.sink.close();
+        }
+        if (this.complete && this.isIncremental()) {
+            this.report();
+        }
+    }
+
+    public void complete() {
+        this.complete = true;
+    }
+
+    public boolean isIncremental() {
+        return this.directory != null;
+    }
+
+    public Map<String, Status> statuses() {
+        return Collections.unmodifiableMap(this.statuses);
+    }
+
+    public boolean upToDate(final Collection<Path> inputFiles) throws IOException {
+        return this.upToDate(inputFiles, "-");
+    }
+
+    public boolean upToDate(final Collection<Path> inputFiles, final String options) throws IOException {
+        if (!this.isIncremental()) {
+            return false;
+        }
+        this.inputs.put(GeneratedFiles.GENERATOR_INPUT, GeneratedFiles.generatorFingerprint());
+        this.inputs.put(GeneratedFiles.OPTIONS_INPUT, options);
+        for (final Path input : inputFiles) {
+            this.inputs.put(input.toAbsolutePath().normalize().toString(), GeneratedFiles.fingerprint(input));
+        }
+        if (this.previousOutputs.isEmpty() || !this.inputs.equals(this.previousInputs)) {
+            return false;
+        }
+        for (final Map.Entry<String, String> output : this.previousOutputs.entrySet()) {
+            if (!output.getValue().equals(GeneratedFiles.fingerprint(this.directory.resolve(output.getKey())))) {
+                return false;
+            }
+        }
+        for (final Map.Entry<String, String> output : this.previousOutputs.entrySet()) {
+            this.outputs.put(output.getKey(), output.getValue());
+            this.statuses.put(output.getKey(), Status.SKIPPED);
+        }
+        return true;
+    }
+
+    public void write(final Path target, final AtomicFileWriter.BinaryContent content) throws IOException {
+        this.write(target, false, content);
+    }
+
+    public void writeExecutable(final Path target, final AtomicFileWriter.Content content) throws IOException {
+        this.writeText(target, true, content);
+    }
+
+    public void writeText(final Path target, final AtomicFileWriter.Content content) throws IOException {
+        this.writeText(target, false, content);
+    }
+
+    private void loadManifest() throws IOException {
+        final Path manifest = this.directory.resolve(GeneratedFiles.MANIFEST);
+        if (!Files.isRegularFile(manifest)) {
+            return;
+        }
+        try (TextInput input = TextInput.open(manifest)) {
+            input.forEachLine(
+                (line, number) -> {
+                    final String[] fields = line.toString().split(GeneratedFiles.SEPARATOR);
+                    if (fields.length != 4) {
+                        throw new IOException(String.format("Malformed manifest line in %s: %s", manifest, line));
+                    }
+                    if (!this.generator.equals(fields[1])) {
+                        this.foreignLines.add(line.toString());
+                    } else if (GeneratedFiles.INPUT.equals(fields[0])) {
+                        this.previousInputs.put(fields[2], fields[3]);
+                    } else {
+                        this.previousOutputs.put(fields[2], fields[3]);
+                    }
+                }
+            );
+        }
+    }
+
+    private void report() {
+        final Map<Status, Integer> counts = new EnumMap<Status, Integer>(Status.class);
+        for (final Map.Entry<String, Status> entry : this.statuses.entrySet()) {
+            counts.merge(entry.getValue(), 1, Integer::sum);
+            System.out.println(String.format("%s %s", entry.getValue().name().toLowerCase(), entry.getKey()));
+        }
+        System.out.println(
+            String.format(
+                "%d created, %d updated, %d skipped, %d kept because they were changed by hand.",
+                counts.getOrDefault(Status.CREATED, 0),
+                counts.getOrDefault(Status.UPDATED, 0),
+                counts.getOrDefault(Status.SKIPPED, 0),
+                counts.getOrDefault(Status.KEPT, 0)
+            )
+        );
+    }
+
+    private void saveManifest() throws IOException {
+        this.sink.write(
+            this.directory.resolve(GeneratedFiles.MANIFEST),
+            false,
+            stream -> {
+                final BufferedWriter writer =
+                    new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+                for (final String line : this.foreignLines) {
+                    writer.write(line);
+                    writer.write("\n");
+                }
+                this.writeEntries(writer, GeneratedFiles.INPUT, this.inputs);
+                this.writeEntries(writer, GeneratedFiles.OUTPUT, new TreeMap<String, String>(this.outputs));
+                writer.flush();
+            }
+        );
+    }
+
+    private String toKey(final Path target) {
+        return this.directory.relativize(target.toAbsolutePath().normalize()).toString();
+    }
+
+    private void write(
+        final Path target,
+        final boolean executable,
+        final AtomicFileWriter.BinaryContent content
+    ) throws IOException {
+        if (!this.isIncremental()) {
+            this.sink.write(target, executable, content);
+            return;
+        }
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        content.writeTo(buffer);
+        final byte[] bytes = buffer.toByteArray();
+        final String hash = GeneratedFiles.hash(bytes);
+        final String key = this.toKey(target);
+        final String previous = this.previousOutputs.get(key);
+        final boolean exists = Files.isRegularFile(target);
+        if (exists) {
+            final String current = GeneratedFiles.fingerprint(target);
+            if (hash.equals(current)) {
+                this.outputs.put(key, hash);
+                this.statuses.put(key, Status.SKIPPED);
+                return;
+            }
+            if (previous != null && !current.equals(previous)) {
+                this.outputs.put(key, previous);
+                this.statuses.put(key, Status.KEPT);
+                return;
+            }
+        }
+        this.outputs.put(key, hash);
+        this.sink.write(target, executable, stream -> stream.write(bytes));
+        this.statuses.put(key, exists ? Status.UPDATED : Status.CREATED);
+    }
+
+    private void writeEntries(
+        final BufferedWriter writer,
+        final String kind,
+        final Map<String, String> entries
+    ) throws IOException {
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            writer.write(
+                String.join(GeneratedFiles.SEPARATOR, kind, this.generator, entry.getKey(), entry.getValue())
+            );
+            writer.write("\n");
+        }
+    }
+
+    private void writeText(
+        final Path target,
+        final boolean executable,
+        final AtomicFileWriter.Content content
+    ) throws IOException {
+        this.write(
+            target,
+            executable,
+            stream -> {
+                final BufferedWriter writer =
+                    new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+                content.writeTo(writer);
+                writer.flush();
+            }
+        );
+    }
+
+}
@@ -0,0 +1,169 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+public class LaTeXBuild {
+
+    public static record Result(Path file, int passes, int exitCode, Duration duration) {
+
+        public boolean successful() {
+            return this.exitCode() == 0;
+        }
+
+    }
+
+    public static final List<String> DEFAULT_COMPILER =
+        List.of("pdflatex", "-interaction=nonstopmode", "-halt-on-error");
+
+    private static final List<String> AUXILIARY_EXTENSIONS = List.of(".aux", ".toc");
+
+    private static final int MAX_PASSES = 3;
+
+    public static void build(final File directory, final List<String> compiler) throws IOException {
+        final List<Path> texFiles;
+        try (Stream<Path> files = Files.list(directory.toPath())) {
+            texFiles =
+                files
+                .filter(file -> file.getFileName().toString().endsWith(".tex") && Files.isRegularFile(file))
+                .sorted()
+                .toList();
+        }
+        final long start = System.nanoTime();
+        final List<Result> results =
+            LaTeXBuild.build(texFiles, compiler, Runtime.getRuntime().availableProcessors());
+        final Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+        LaTeXBuild.writeReportToConsole(results, wallTime);
+        final List<String> failed =
+            results
+            .stream()
+            .filter(result -> !result.successful())
+            .map(result -> result.file().getFileName().toString())
+            .toList();
+        if (!failed.isEmpty()) {
+            throw new IOException(String.format("LaTeX build failed for %s!", String.join(", ", failed)));
+        }
+    }
+
+    public static List<Result> build(
+        final List<Path> texFiles,
+        final List<String> compiler,
+        final int parallelism
+    ) throws IOException {
+        final List<Future<Result>> futures = new ArrayList<Future<Result>>(texFiles.size());
+        try (
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, texFiles.size())))
+        ) {
+            for (final Path texFile : texFiles) {
+                futures.add(executor.submit(() -> LaTeXBuild.compile(texFile, compiler)));
+            }
+        }
+        final List<Result> results = new ArrayList<Result>(texFiles.size());
+        final List<String> failedFiles = new ArrayList<String>();
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        for (int i = 0; i < texFiles.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (final ExecutionException e) {
+                failedFiles.add(texFiles.get(i).getFileName().toString());
+                failures.add(e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while building LaTeX files!");
+            }
+        }
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(
+                    String.format("Could not run LaTeX compiler for %s!", String.join(", ", failedFiles))
+                );
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return results;
+    }
+
+    static Result compile(final Path texFile, final List<String> compiler) throws IOException, InterruptedException {
+        final Path absolute = texFile.toAbsolutePath();
+        final String fileName = absolute.getFileName().toString();
+        final String baseName = fileName.substring(0, fileName.length() - ".tex".length());
+        final List<Path> auxiliaryFiles =
+            LaTeXBuild.AUXILIARY_EXTENSIONS
+            .stream()
+            .map(extension -> absolute.resolveSibling(baseName + extension))
+            .toList();
+        final List<String> command = new ArrayList<String>(compiler);
+        command.add(fileName);
+        final long start = System.nanoTime();
+        int passes = 0;
+        int exitCode;
+        boolean changed;
+        do {
+            final List<byte[]> before = LaTeXBuild.snapshot(auxiliaryFiles);
+            exitCode = LaTeXBuild.run(command, absolute.getParent());
+            passes++;
+            changed = !LaTeXBuild.sameContent(before, LaTeXBuild.snapshot(auxiliaryFiles));
+        } while (exitCode == 0 && changed && passes < LaTeXBuild.MAX_PASSES);
+        return new Result(texFile, passes, exitCode, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static int run(final List<String> command, final Path directory) throws IOException, InterruptedException {
+        final Process process =
+            new ProcessBuilder(command)
+            .directory(directory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        process.getOutputStream().close();
+        return process.waitFor();
+    }
+
+    private static boolean sameContent(final List<byte[]> before, final List<byte[]> after) {
+        for (int i = 0; i < before.size(); i++) {
+            if (!Arrays.equals(before.get(i), after.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<byte[]> snapshot(final List<Path> files) throws IOException {
+        final List<byte[]> result = new ArrayList<byte[]>(files.size());
+        for (final Path file : files) {
+            result.add(Files.isRegularFile(file) ? Files.readAllBytes(file) : null);
+        }
+        return result;
+    }
+
+    private static void writeReportToConsole(final List<Result> results, final Duration wallTime) {
+        Duration compilerTime = Duration.ZERO;
+        for (final Result result : results) {
+            compilerTime = compilerTime.plus(result.duration());
+            System.out.println(
+                String.format(
+                    Locale.ROOT,
+                    "%s: %d %s in %.2f s%s",
+                    result.file().getFileName(),
+                    result.passes(),
+                    result.passes() == 1 ? "pass" : "passes",
+                    result.duration().toMillis() / 1000.0,
+                    result.successful() ? "" : String.format(" (failed with exit code %d)", result.exitCode())
+                )
+            );
+        }
+        System.out.println(
+            String.format(
+                Locale.ROOT,
+                "Built %d files in %.2f s (%.2f s compiler time).",
+                results.size(),
+                wallTime.toMillis() / 1000.0,
+                compilerTime.toMillis() / 1000.0
+            )
+        );
+    }
+
+}
@@ -0,0 +1,76 @@
+package lectureinitializer;
+
+public class LaTeXEscaper {
+
+    private static final String CLOSING_QUOTE = "''";
+
+    public static String escape(final String text) {
+        final LaTeXEscaper escaper = new LaTeXEscaper();
+        StringBuilder result = null;
+        int plain = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final String replacement = escaper.replacement(text.charAt(i));
+            if (replacement != null) {
+                if (result == null) {
+                    result = new StringBuilder(text.length() + 16);
+                }
+                result.append(text, plain, i);
+                result.append(replacement);
+                plain = i + 1;
+            }
+        }
+        if (result == null) {
+            return text;
+        }
+        result.append(text, plain, text.length());
+        return result.toString();
+    }
+
+    private boolean afterCharacter;
+
+    private boolean started;
+
+    private LaTeXEscaper() {
+        this.afterCharacter = false;
+        this.started = false;
+    }
+
+    private String replacement(final char c) {
+        final boolean first = !this.started;
+        this.started = true;
+        if (c == '"') {
+            if (this.afterCharacter) {
+                this.afterCharacter = false;
+                return LaTeXEscaper.CLOSING_QUOTE;
+            }
+            this.afterCharacter = true;
+            return first ? LaTeXEscaper.CLOSING_QUOTE : null;
+        }
+        this.afterCharacter = true;
+        switch (c) {
+        case '\\':
+            return "\\textbackslash{}";
+        case '&':
+            return "\\&";
+        case '$':
+            return "\\$";
+        case '%':
+            return "\\%";
+        case '{':
+            return "\\{";
+        case '}':
+            return "\\}";
+        case '_':
+            return "\\_";
+        case '#':
+            return "\\#";
+        case '~':
+            return "\\textasciitilde{}";
+        case '^':
+            return "\\textasciicircum{}";
+        default:
+            return null;
+        }
+    }
+
+}
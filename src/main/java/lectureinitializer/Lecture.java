@@ -1,16 +1,156 @@
 package lectureinitializer;
 
 import java.util.*;
-import java.util.stream.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
-public record Lecture(String title, Set<String> groups) {
+public final class Lecture {
 
-    public static Lecture parse(String line) {
-        String[] parts = line.split("\\|");
-        return new Lecture(
-            parts[0].trim(),
-            Arrays.stream(parts[1].split(",")).map(String::trim).collect(Collectors.toSet())
+    private static final class Interner {
+
+        private final StringDictionary groups;
+
+        private final ConcurrentMap<Key, Lecture> lectures;
+
+        private final StringDictionary titles;
+
+        private Interner() {
+            this.groups = new StringDictionary();
+            this.lectures = new ConcurrentHashMap<Key, Lecture>();
+            this.titles = new StringDictionary();
+        }
+
+        private boolean isFull() {
+            return this.lectures.size() >= Lecture.MAX_INTERNED
+                || this.titles.size() >= Lecture.MAX_INTERNED
+                || this.groups.size() >= Lecture.MAX_INTERNED;
+        }
+
+    }
+
+    private static record Key(int title, BitSet groups) {}
+
+    private static final AtomicReference<Interner> INTERNER = new AtomicReference<Interner>(new Interner());
+
+    private static final int MAX_INTERNED = 1 << 12;
+
+    public static Lecture of(final String title, final Collection<String> groups) {
+        final Interner interner = Lecture.interner();
+        final BitSet groupIds = new BitSet();
+        for (final String group : groups) {
+            groupIds.set(interner.groups.id(group));
+        }
+        return Lecture.intern(interner, title, groupIds);
+    }
+
+    public static Lecture parse(final String line) {
+        final int titleEnd = line.indexOf('|');
+        int groupsStart = titleEnd + 1;
+        while (groupsStart > 0 && groupsStart < line.length() && line.charAt(groupsStart) == '|') {
+            groupsStart++;
+        }
+        if (titleEnd < 0 || groupsStart == line.length()) {
+            throw new IllegalArgumentException(String.format("Lecture %s has no groups!", line));
+        }
+        final Interner interner = Lecture.interner();
+        final int groupsEnd = line.indexOf('|', titleEnd + 1);
+        final int end = groupsEnd < 0 ? line.length() : groupsEnd;
+        final BitSet groupIds = new BitSet();
+        int last = end;
+        while (last > titleEnd + 1 && line.charAt(last - 1) == ',') {
+            last--;
+        }
+        if (end == titleEnd + 1) {
+            groupIds.set(interner.groups.id(""));
+        }
+        int start = titleEnd + 1;
+        while (start < last) {
+            final int comma = line.indexOf(',', start);
+            final int groupEnd = comma < 0 || comma > last ? last : comma;
+            groupIds.set(interner.groups.id(Lecture.trimmed(line, start, groupEnd)));
+            start = groupEnd + 1;
+        }
+        return Lecture.intern(interner, Lecture.trimmed(line, 0, titleEnd), groupIds);
+    }
+
+    private static Lecture intern(final Interner interner, final String title, final BitSet groupIds) {
+        return interner.lectures.computeIfAbsent(
+            new Key(interner.titles.id(title), groupIds),
+            key -> new Lecture(interner, key.title(), key.groups())
         );
     }
-    
+
+    private static Interner interner() {
+        final Interner current = Lecture.INTERNER.get();
+        if (!current.isFull()) {
+            return current;
+        }
+        final Interner next = new Interner();
+        return Lecture.INTERNER.compareAndSet(current, next) ? next : Lecture.INTERNER.get();
+    }
+
+    private static String trimmed(final String line, final int start, final int end) {
+        int from = start;
+        int to = end;
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return line.substring(from, to);
+    }
+
+    private final BitSet groups;
+
+    private final int hash;
+
+    private final Interner interner;
+
+    private final int title;
+
+    private Lecture(final Interner interner, final int title, final BitSet groups) {
+        this.interner = interner;
+        this.title = title;
+        this.groups = groups;
+        this.hash = Objects.hash(this.title(), this.groups());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Lecture)) {
+            return false;
+        }
+        final Lecture other = (Lecture)o;
+        return this.hash == other.hash
+            && this.interner != other.interner
+            && this.title().equals(other.title())
+            && this.groups().equals(other.groups());
+    }
+
+    public Set<String> groups() {
+        final Set<String> result = new LinkedHashSet<String>();
+        for (int id = this.groups.nextSetBit(0); id >= 0; id = this.groups.nextSetBit(id + 1)) {
+            result.add(this.interner.groups.value(id));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    public String title() {
+        return this.interner.titles.value(this.title);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Lecture[title=%s, groups=%s]", this.title(), this.groups());
+    }
+
 }
@@ -1,7 +1,9 @@
 package lectureinitializer;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
+import java.util.regex.*;
 
 import ocp.*;
 
@@ -9,19 +11,30 @@ public class LectureExtractor implements Function<OCEntry, Lecture> {
 
     public static final LectureExtractor INSTANCE = new LectureExtractor();
 
-    private static final String LECTURE_PATTERN = ".+ \\((Vorlesung|E-Learning|Hybrid-Vorlesung)\\) \\| (\\w|\\s|,)+";
+    private static final Pattern LECTURE_PATTERN =
+        Pattern.compile(".+ \\((Vorlesung|E-Learning|Hybrid-Vorlesung)\\) \\| (\\w|\\s|,)+");
 
-    private LectureExtractor() {}
+    private static final Lecture OTHER = Lecture.of("other", Set.of());
 
-    @Override
-    public Lecture apply(final OCEntry entry) {
-        final String subject = entry.subject();
-        if (!subject.matches(LectureExtractor.LECTURE_PATTERN)) {
-            return new Lecture("other", Set.of());
+    public static Function<OCEntry, Lecture> memoizing() {
+        final ConcurrentMap<String, Lecture> lecturesBySubject = new ConcurrentHashMap<String, Lecture>();
+        return entry -> lecturesBySubject.computeIfAbsent(entry.subject(), LectureExtractor::toLecture);
+    }
+
+    private static Lecture toLecture(final String subject) {
+        if (!LectureExtractor.LECTURE_PATTERN.matcher(subject).matches()) {
+            return LectureExtractor.OTHER;
         }
         return Lecture.parse(
             subject.substring(0, subject.indexOf(" (")) + subject.substring(subject.indexOf(") ") + 1)
         );
     }
 
+    private LectureExtractor() {}
+
+    @Override
+    public Lecture apply(final OCEntry entry) {
+        return LectureExtractor.toLecture(entry.subject());
+    }
+
 }
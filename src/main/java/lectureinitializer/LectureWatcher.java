@@ -0,0 +1,257 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+public class LectureWatcher implements Closeable {
+
+    public static enum Artifact {
+
+        PARTICIPANTS_LISTS, QUIZ, TALK;
+
+    }
+
+    public static record Job(Artifact artifact, Path input) {
+
+        public String description() {
+            switch (this.artifact) {
+            case PARTICIPANTS_LISTS:
+                return String.format("participants lists of %s", this.input.getFileName());
+            case TALK:
+                return String.format("talk files of %s", this.input.getFileName());
+            default:
+                return String.format("quiz %s", LectureWatcher.toTex(this.input).getFileName());
+            }
+        }
+
+    }
+
+    public static final long DEBOUNCE_MILLIS = 300;
+
+    public static List<Job> jobs(final Collection<Path> changed) throws IOException {
+        final Set<Job> result = new LinkedHashSet<Job>();
+        for (final Path file : changed) {
+            final Path parent = file.getParent();
+            final String name = file.getFileName().toString();
+            if (LectureWatcher.isQuiz(file)) {
+                if (Files.isRegularFile(file)) {
+                    result.add(new Job(Artifact.QUIZ, file));
+                }
+            } else if (name.equals("meta.txt")) {
+                if (Files.isRegularFile(file)) {
+                    for (final Path classFile : LectureWatcher.classFiles(parent)) {
+                        LectureWatcher.addClassJobs(classFile, result);
+                    }
+                }
+            } else if (name.equals(PreferenceAssignment.FILE_NAME)) {
+                final Path classFile = parent.resolveSibling(parent.getFileName() + ".txt");
+                if (Files.isRegularFile(file) && Files.isRegularFile(classFile)) {
+                    result.add(new Job(Artifact.TALK, classFile));
+                }
+            } else if (name.endsWith(".txt") && Files.isRegularFile(parent.resolve("meta.txt"))) {
+                final MetaFile metaFile = MetaFile.fromFile(parent.resolve("meta.txt").toFile());
+                if (metaFile.solutionFiles().contains(file)) {
+                    for (final Path classFile : LectureWatcher.classFiles(parent)) {
+                        if (LectureWatcher.hasAssignment(classFile)) {
+                            result.add(new Job(Artifact.TALK, classFile));
+                        }
+                    }
+                } else if (Files.isRegularFile(file)) {
+                    LectureWatcher.addClassJobs(file, result);
+                }
+            }
+        }
+        return new ArrayList<Job>(result);
+    }
+
+    public static LectureWatcher open(final Path lecture) throws IOException {
+        final WatchService service = lecture.getFileSystem().newWatchService();
+        final LectureWatcher result = new LectureWatcher(lecture.toAbsolutePath().normalize(), service);
+        try {
+            result.register(result.lecture);
+        } catch (final IOException e) {
+            service.close();
+            throw e;
+        }
+        return result;
+    }
+
+    private static void addClassJobs(final Path classFile, final Set<Job> jobs) {
+        jobs.add(new Job(Artifact.PARTICIPANTS_LISTS, classFile));
+        if (LectureWatcher.hasAssignment(classFile)) {
+            jobs.add(new Job(Artifact.TALK, classFile));
+        }
+    }
+
+    private static List<Path> classFiles(final Path classes) throws IOException {
+        final Collection<Path> solutionFiles = MetaFile.fromFile(classes.resolve("meta.txt").toFile()).solutionFiles();
+        try (Stream<Path> stream = Files.list(classes)) {
+            return stream
+                .filter(
+                    file -> {
+                        final String name = file.getFileName().toString();
+                        return name.endsWith(".txt")
+                            && !name.equals("meta.txt")
+                            && !LectureWatcher.isQuiz(file)
+                            && !solutionFiles.contains(file)
+                            && Files.isRegularFile(file);
+                    }
+                ).sorted()
+                .toList();
+        }
+    }
+
+    private static boolean hasAssignment(final Path classFile) {
+        return Files.isRegularFile(
+            ParticipantsAndDates.toClassDirectory(classFile.toFile()).resolve(PreferenceAssignment.FILE_NAME)
+        );
+    }
+
+    private static boolean isQuiz(final Path file) {
+        final String name = file.getFileName().toString();
+        return name.startsWith("quiz") && name.endsWith(".txt");
+    }
+
+    private static void regenerate(final List<Job> jobs, final long changeNanos) {
+        for (final Job job : jobs) {
+            final long start = System.nanoTime();
+            try {
+                LectureWatcher.run(job);
+                final long end = System.nanoTime();
+                System.out.println(
+                    String.format(
+                        "Regenerated %s in %d ms (%d ms after the change).",
+                        job.description(),
+                        TimeUnit.NANOSECONDS.toMillis(end - start),
+                        TimeUnit.NANOSECONDS.toMillis(end - changeNanos)
+                    )
+                );
+            } catch (final IOException | RuntimeException e) {
+                System.out.println(String.format("Could not regenerate %s: %s", job.description(), e.getMessage()));
+            }
+        }
+    }
+
+    private static void run(final Job job) throws IOException {
+        final File input = job.input().toFile();
+        switch (job.artifact()) {
+        case PARTICIPANTS_LISTS:
+            ParticipantsAndDates.writeParticipantsLists(input, true);
+            break;
+        case TALK:
+            final Path root = ParticipantsAndDates.toClassDirectory(input);
+            TalkAssignments.prepareTalk(
+                root.resolve(PreferenceAssignment.FILE_NAME).toFile(),
+                input,
+                Files.isRegularFile(root.resolve("quizAnswers.csv")),
+                true
+            );
+            break;
+        default:
+            QuizQuestions.transformQuizFile(input, LectureWatcher.toTex(job.input()).toFile());
+        }
+    }
+
+    private static Path toTex(final Path quiz) {
+        final String name = quiz.getFileName().toString();
+        return quiz.resolveSibling(name.substring(0, name.length() - 4) + ".tex");
+    }
+
+    private final Map<WatchKey, Path> directories;
+
+    private final ExecutorService executor;
+
+    private final Path lecture;
+
+    private final WatchService service;
+
+    private LectureWatcher(final Path lecture, final WatchService service) {
+        this.lecture = lecture;
+        this.service = service;
+        this.directories = new HashMap<WatchKey, Path>();
+        this.executor = Executors.newSingleThreadExecutor();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.service.close();
+        this.executor.close();
+    }
+
+    public void watch() throws IOException {
+        try {
+            while (true) {
+                WatchKey key = this.service.take();
+                final long changeNanos = System.nanoTime();
+                final Set<Path> changed = new LinkedHashSet<Path>();
+                while (key != null) {
+                    this.collect(key, changed);
+                    key = this.service.poll(LectureWatcher.DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                final List<Job> jobs;
+                try {
+                    jobs = LectureWatcher.jobs(changed);
+                } catch (final IOException e) {
+                    System.out.println(
+                        String.format("Could not determine the artifacts to regenerate: %s", e.getMessage())
+                    );
+                    continue;
+                }
+                if (!jobs.isEmpty()) {
+                    this.executor.submit(() -> LectureWatcher.regenerate(jobs, changeNanos));
+                }
+            }
+        } catch (final ClosedWatchServiceException e) {
+            return;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while watching for changes!");
+        }
+    }
+
+    private void collect(final WatchKey key, final Set<Path> changed) throws IOException {
+        final Path directory = this.directories.get(key);
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                try (Stream<Path> stream = Files.walk(this.lecture)) {
+                    stream
+                    .filter(file -> file.getFileName().toString().equals("meta.txt") || LectureWatcher.isQuiz(file))
+                    .forEach(changed::add);
+                }
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+            final Path file = directory.resolve((Path)event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+                this.register(file);
+            } else {
+                changed.add(file);
+            }
+        }
+        if (!key.reset()) {
+            this.directories.remove(key);
+        }
+    }
+
+    private void register(final Path root) throws IOException {
+        try (Stream<Path> stream = Files.walk(root)) {
+            for (final Path directory : stream.filter(Files::isDirectory).toList()) {
+                this.directories.put(
+                    directory.register(
+                        this.service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                    ),
+                    directory
+                );
+            }
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package lectureinitializer;
 
 import java.io.*;
 import java.lang.reflect.*;
+import java.nio.file.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -12,58 +13,246 @@ public class Main {
     private static final List<Set<Flag>> ALLOWED_COMBINATIONS =
         List.of(
             Set.of(Flag.CLASSFILE),
+            Set.of(Flag.CLASSFILE, Flag.INCREMENTAL),
             Set.of(Flag.CLASSFILE, Flag.ASSIGNMENT),
+            Set.of(Flag.CLASSFILE, Flag.ASSIGNMENT, Flag.INCREMENTAL),
+            Set.of(Flag.CLASSFILE, Flag.ASSIGNMENT, Flag.MATRIX),
+            Set.of(Flag.CLASSFILE, Flag.ASSIGNMENT, Flag.MATRIX, Flag.INCREMENTAL),
+            Set.of(Flag.CLASSFILE, Flag.ASSIGNMENT, Flag.OUTPUT),
+            Set.of(Flag.CLASSFILE, Flag.ASSIGNMENT, Flag.MATRIX, Flag.OUTPUT),
+            Set.of(Flag.CLASSFILE, Flag.PREFERENCES),
+            Set.of(Flag.CLASSFILE, Flag.PREFERENCES, Flag.SPREAD),
+            Set.of(Flag.CLASSFILE, Flag.PREFERENCES, Flag.OUTPUT),
+            Set.of(Flag.CLASSFILE, Flag.PREFERENCES, Flag.SPREAD, Flag.OUTPUT),
+            Set.of(Flag.CLASSFILE, Flag.SESSIONS),
+            Set.of(Flag.CLASSFILE, Flag.SESSIONS, Flag.SIMILARITY),
+            Set.of(Flag.CLASSFILE, Flag.JOURNAL),
+            Set.of(Flag.CLASSFILE, Flag.JOURNAL, Flag.ABSENCES),
+            Set.of(Flag.CLASSFILE, Flag.JOURNAL, Flag.OUTPUT),
             Set.of(Flag.PARTICIPANTS, Flag.EXPORT),
             Set.of(Flag.ATTENDANCE, Flag.EXPORT),
-            Set.of(Flag.QUIZ, Flag.OUTPUT)
+            Set.of(Flag.ATTENDANCE, Flag.EXPORT, Flag.SIMILARITY),
+            Set.of(Flag.QUIZ, Flag.OUTPUT),
+            Set.of(Flag.QUIZ, Flag.OUTPUT, Flag.VARIANTS),
+            Set.of(Flag.QUIZ, Flag.OUTPUT, Flag.VARIANTS, Flag.SEED),
+            Set.of(Flag.BANK),
+            Set.of(Flag.BANK, Flag.QUESTIONS, Flag.OUTPUT),
+            Set.of(Flag.BANK, Flag.QUESTIONS, Flag.OUTPUT, Flag.SEED),
+            Set.of(Flag.BANK, Flag.QUESTIONS, Flag.OUTPUT, Flag.TOPICS),
+            Set.of(Flag.BANK, Flag.QUESTIONS, Flag.OUTPUT, Flag.TOPICS, Flag.SEED),
+            Set.of(Flag.SCORES),
+            Set.of(Flag.GRADEBOOK),
+            Set.of(Flag.WATCH),
+            Set.of(Flag.BUILD),
+            Set.of(Flag.BUILD, Flag.COMPILER),
+            Set.of(Flag.BATCH)
         );
 
     public static String escapeForLaTeX(final String text) {
-        return text.replaceAll("\\\\", "\\\\textbackslash")
-            .replaceAll("([&\\$%\\{\\}_#])", "\\\\$1")
-            .replaceAll("~", "\\\\textasciitilde{}")
-            .replaceAll("\\^", "\\\\textasciicircum{}")
-            .replaceAll("\\\\textbackslash", "\\\\textbackslash{}")
-            .replaceAll("([^\\\\])\"", "$1''")
-            .replaceAll("^\"", "''");
+        return LaTeXEscaper.escape(text);
     }
 
-    public static void main(final String[] args)
-    throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        final CLITamer<Flag> tamer = new CLITamer<Flag>(Flag.class);
-        if (args == null || args.length < 1) {
-            System.out.println(tamer.getParameterDescriptions());
-            System.out.println(Main.helpText());
-            return;
-        }
-        final Parameters<Flag> options = tamer.parse(args);
-        if (!Main.ALLOWED_COMBINATIONS.contains(options.keySet())) {
-            System.out.println(tamer.getParameterDescriptions());
-            System.out.println(Main.helpText());
+    public static void execute(
+        final CLITamer<Flag> tamer,
+        final Parameters<Flag> options,
+        final Path workingDirectory
+    ) throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        if (!Main.isAllowed(options.keySet())) {
+            Main.printHelp(tamer);
             return;
         }
         if (options.containsKey(Flag.CLASSFILE)) {
-            final File classFile = new File(options.get(Flag.CLASSFILE));
-            if (options.containsKey(Flag.ASSIGNMENT)) {
-                TalkAssignments.prepareTalk(new File(options.get(Flag.ASSIGNMENT)), classFile);
+            final File classFile = Main.file(options, Flag.CLASSFILE, workingDirectory);
+            if (options.containsKey(Flag.ASSIGNMENT) && options.containsKey(Flag.OUTPUT)) {
+                TalkAssignments.packageClass(
+                    Main.file(options, Flag.ASSIGNMENT, workingDirectory),
+                    classFile,
+                    options.containsKey(Flag.MATRIX),
+                    Main.file(options, Flag.OUTPUT, workingDirectory)
+                );
+            } else if (options.containsKey(Flag.ASSIGNMENT)) {
+                TalkAssignments.prepareTalk(
+                    Main.file(options, Flag.ASSIGNMENT, workingDirectory),
+                    classFile,
+                    options.containsKey(Flag.MATRIX),
+                    options.containsKey(Flag.INCREMENTAL)
+                );
+            } else if (options.containsKey(Flag.PREFERENCES) && options.containsKey(Flag.OUTPUT)) {
+                PreferenceAssignment.assignTopics(
+                    Main.file(options, Flag.PREFERENCES, workingDirectory),
+                    classFile,
+                    options.containsKey(Flag.SPREAD),
+                    Main.file(options, Flag.OUTPUT, workingDirectory)
+                );
+            } else if (options.containsKey(Flag.PREFERENCES)) {
+                PreferenceAssignment.assignTopics(
+                    Main.file(options, Flag.PREFERENCES, workingDirectory),
+                    classFile,
+                    options.containsKey(Flag.SPREAD)
+                );
+            } else if (options.containsKey(Flag.SESSIONS)) {
+                if (options.containsKey(Flag.SIMILARITY)) {
+                    AttendanceMatrix.mergeAttendance(
+                        classFile,
+                        Main.file(options, Flag.SESSIONS, workingDirectory),
+                        Main.similarity(options)
+                    );
+                } else {
+                    AttendanceMatrix.mergeAttendance(classFile, Main.file(options, Flag.SESSIONS, workingDirectory));
+                }
+            } else if (options.containsKey(Flag.OUTPUT)) {
+                AttendanceJournal.exportSessions(classFile, Main.file(options, Flag.OUTPUT, workingDirectory));
+            } else if (options.containsKey(Flag.JOURNAL)) {
+                AttendanceJournal.writeReportToConsole(
+                    classFile,
+                    options.containsKey(Flag.ABSENCES) ?
+                        OptionalInt.of(Main.number(options, Flag.ABSENCES)) :
+                            OptionalInt.empty()
+                );
             } else {
-                ParticipantsAndDates.writeParticipantsLists(classFile);
+                ParticipantsAndDates.writeParticipantsLists(classFile, options.containsKey(Flag.INCREMENTAL));
             }
         } else if (options.containsKey(Flag.PARTICIPANTS)) {
             CalendarExport.createClassFiles(
-                new File(options.get(Flag.PARTICIPANTS)),
-                new File(options.get(Flag.EXPORT))
+                Main.file(options, Flag.PARTICIPANTS, workingDirectory),
+                Main.file(options, Flag.EXPORT, workingDirectory)
             );
         } else if (options.containsKey(Flag.ATTENDANCE)) {
-            AttendanceListUpdater.updateAttendanceList(
-                new File(options.get(Flag.ATTENDANCE)),
-                new File(options.get(Flag.EXPORT))
+            if (options.containsKey(Flag.SIMILARITY)) {
+                AttendanceListUpdater.updateAttendanceList(
+                    Main.file(options, Flag.ATTENDANCE, workingDirectory),
+                    Main.file(options, Flag.EXPORT, workingDirectory),
+                    Main.similarity(options)
+                );
+            } else {
+                AttendanceListUpdater.updateAttendanceList(
+                    Main.file(options, Flag.ATTENDANCE, workingDirectory),
+                    Main.file(options, Flag.EXPORT, workingDirectory)
+                );
+            }
+        } else if (options.containsKey(Flag.QUESTIONS)) {
+            QuizBank.assembleQuiz(
+                Main.file(options, Flag.BANK, workingDirectory),
+                Main.file(options, Flag.OUTPUT, workingDirectory),
+                options.containsKey(Flag.TOPICS) ?
+                    Arrays.stream(options.get(Flag.TOPICS).split(";")).map(String::strip).toList() :
+                        List.of(),
+                Main.number(options, Flag.QUESTIONS),
+                Main.seed(options)
+            );
+        } else if (options.containsKey(Flag.BANK)) {
+            QuizBank.update(Main.file(options, Flag.BANK, workingDirectory));
+        } else if (options.containsKey(Flag.SCORES)) {
+            QuizGrades.gradeQuizzes(Main.file(options, Flag.SCORES, workingDirectory));
+        } else if (options.containsKey(Flag.GRADEBOOK)) {
+            ProtocolGradebook.writeGradebooks(Main.file(options, Flag.GRADEBOOK, workingDirectory));
+        } else if (options.containsKey(Flag.WATCH)) {
+            try (
+                LectureWatcher watcher = LectureWatcher.open(Main.file(options, Flag.WATCH, workingDirectory).toPath())
+            ) {
+                System.out.println(String.format("Watching %s for changes.", options.get(Flag.WATCH)));
+                watcher.watch();
+            }
+        } else if (options.containsKey(Flag.BATCH)) {
+            Batch.run(Main.file(options, Flag.BATCH, workingDirectory), Runtime.getRuntime().availableProcessors());
+        } else if (options.containsKey(Flag.BUILD)) {
+            LaTeXBuild.build(
+                Main.file(options, Flag.BUILD, workingDirectory),
+                options.containsKey(Flag.COMPILER) ?
+                    List.of(options.get(Flag.COMPILER).strip().split("\\s+")) :
+                        LaTeXBuild.DEFAULT_COMPILER
+            );
+        } else if (options.containsKey(Flag.VARIANTS)) {
+            QuizQuestions.writeVariants(
+                Main.file(options, Flag.QUIZ, workingDirectory),
+                Main.file(options, Flag.OUTPUT, workingDirectory),
+                Main.seed(options),
+                Main.number(options, Flag.VARIANTS)
             );
         } else {
-            QuizQuestions.transformQuizFile(new File(options.get(Flag.QUIZ)), new File(options.get(Flag.OUTPUT)));
+            QuizQuestions.transformQuizFile(
+                Main.file(options, Flag.QUIZ, workingDirectory),
+                Main.file(options, Flag.OUTPUT, workingDirectory)
+            );
         }
     }
 
+    public static void main(final String[] args)
+    throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        final CLITamer<Flag> tamer = new CLITamer<Flag>(Flag.class);
+        if (args == null || args.length < 1) {
+            Main.printHelp(tamer);
+            return;
+        }
+        final Parameters<Flag> options = tamer.parse(args);
+        if (options.keySet().equals(Set.of(Flag.DAEMON))) {
+            try (Daemon daemon = Daemon.open(Path.of(options.get(Flag.DAEMON)))) {
+                System.out.println(String.format("Serving commands on %s.", options.get(Flag.DAEMON)));
+                daemon.serve();
+            }
+            return;
+        }
+        if (options.containsKey(Flag.SOCKET)) {
+            final Path socket = Path.of(options.remove(Flag.SOCKET));
+            if (!Main.ALLOWED_COMBINATIONS.contains(options.keySet())) {
+                Main.printHelp(tamer);
+                return;
+            }
+            final int exitCode =
+                Daemon.forward(socket, Path.of("").toAbsolutePath(), Main.withoutSocket(args), System.out, System.err);
+            if (exitCode != 0) {
+                System.exit(exitCode);
+            }
+            return;
+        }
+        Main.execute(tamer, options, Path.of(""));
+    }
+
+    static boolean isAllowed(final Set<Flag> flags) {
+        return Main.ALLOWED_COMBINATIONS.contains(flags);
+    }
+
+    static void printHelp(final CLITamer<Flag> tamer) {
+        System.out.println(tamer.getParameterDescriptions());
+        System.out.println(Main.helpText());
+    }
+
+    private static File file(final Parameters<Flag> options, final Flag flag, final Path workingDirectory) {
+        return workingDirectory.resolve(options.get(flag)).toFile();
+    }
+
+    private static int number(final Parameters<Flag> options, final Flag flag) throws IOException {
+        try {
+            return Integer.parseInt(options.get(flag).strip());
+        } catch (final NumberFormatException e) {
+            throw new IOException(String.format("%s is not a number!", options.get(flag)));
+        }
+    }
+
+    private static long seed(final Parameters<Flag> options) throws IOException {
+        if (!options.containsKey(Flag.SEED)) {
+            return new SplittableRandom().nextLong();
+        }
+        try {
+            return Long.parseLong(options.get(Flag.SEED).strip());
+        } catch (final NumberFormatException e) {
+            throw new IOException(String.format("%s is not a number!", options.get(Flag.SEED)));
+        }
+    }
+
+    private static double similarity(final Parameters<Flag> options) throws IOException {
+        final double result;
+        try {
+            result = Double.parseDouble(options.get(Flag.SIMILARITY).strip());
+        } catch (final NumberFormatException e) {
+            throw new IOException(String.format("%s is not a number!", options.get(Flag.SIMILARITY)));
+        }
+        if (result < 0 || result > 1) {
+            throw new IOException("The similarity must be between 0 and 1!");
+        }
+        return result;
+    }
+
     private static String helpText() {
         return String.format(
             "Allowed combinations: %s",
@@ -75,7 +264,26 @@ public class Main {
                 .map(flag -> "-" + flag.shortName())
                 .collect(Collectors.joining(" and "))
             ).collect(Collectors.joining(", "))
+        ) + String.format(
+            " (each optionally with -%s to forward it to a daemon started with -%s alone)",
+            Flag.SOCKET.shortName(),
+            Flag.DAEMON.shortName()
         );
     }
 
+    private static List<String> withoutSocket(final String[] args) {
+        final List<String> result = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            if (
+                args[i].equalsIgnoreCase("-" + Flag.SOCKET.shortName())
+                || args[i].equalsIgnoreCase("--" + Flag.SOCKET.longName())
+            ) {
+                i++;
+            } else {
+                result.add(args[i]);
+            }
+        }
+        return result;
+    }
+
 }
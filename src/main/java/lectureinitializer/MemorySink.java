@@ -0,0 +1,75 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class MemorySink implements OutputSink {
+
+    private final Set<Path> executables;
+
+    private final ConcurrentMap<Path, byte[]> files;
+
+    private final ConcurrentMap<Path, Boolean> stagedExecutables;
+
+    private final ConcurrentMap<Path, byte[]> stagedFiles;
+
+    public MemorySink() {
+        this.files = new ConcurrentSkipListMap<Path, byte[]>();
+        this.executables = new ConcurrentSkipListSet<Path>();
+        this.stagedFiles = new ConcurrentSkipListMap<Path, byte[]>();
+        this.stagedExecutables = new ConcurrentSkipListMap<Path, Boolean>();
+    }
+
+    @Override
+    public void close() {
+        this.stagedFiles.clear();
+        this.stagedExecutables.clear();
+    }
+
+    @Override
+    public void commit() {
+        for (final Map.Entry<Path, byte[]> entry : this.stagedFiles.entrySet()) {
+            this.files.put(entry.getKey(), entry.getValue());
+            if (this.stagedExecutables.get(entry.getKey())) {
+                this.executables.add(entry.getKey());
+            } else {
+                this.executables.remove(entry.getKey());
+            }
+        }
+        this.close();
+    }
+
+    public byte[] content(final Path target) {
+        return this.files.get(target.toAbsolutePath().normalize());
+    }
+
+    public boolean isExecutable(final Path target) {
+        return this.executables.contains(target.toAbsolutePath().normalize());
+    }
+
+    public Set<Path> targets() {
+        return Collections.unmodifiableSet(this.files.keySet());
+    }
+
+    public String text(final Path target) {
+        final byte[] content = this.content(target);
+        return content == null ? null : new String(content, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(
+        final Path target,
+        final boolean executable,
+        final AtomicFileWriter.BinaryContent content
+    ) throws IOException {
+        final Path normalized = target.toAbsolutePath().normalize();
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        content.writeTo(buffer);
+        this.stagedFiles.put(normalized, buffer.toByteArray());
+        this.stagedExecutables.put(normalized, executable);
+    }
+
+}
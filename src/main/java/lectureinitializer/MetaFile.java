@@ -0,0 +1,142 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+public class MetaFile {
+
+    public static final String EXAM = "EXAM";
+
+    private static final Pattern TIMING_PATTERN = Pattern.compile("\\s*([1-9]\\d{0,3})\\s*;\\s*(\\d{1,4})\\s*");
+
+    public static MetaFile fromFile(final File metaFile) throws IOException {
+        try (TextInput input = TextInput.open(metaFile.toPath())) {
+            return MetaFile.fromReader(input.reader(), metaFile.getAbsoluteFile().toPath().getParent());
+        }
+    }
+
+    public static MetaFile fromReader(final BufferedReader reader, final Path directory) throws IOException {
+        final Subject subject = new Subject(reader.readLine(), reader.readLine());
+        final String mode = reader.readLine();
+        final List<String> topics = new ArrayList<String>();
+        final Map<String, Path> solutionFiles = new HashMap<String, Path>();
+        int slotLength = SlotTimeline.DEFAULT_SLOT_LENGTH;
+        int breakLength = SlotTimeline.DEFAULT_BREAK_LENGTH;
+        if (mode != null && !mode.isBlank() && !MetaFile.EXAM.equals(mode)) {
+            final int numOfTopics = Integer.parseInt(reader.readLine());
+            for (int i = 0; i < numOfTopics; i++) {
+                final String line = reader.readLine();
+                if (line == null) {
+                    throw new IOException(
+                        String.format("Meta file announces %d topics but contains only %d!", numOfTopics, i)
+                    );
+                }
+                final String[] split = line.split(";");
+                topics.add(split[0]);
+                if (split.length == 2) {
+                    solutionFiles.putIfAbsent(split[0], directory.resolve(split[1]));
+                }
+            }
+            final String timing = reader.readLine();
+            if (timing != null) {
+                final Matcher matcher = MetaFile.TIMING_PATTERN.matcher(timing);
+                if (matcher.matches()) {
+                    slotLength = Integer.parseInt(matcher.group(1));
+                    breakLength = Integer.parseInt(matcher.group(2));
+                }
+            }
+        }
+        return new MetaFile(subject, mode, topics, solutionFiles, slotLength, breakLength);
+    }
+
+    private final int breakLength;
+
+    private final String mode;
+
+    private final Map<String, Path> solutionFiles;
+
+    private final int slotLength;
+
+    private final ConcurrentMap<String, Optional<String>> solutions;
+
+    private final Subject subject;
+
+    private final List<String> topics;
+
+    private MetaFile(
+        final Subject subject,
+        final String mode,
+        final List<String> topics,
+        final Map<String, Path> solutionFiles,
+        final int slotLength,
+        final int breakLength
+    ) {
+        this.subject = subject;
+        this.mode = mode;
+        this.topics = Collections.unmodifiableList(topics);
+        this.solutionFiles = solutionFiles;
+        this.slotLength = slotLength;
+        this.breakLength = breakLength;
+        this.solutions = new ConcurrentHashMap<String, Optional<String>>();
+    }
+
+    public int breakLength() {
+        return this.breakLength;
+    }
+
+    public boolean isExam() {
+        return MetaFile.EXAM.equals(this.mode);
+    }
+
+    public Optional<String> mode() {
+        return this.mode == null || this.mode.isBlank() ? Optional.empty() : Optional.of(this.mode);
+    }
+
+    public int slotLength() {
+        return this.slotLength;
+    }
+
+    public Optional<String> solution(final String topic) throws IOException {
+        try {
+            return this.solutions.computeIfAbsent(topic, this::loadSolution);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public Collection<Path> solutionFiles() {
+        return Collections.unmodifiableCollection(this.solutionFiles.values());
+    }
+
+    public Subject subject() {
+        return this.subject;
+    }
+
+    public TalkMode talkMode() {
+        return TalkMode.valueOf(this.mode);
+    }
+
+    public List<String> topics() {
+        return this.topics;
+    }
+
+    private Optional<String> loadSolution(final String topic) {
+        final Path solutionFile = this.solutionFiles.get(topic);
+        if (solutionFile == null) {
+            return Optional.empty();
+        }
+        try (TextInput input = TextInput.open(solutionFile)) {
+            final String line = input.reader().readLine();
+            if (line == null) {
+                throw new IOException(String.format("Solution file %s is empty!", solutionFile));
+            }
+            return Optional.of(line.substring(1));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+package lectureinitializer;
+
+import java.text.*;
+import java.util.*;
+
+public class NameMatcher {
+
+    public static record Match(String attendee, int participant, double score, List<Integer> candidates) {
+
+        public boolean ambiguous() {
+            return this.candidates().size() > 1;
+        }
+
+        public boolean matched() {
+            return this.participant() >= 0;
+        }
+
+    }
+
+    public static final double DEFAULT_MARGIN = 0.05;
+
+    public static final double DEFAULT_SIMILARITY = 0.8;
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final int GRAM_LENGTH = 3;
+
+    public static NameMatcher exact(final List<String> participants) {
+        return new NameMatcher(participants, false, 1.0, 0);
+    }
+
+    public static Set<String> grams(final String normalized) {
+        final Set<String> result = new LinkedHashSet<String>();
+        for (final String token : normalized.split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            final String padded = "^" + token + "$";
+            if (padded.length() <= NameMatcher.GRAM_LENGTH) {
+                result.add(padded);
+                continue;
+            }
+            for (int i = 0; i + NameMatcher.GRAM_LENGTH <= padded.length(); i++) {
+                result.add(padded.substring(i, i + NameMatcher.GRAM_LENGTH));
+            }
+        }
+        return result;
+    }
+
+    public static String normalize(final String name) {
+        final String transliterated =
+            name
+            .toLowerCase(Locale.ROOT)
+            .replace("ä", "ae")
+            .replace("ö", "oe")
+            .replace("ü", "ue")
+            .replace("ß", "ss");
+        final String decomposed = Normalizer.normalize(transliterated, Normalizer.Form.NFD);
+        final StringBuilder letters = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            final char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            letters.append(Character.isLetterOrDigit(c) ? c : ' ');
+        }
+        final List<String> tokens = new ArrayList<String>();
+        for (final String token : letters.toString().split(" ")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        Collections.sort(tokens);
+        return String.join(" ", tokens);
+    }
+
+    private static Map<String, int[]> toArrays(final Map<String, List<Integer>> postings) {
+        final Map<String, int[]> result = new HashMap<String, int[]>(postings.size() * 2);
+        for (final Map.Entry<String, List<Integer>> entry : postings.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return result;
+    }
+
+    private final Map<String, Integer> exact;
+
+    private final boolean fuzzy;
+
+    private final double margin;
+
+    private final Map<String, List<Integer>> normalized;
+
+    private final List<Set<String>> participantGrams;
+
+    private final List<String> participants;
+
+    private final Map<String, int[]> postings;
+
+    private final double similarity;
+
+    private final Map<String, int[]> tokens;
+
+    public NameMatcher(final List<String> participants) {
+        this(participants, NameMatcher.DEFAULT_SIMILARITY, NameMatcher.DEFAULT_MARGIN);
+    }
+
+    public NameMatcher(final List<String> participants, final double similarity, final double margin) {
+        this(participants, true, similarity, margin);
+    }
+
+    private NameMatcher(
+        final List<String> participants,
+        final boolean fuzzy,
+        final double similarity,
+        final double margin
+    ) {
+        this.participants = participants;
+        this.fuzzy = fuzzy;
+        this.similarity = similarity;
+        this.margin = margin;
+        this.exact = new HashMap<String, Integer>(participants.size() * 2);
+        this.normalized = new HashMap<String, List<Integer>>(participants.size() * 2);
+        this.participantGrams = new ArrayList<Set<String>>(participants.size());
+        final Map<String, List<Integer>> postings = new HashMap<String, List<Integer>>();
+        final Map<String, List<Integer>> tokens = new HashMap<String, List<Integer>>();
+        for (int i = 0; i < participants.size(); i++) {
+            final String participant = participants.get(i);
+            this.exact.putIfAbsent(participant, i);
+            if (!fuzzy) {
+                continue;
+            }
+            final String key = NameMatcher.normalize(participant);
+            this.normalized.computeIfAbsent(key, k -> new ArrayList<Integer>(1)).add(i);
+            final Set<String> grams = NameMatcher.grams(key);
+            this.participantGrams.add(grams);
+            for (final String gram : grams) {
+                postings.computeIfAbsent(gram, g -> new ArrayList<Integer>()).add(i);
+            }
+            for (final String token : new LinkedHashSet<String>(List.of(key.split(" ")))) {
+                tokens.computeIfAbsent(token, t -> new ArrayList<Integer>()).add(i);
+            }
+        }
+        this.postings = NameMatcher.toArrays(postings);
+        this.tokens = NameMatcher.toArrays(tokens);
+    }
+
+    public Match match(final String attendee) {
+        final Integer exactMatch = this.exact.get(attendee);
+        if (exactMatch != null) {
+            return new Match(attendee, exactMatch, 1.0, List.of(exactMatch));
+        }
+        if (!this.fuzzy) {
+            return new Match(attendee, -1, 0, List.of());
+        }
+        final String key = NameMatcher.normalize(attendee);
+        final List<Integer> sameKey = this.normalized.get(key);
+        if (sameKey != null) {
+            return new Match(attendee, sameKey.size() == 1 ? sameKey.get(0) : -1, 1.0, sameKey);
+        }
+        final List<String> grams = new ArrayList<String>(NameMatcher.grams(key));
+        final Set<Integer> sharingToken = new HashSet<Integer>();
+        for (final String token : key.split(" ")) {
+            for (final int participant : this.tokens.getOrDefault(token, NameMatcher.EMPTY)) {
+                sharingToken.add(participant);
+            }
+        }
+        Map<Integer, Double> scores = this.score(grams, sharingToken);
+        if (scores.isEmpty()) {
+            grams.sort(Comparator.comparingInt(gram -> this.postings.getOrDefault(gram, NameMatcher.EMPTY).length));
+            final int required =
+                Math.max(1, (int)Math.ceil(this.similarity * grams.size() / (2 - this.similarity) - 1e-9));
+            final Set<Integer> probed = new HashSet<Integer>();
+            for (final String gram : grams.subList(0, Math.max(0, grams.size() - required + 1))) {
+                for (final int participant : this.postings.getOrDefault(gram, NameMatcher.EMPTY)) {
+                    probed.add(participant);
+                }
+            }
+            scores = this.score(grams, probed);
+        }
+        if (scores.isEmpty()) {
+            return new Match(attendee, -1, 0, List.of());
+        }
+        final double threshold = Collections.max(scores.values()) - this.margin;
+        final List<Integer> candidates =
+            scores
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .sorted(
+                Map.Entry.<Integer, Double>comparingByValue()
+                .reversed()
+                .thenComparing(Map.Entry.comparingByKey())
+            ).map(Map.Entry::getKey)
+            .toList();
+        return new Match(
+            attendee,
+            candidates.size() == 1 ? candidates.get(0) : -1,
+            scores.get(candidates.get(0)),
+            candidates
+        );
+    }
+
+    public String participant(final int index) {
+        return this.participants.get(index);
+    }
+
+    private Map<Integer, Double> score(final List<String> grams, final Set<Integer> candidates) {
+        final Map<Integer, Double> result = new HashMap<Integer, Double>();
+        for (final int participant : candidates) {
+            final Set<String> participantGrams = this.participantGrams.get(participant);
+            int shared = 0;
+            for (final String gram : grams) {
+                if (participantGrams.contains(gram)) {
+                    shared++;
+                }
+            }
+            final double score = 2.0 * shared / (grams.size() + participantGrams.size());
+            if (score >= this.similarity) {
+                result.put(participant, score);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,66 @@
+package lectureinitializer;
+
+import java.io.*;
+
+class OutputRouting {
+
+    private static class RoutedOutputStream extends OutputStream {
+
+        private final OutputStream fallback;
+
+        private final InheritableThreadLocal<OutputStream> targets;
+
+        private RoutedOutputStream(final OutputStream fallback) {
+            this.fallback = fallback;
+            this.targets = new InheritableThreadLocal<OutputStream>();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.target().flush();
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            this.target().write(bytes, offset, length);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.target().write(b);
+        }
+
+        private OutputStream target() {
+            final OutputStream target = this.targets.get();
+            return target == null ? this.fallback : target;
+        }
+
+    }
+
+    private static RoutedOutputStream err;
+
+    private static RoutedOutputStream out;
+
+    static synchronized void install() {
+        if (OutputRouting.out != null) {
+            return;
+        }
+        OutputRouting.out = new RoutedOutputStream(System.out);
+        OutputRouting.err = new RoutedOutputStream(System.err);
+        System.setOut(new PrintStream(OutputRouting.out, true, System.out.charset()));
+        System.setErr(new PrintStream(OutputRouting.err, true, System.err.charset()));
+    }
+
+    static void route(final OutputStream out, final OutputStream err) {
+        OutputRouting.out.targets.set(out);
+        OutputRouting.err.targets.set(err);
+    }
+
+    static void unroute() {
+        System.out.flush();
+        System.err.flush();
+        OutputRouting.out.targets.remove();
+        OutputRouting.err.targets.remove();
+    }
+
+}
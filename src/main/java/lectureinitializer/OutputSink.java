@@ -0,0 +1,12 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+
+public interface OutputSink extends Closeable {
+
+    void commit() throws IOException;
+
+    void write(Path target, boolean executable, AtomicFileWriter.BinaryContent content) throws IOException;
+
+}
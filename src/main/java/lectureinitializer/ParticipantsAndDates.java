@@ -7,8 +7,8 @@ import java.util.*;
 public record ParticipantsAndDates(String[] participants, String[] dates) {
 
     public static ParticipantsAndDates fromFile(final File file) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            return ParticipantsAndDates.fromReader(reader);
+        try (TextInput input = TextInput.open(file.toPath())) {
+            return ParticipantsAndDates.fromReader(input.reader());
         }
     }
 
@@ -42,25 +42,45 @@ public record ParticipantsAndDates(String[] participants, String[] dates) {
     }
 
     public static void writeParticipantsLists(final File classFile) throws IOException {
-        final String classFileName = classFile.getName();
-        final String classIdentifier = classFileName.substring(0, classFileName.length() - 4);
-        final ParticipantsAndDates participantsAndDates = ParticipantsAndDates.fromFile(classFile);
-        final Path root = classFile.getAbsoluteFile().toPath().getParent().resolve(classIdentifier);
-        if (!root.toFile().mkdir()) {
+        ParticipantsAndDates.writeParticipantsLists(classFile, false);
+    }
+
+    public static void writeParticipantsLists(final File classFile, final boolean incremental) throws IOException {
+        final Path root = ParticipantsAndDates.toClassDirectory(classFile);
+        if (incremental) {
+            Files.createDirectories(root);
+        } else if (!root.toFile().mkdir()) {
             throw new IOException("Could not create directory " + root.toFile().getName() + "!");
         }
+        try (
+            GeneratedFiles files =
+                incremental ? GeneratedFiles.incremental(root, "participantsLists") : GeneratedFiles.direct()
+        ) {
+            ParticipantsAndDates.writeParticipantsLists(classFile, files);
+            files.complete();
+        }
+    }
+
+    public static void writeParticipantsLists(final File classFile, final GeneratedFiles files) throws IOException {
+        final Path root = ParticipantsAndDates.toClassDirectory(classFile);
+        final File meta = root.getParent().resolve("meta.txt").toFile();
+        if (files.upToDate(List.of(classFile.toPath(), meta.toPath()))) {
+            return;
+        }
+        final ParticipantsAndDates participantsAndDates = ParticipantsAndDates.fromFile(classFile);
         for (final String date : participantsAndDates.dates()) {
-            try (
-                BufferedWriter writer =
-                    new BufferedWriter(new FileWriter(root.resolve(date.substring(0, 6) + ".txt").toFile()))
-            ) {
-                for (final String participant : participantsAndDates.participants()) {
-                    writer.write(participant);
-                    writer.write("\n");
+            files.writeText(
+                root.resolve(date.substring(0, 6) + ".txt"),
+                writer -> {
+                    for (final String participant : participantsAndDates.participants()) {
+                        writer.write(participant);
+                        writer.write("\n");
+                    }
                 }
-            }
+            );
         }
         ParticipantsAndDates.writeExecutableScript(
+            files,
             root,
             "groups.sh",
             List.of(
@@ -78,6 +98,7 @@ public record ParticipantsAndDates(String[] participants, String[] dates) {
             )
         );
         ParticipantsAndDates.writeExecutableScript(
+            files,
             root,
             "pick.sh",
             List.of(
@@ -86,96 +107,95 @@ public record ParticipantsAndDates(String[] participants, String[] dates) {
                 "java -jar ../../../../nameandgrouppicker.jar PICK -n $1.txt -f frequencies.txt"
             )
         );
-        final File metaFile = root.getParent().resolve("meta.txt").toFile();
-        try (BufferedReader reader = new BufferedReader(new FileReader(metaFile))) {
-            reader.readLine();
-            reader.readLine();
-            final String thirdLine = reader.readLine();
-            if (thirdLine != null && !thirdLine.isBlank()) {
-                if ("EXAM".equals(thirdLine)) {
-                    Path exercisesPath = root.resolve("exercises");
-                    exercisesPath.toFile().mkdir();
-                    ParticipantsAndDates.writeExecutableScript(
-                        exercisesPath,
-                        "exgen.sh",
-                        List.of(
-                            "#!/bin/bash",
-                            "",
-                            "cd ../../../exercises",
-                            "",
-                            "for d in */ ; do",
-                            "  cd $d",
-                            "  . build.sh",
-                            "  cd ..",
-                            "done",
-                            "",
-                            String.format("cd ../classes/%s/exercises", root.getFileName().toString())
-                        )
-                    );
-                    ParticipantsAndDates.writeExecutableScript(
-                        exercisesPath,
-                        "build.sh",
-                        List.of(
-                            "#!/bin/bash",
-                            "",
-                            ". exgen.sh",
-                            "",
-                            "for i in exercise*.tex; do",
-                            "    pdflatex \"$i\"",
-                            "    pdflatex \"$i\"",
-                            "done",
-                            "",
-                            "for i in solution*.tex; do",
-                            "    pdflatex \"$i\"",
-                            "    pdflatex \"$i\"",
-                            "done",
-                            "",
-                            "for i in exampleExam*.tex; do",
-                            "    pdflatex \"$i\"",
-                            "    pdflatex \"$i\"",
-                            "done"
-                        )
-                    );
-                } else {
-                    final int numOfTopics = Integer.parseInt(reader.readLine());
-                    final String[] topics = new String[numOfTopics];
-                    for (int i = 0; i < numOfTopics; i++) {
-                        topics[i] = reader.readLine().split(";")[0];
-                    }
-                    try (
-                        BufferedWriter writer = new BufferedWriter(new FileWriter(root.resolve("preferences.txt").toFile()))
-                    ) {
-                        writer.write(String.valueOf(numOfTopics));
-                        writer.write("\n");
-                        for (final String topic : topics) {
-                            writer.write(topic);
-                            writer.write("\n");
-                        }
-                        writer.write(String.valueOf(participantsAndDates.participants().length));
+        final MetaFile metaFile = MetaFile.fromFile(meta);
+        if (metaFile.isExam()) {
+            Path exercisesPath = root.resolve("exercises");
+            ParticipantsAndDates.writeExecutableScript(
+                files,
+                exercisesPath,
+                "exgen.sh",
+                List.of(
+                    "#!/bin/bash",
+                    "",
+                    "cd ../../../exercises",
+                    "",
+                    "for d in */ ; do",
+                    "  cd $d",
+                    "  . build.sh",
+                    "  cd ..",
+                    "done",
+                    "",
+                    String.format("cd ../classes/%s/exercises", root.getFileName().toString())
+                )
+            );
+            ParticipantsAndDates.writeExecutableScript(
+                files,
+                exercisesPath,
+                "build.sh",
+                List.of(
+                    "#!/bin/bash",
+                    "",
+                    ". exgen.sh",
+                    "",
+                    "for i in exercise*.tex; do",
+                    "    pdflatex \"$i\"",
+                    "    pdflatex \"$i\"",
+                    "done",
+                    "",
+                    "for i in solution*.tex; do",
+                    "    pdflatex \"$i\"",
+                    "    pdflatex \"$i\"",
+                    "done",
+                    "",
+                    "for i in exampleExam*.tex; do",
+                    "    pdflatex \"$i\"",
+                    "    pdflatex \"$i\"",
+                    "done"
+                )
+            );
+        } else if (metaFile.mode().isPresent()) {
+            files.writeText(
+                root.resolve("preferences.txt"),
+                writer -> {
+                    writer.write(String.valueOf(metaFile.topics().size()));
+                    writer.write("\n");
+                    for (final String topic : metaFile.topics()) {
+                        writer.write(topic);
                         writer.write("\n");
-                        for (final String participant : participantsAndDates.participants()) {
-                            writer.write(participant);
-                            writer.write(";\n");
-                        }
+                    }
+                    writer.write(String.valueOf(participantsAndDates.participants().length));
+                    writer.write("\n");
+                    for (final String participant : participantsAndDates.participants()) {
+                        writer.write(participant);
+                        writer.write(";\n");
                     }
                 }
-            }
+            );
         }
     }
 
+    static Path toClassDirectory(final File classFile) {
+        final String classFileName = classFile.getName();
+        final String classIdentifier = classFileName.substring(0, classFileName.length() - 4);
+        return classFile.getAbsoluteFile().toPath().getParent().resolve(classIdentifier);
+    }
+
     private static void writeExecutableScript(
+        final GeneratedFiles files,
         final Path root,
         final String name,
         final List<String> lines
     ) throws IOException {
-        final File script = root.resolve(name).toFile();
-        try (final BufferedWriter writer = new BufferedWriter(new FileWriter(script))) {
-            for (String line : lines) {
-                writer.write(line);
-                writer.write("\n");
+        final Path script = root.resolve(name);
+        files.writeExecutable(
+            script,
+            writer -> {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write("\n");
+                }
             }
-        }
-        script.setExecutable(true);
+        );
     }
 
 }
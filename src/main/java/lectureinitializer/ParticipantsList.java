@@ -2,53 +2,141 @@ package lectureinitializer;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 public class ParticipantsList extends LinkedHashMap<Lecture, List<String>> {
 
+    private static final String PAGE_START = "Seite";
+
     private static final long serialVersionUID = 1L;
 
-    private static Lecture extractLecture(final String line, final BufferedReader reader) throws IOException {
-        String lectureLine = line;
-        while (lectureLine.chars().filter(i -> i == '|').count() != 2) {
-            lectureLine += reader.readLine();
+    public static void parse(
+        final Reader participantsList,
+        final BiConsumer<Lecture, List<String>> consumer
+    ) throws IOException {
+        final LineNumberReader reader = new LineNumberReader(participantsList);
+        final String firstLine = reader.readLine();
+        if (firstLine == null) {
+            throw new IOException("Participants list is empty!");
         }
-        return Lecture.parse(lectureLine.substring(0, lectureLine.lastIndexOf('|') - 1));
-    }
-
-    public ParticipantsList(final File participantsList) throws IOException {
-        super();
-        try (BufferedReader reader = new BufferedReader(new FileReader(participantsList))) {
-            String line = reader.readLine();
-            Lecture currentLecture = ParticipantsList.extractLecture(line, reader);
-            List<String> currentParticipants = new LinkedList<String>();
-            line = reader.readLine();
-            while (line != null) {
-                if (line.isBlank() || !line.startsWith("Seite") && !line.matches("\\w\\w\\w\\w\\d\\d\\d\\w.*")) {
-                    line = reader.readLine();
-                    continue;
+        Lecture currentLecture = ParticipantsList.extractLecture(firstLine, reader);
+        List<String> currentParticipants = new ArrayList<String>();
+        String line = reader.readLine();
+        while (line != null) {
+            if (line.startsWith(ParticipantsList.PAGE_START)) {
+                final int pageLine = reader.getLineNumber();
+                reader.readLine();
+                final String header = reader.readLine();
+                if (header == null) {
+                    throw new IOException(
+                        String.format("Missing page header after page break in line %d!", pageLine)
+                    );
                 }
-                if (line.startsWith("Seite")) {
-                    reader.readLine();
-                    line = reader.readLine().substring(1);
-                    if (!line.isBlank()) {
-                        Lecture lectureOnPage = ParticipantsList.extractLecture(line, reader);
-                        if (!currentLecture.equals(lectureOnPage)) {
-                            this.put(currentLecture, currentParticipants);
-                            currentLecture = lectureOnPage;
-                            currentParticipants = new LinkedList<String>();
-                        }
+                if (header.length() > 1 && !header.substring(1).isBlank()) {
+                    final Lecture lectureOnPage = ParticipantsList.extractLecture(header.substring(1), reader);
+                    if (!currentLecture.equals(lectureOnPage)) {
+                        consumer.accept(currentLecture, currentParticipants);
+                        currentLecture = lectureOnPage;
+                        currentParticipants = new ArrayList<String>();
                     }
-                } else {
-                    String entryLine = line;
-                    while (entryLine.trim().length() < 9) {
-                        entryLine += reader.readLine();
-                    }
-                    currentParticipants.add(entryLine.substring(8).trim());
                 }
-                line = reader.readLine();
+            } else if (!line.isBlank() && ParticipantsList.isEntry(line)) {
+                currentParticipants.add(ParticipantsList.extractParticipant(line, reader));
+            }
+            line = reader.readLine();
+        }
+        consumer.accept(currentLecture, currentParticipants);
+    }
+
+    private static int countPipes(final CharSequence line) {
+        int result = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '|') {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private static Lecture extractLecture(final String line, final LineNumberReader reader) throws IOException {
+        final int headerLine = reader.getLineNumber();
+        final StringBuilder lectureLine = new StringBuilder(line);
+        int pipes = ParticipantsList.countPipes(line);
+        while (pipes < 2) {
+            final String continuation = reader.readLine();
+            if (continuation == null) {
+                throw new IOException(String.format("Unterminated lecture header in line %d!", headerLine));
             }
-            this.put(currentLecture, currentParticipants);
+            lectureLine.append(continuation);
+            pipes += ParticipantsList.countPipes(continuation);
+        }
+        if (pipes > 2) {
+            throw new IOException(
+                String.format("Malformed lecture header in line %d: %s", headerLine, lectureLine)
+            );
+        }
+        final int end = lectureLine.lastIndexOf("|") - 1;
+        if (lectureLine.indexOf("|") + 1 >= end) {
+            throw new IOException(
+                String.format("Malformed lecture header in line %d: %s", headerLine, lectureLine)
+            );
+        }
+        return Lecture.parse(lectureLine.substring(0, end));
+    }
+
+    private static String extractParticipant(final String line, final LineNumberReader reader) throws IOException {
+        if (line.trim().length() >= 9) {
+            return line.substring(8).trim();
         }
+        final int entryLine = reader.getLineNumber();
+        final StringBuilder entry = new StringBuilder(line);
+        while (entry.toString().trim().length() < 9) {
+            final String continuation = reader.readLine();
+            if (continuation == null) {
+                throw new IOException(String.format("Incomplete participant entry in line %d!", entryLine));
+            }
+            entry.append(continuation);
+        }
+        return entry.substring(8).trim();
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isEntry(final String line) {
+        if (line.length() < 8) {
+            return false;
+        }
+        for (int i = 0; i < 8; i++) {
+            final char c = line.charAt(i);
+            if (i >= 4 && i < 7 ? !ParticipantsList.isDigit(c) : !ParticipantsList.isWordCharacter(c)) {
+                return false;
+            }
+        }
+        for (int i = 8; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordCharacter(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || ParticipantsList.isDigit(c) || c == '_';
+    }
+
+    private static Map<Lecture, List<String>> read(final File participantsList) throws IOException {
+        final Map<Lecture, List<String>> result = new LinkedHashMap<Lecture, List<String>>();
+        try (BufferedReader reader = TextInput.openReader(participantsList.toPath())) {
+            ParticipantsList.parse(reader, result::put);
+        }
+        return result;
+    }
+
+    public ParticipantsList(final File participantsList) throws IOException {
+        super(ParticipantsList.read(participantsList));
     }
 
 }
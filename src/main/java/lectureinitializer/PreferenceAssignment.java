@@ -0,0 +1,264 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+public class PreferenceAssignment {
+
+    public static final String FILE_NAME = "assignment.txt";
+
+    public static int[] assign(final Preferences preferences) throws IOException {
+        final int numOfParticipants = preferences.participants().size();
+        final int numOfTopics = preferences.topics().size();
+        if (numOfParticipants == 0) {
+            return new int[0];
+        }
+        if (numOfTopics == 0) {
+            throw new IOException("Preferences file contains no topics!");
+        }
+        final int[][] costs = new int[numOfParticipants][numOfTopics];
+        for (int participant = 0; participant < numOfParticipants; participant++) {
+            Arrays.fill(costs[participant], numOfTopics);
+            final List<Integer> choices = preferences.choices().get(participant);
+            for (int rank = 0; rank < choices.size(); rank++) {
+                costs[participant][choices.get(rank)] = rank;
+            }
+        }
+        final int capacity = (numOfParticipants + numOfTopics - 1) / numOfTopics;
+        final int[] columns = PreferenceAssignment.hungarian(costs, capacity);
+        final int[] result = new int[numOfParticipants];
+        for (int participant = 0; participant < numOfParticipants; participant++) {
+            result[participant] = columns[participant] / capacity;
+        }
+        return result;
+    }
+
+    public static void assignTopics(
+        final File preferencesFile,
+        final File classFile,
+        final boolean spread
+    ) throws IOException {
+        final Path target =
+            preferencesFile.getAbsoluteFile().toPath().getParent().resolve(PreferenceAssignment.FILE_NAME);
+        if (Files.exists(target)) {
+            throw new IOException(String.format("%s already exists! Pass an output file to overwrite it.", target));
+        }
+        PreferenceAssignment.assignTopics(preferencesFile, classFile, spread, target.toFile());
+    }
+
+    public static void assignTopics(
+        final File preferencesFile,
+        final File classFile,
+        final boolean spread,
+        final File output
+    ) throws IOException {
+        final Preferences preferences = Preferences.fromFile(preferencesFile);
+        final int[] topics = PreferenceAssignment.assign(preferences);
+        final List<Integer> order;
+        if (spread) {
+            final SlotTimeline timeline =
+                TalkAssignments.toTimeline(
+                    classFile,
+                    MetaFile.fromFile(classFile.getAbsoluteFile().toPath().resolveSibling("meta.txt").toFile())
+                );
+            final int firstSlot = timeline.firstSlotFor(topics.length);
+            if (timeline.size() - firstSlot < topics.length) {
+                throw new IOException(
+                    String.format(
+                        "Only %d of %d talks fit into the dates of the class!",
+                        timeline.size() - firstSlot,
+                        topics.length
+                    )
+                );
+            }
+            final List<Integer> slotsPerDay = new ArrayList<Integer>();
+            int current = Integer.MIN_VALUE;
+            for (int slot = firstSlot; slot < firstSlot + topics.length; slot++) {
+                final int day = Math.floorDiv(timeline.slot(slot), SlotTimeline.MINUTES_PER_DAY);
+                if (day != current) {
+                    current = day;
+                    slotsPerDay.add(0);
+                }
+                slotsPerDay.set(slotsPerDay.size() - 1, slotsPerDay.get(slotsPerDay.size() - 1) + 1);
+            }
+            order = PreferenceAssignment.schedule(topics, preferences.topics().size(), slotsPerDay);
+        } else {
+            order = IntStream.range(0, topics.length).boxed().toList();
+        }
+        final Path target = output.toPath();
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.writeText(
+                target,
+                writer -> {
+                    for (final int participant : order) {
+                        writer.write(
+                            String.format(
+                                "%s -> %d) %s\n",
+                                preferences.participants().get(participant),
+                                topics[participant] + 1,
+                                preferences.topics().get(topics[participant])
+                            )
+                        );
+                    }
+                }
+            );
+            files.complete();
+        }
+        PreferenceAssignment.writeReportToConsole(preferences, topics, order, target);
+    }
+
+    static int[] hungarian(final int[][] costs, final int copies) {
+        final int rows = costs.length;
+        final int columns = costs[0].length * copies;
+        final long[] rowPotentials = new long[rows + 1];
+        final long[] columnPotentials = new long[columns + 1];
+        final int[] assignedRows = new int[columns + 1];
+        final int[] previousColumns = new int[columns + 1];
+        final long[] slack = new long[columns + 1];
+        final boolean[] visited = new boolean[columns + 1];
+        for (int row = 1; row <= rows; row++) {
+            assignedRows[0] = row;
+            int column = 0;
+            Arrays.fill(slack, Long.MAX_VALUE);
+            Arrays.fill(visited, false);
+            do {
+                visited[column] = true;
+                final int current = assignedRows[column];
+                long delta = Long.MAX_VALUE;
+                int next = 0;
+                for (int j = 1; j <= columns; j++) {
+                    if (!visited[j]) {
+                        final long reduced =
+                            costs[current - 1][(j - 1) / copies] - rowPotentials[current] - columnPotentials[j];
+                        if (reduced < slack[j]) {
+                            slack[j] = reduced;
+                            previousColumns[j] = column;
+                        }
+                        if (slack[j] < delta) {
+                            delta = slack[j];
+                            next = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= columns; j++) {
+                    if (visited[j]) {
+                        rowPotentials[assignedRows[j]] += delta;
+                        columnPotentials[j] -= delta;
+                    } else {
+                        slack[j] -= delta;
+                    }
+                }
+                column = next;
+            } while (assignedRows[column] != 0);
+            do {
+                final int previous = previousColumns[column];
+                assignedRows[column] = assignedRows[previous];
+                column = previous;
+            } while (column != 0);
+        }
+        final int[] result = new int[rows];
+        for (int j = 1; j <= columns; j++) {
+            if (assignedRows[j] != 0) {
+                result[assignedRows[j] - 1] = j - 1;
+            }
+        }
+        return result;
+    }
+
+    static List<Integer> schedule(
+        final int[] topics,
+        final int numOfTopics,
+        final List<Integer> slotsPerDay
+    ) throws IOException {
+        final List<Deque<Integer>> speakers = new ArrayList<Deque<Integer>>(numOfTopics);
+        for (int topic = 0; topic < numOfTopics; topic++) {
+            speakers.add(new ArrayDeque<Integer>());
+        }
+        for (int participant = 0; participant < topics.length; participant++) {
+            speakers.get(topics[participant]).add(participant);
+        }
+        final int[] remaining = slotsPerDay.stream().mapToInt(Integer::intValue).toArray();
+        final List<List<Integer>> topicsPerDay = new ArrayList<List<Integer>>(remaining.length);
+        for (int day = 0; day < remaining.length; day++) {
+            topicsPerDay.add(new ArrayList<Integer>());
+        }
+        final List<Integer> byDemand =
+            IntStream
+            .range(0, numOfTopics)
+            .boxed()
+            .sorted(Comparator.comparingInt((Integer topic) -> speakers.get(topic).size()).reversed())
+            .toList();
+        for (final int topic : byDemand) {
+            final List<Integer> days =
+                IntStream
+                .range(0, remaining.length)
+                .filter(day -> remaining[day] > 0)
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer day) -> remaining[day]).reversed())
+                .limit(speakers.get(topic).size())
+                .toList();
+            if (days.size() < speakers.get(topic).size()) {
+                throw new IOException(
+                    String.format(
+                        "The %d talks cannot be spread over their %d days with at most one talk per topic and day!",
+                        topics.length,
+                        remaining.length
+                    )
+                );
+            }
+            for (final int day : days) {
+                topicsPerDay.get(day).add(topic);
+                remaining[day]--;
+            }
+        }
+        final List<Integer> result = new ArrayList<Integer>(topics.length);
+        for (final List<Integer> day : topicsPerDay) {
+            Collections.sort(day);
+            for (final int topic : day) {
+                result.add(speakers.get(topic).remove());
+            }
+        }
+        return result;
+    }
+
+    private static void writeReportToConsole(
+        final Preferences preferences,
+        final int[] topics,
+        final List<Integer> order,
+        final Path target
+    ) {
+        int totalCost = 0;
+        int firstChoices = 0;
+        for (final int participant : order) {
+            final int cost = preferences.cost(participant, topics[participant]);
+            totalCost += cost;
+            if (cost == 0) {
+                firstChoices++;
+            }
+            System.out.println(
+                String.format(
+                    "%s: %d) %s (%s)",
+                    preferences.participants().get(participant),
+                    topics[participant] + 1,
+                    preferences.topics().get(topics[participant]),
+                    cost < preferences.choices().get(participant).size() ?
+                        String.format("choice %d", cost + 1) :
+                            "not preferred"
+                )
+            );
+        }
+        System.out.println(
+            String.format(
+                "Assigned %d participants to %d topics in %s with total preference cost %d (%d first choices).",
+                topics.length,
+                preferences.topics().size(),
+                target.getFileName(),
+                totalCost,
+                firstChoices
+            )
+        );
+    }
+
+}
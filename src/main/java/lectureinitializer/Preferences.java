@@ -0,0 +1,86 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.util.*;
+
+public record Preferences(List<String> topics, List<String> participants, List<List<Integer>> choices) {
+
+    public static Preferences fromFile(final File file) throws IOException {
+        try (TextInput input = TextInput.open(file.toPath())) {
+            return Preferences.fromReader(input.reader());
+        }
+    }
+
+    public static Preferences fromReader(final BufferedReader reader) throws IOException {
+        final int numOfTopics = Preferences.readCount(reader, "topics");
+        final List<String> topics = new ArrayList<String>(numOfTopics);
+        final Map<String, Integer> topicIndex = new HashMap<String, Integer>(numOfTopics * 2);
+        for (int i = 0; i < numOfTopics; i++) {
+            final String topic = Preferences.readLine(reader, "topic");
+            topics.add(topic);
+            topicIndex.putIfAbsent(topic.strip(), i);
+        }
+        final int numOfParticipants = Preferences.readCount(reader, "participants");
+        final List<String> participants = new ArrayList<String>(numOfParticipants);
+        final List<List<Integer>> choices = new ArrayList<List<Integer>>(numOfParticipants);
+        for (int i = 0; i < numOfParticipants; i++) {
+            final String line = Preferences.readLine(reader, "participant");
+            final int separator = line.indexOf(';');
+            participants.add((separator < 0 ? line : line.substring(0, separator)).strip());
+            final LinkedHashSet<Integer> choice = new LinkedHashSet<Integer>();
+            if (separator >= 0) {
+                for (final String entry : line.substring(separator + 1).split(",")) {
+                    if (!entry.isBlank()) {
+                        choice.add(Preferences.toTopic(entry.strip(), topicIndex, numOfTopics));
+                    }
+                }
+            }
+            choices.add(List.copyOf(choice));
+        }
+        return new Preferences(topics, participants, choices);
+    }
+
+    private static int readCount(final BufferedReader reader, final String what) throws IOException {
+        final String line = Preferences.readLine(reader, "number of " + what);
+        try {
+            return Integer.parseInt(line.strip());
+        } catch (final NumberFormatException e) {
+            throw new IOException(String.format("Expected the number of %s but found %s!", what, line));
+        }
+    }
+
+    private static String readLine(final BufferedReader reader, final String what) throws IOException {
+        final String line = reader.readLine();
+        if (line == null) {
+            throw new IOException(String.format("Preferences file ends before the next %s!", what));
+        }
+        return line;
+    }
+
+    private static int toTopic(
+        final String entry,
+        final Map<String, Integer> topicIndex,
+        final int numOfTopics
+    ) throws IOException {
+        final Integer byName = topicIndex.get(entry);
+        if (byName != null) {
+            return byName;
+        }
+        final int number;
+        try {
+            number = Integer.parseInt(entry);
+        } catch (final NumberFormatException e) {
+            throw new IOException(String.format("Unknown topic %s in preferences!", entry));
+        }
+        if (number < 1 || number > numOfTopics) {
+            throw new IOException(String.format("Unknown topic %s in preferences!", entry));
+        }
+        return number - 1;
+    }
+
+    public int cost(final int participant, final int topic) {
+        final int rank = this.choices().get(participant).indexOf(topic);
+        return rank < 0 ? this.topics().size() : rank;
+    }
+
+}
@@ -0,0 +1,582 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+public class ProtocolGradebook {
+
+    public static record Part(String name, List<String> criteria, double maxPoints) {}
+
+    public static record Protocol(
+        String file,
+        String student,
+        double[][] criteria,
+        double[] parts,
+        double points,
+        List<String> warnings
+    ) {}
+
+    private static record Scan(String student, Map<String, ScannedPart> parts) {}
+
+    private static class MacroTokenizer {
+
+        private final CharSequence content;
+
+        private int line;
+
+        private int position;
+
+        private MacroTokenizer(final CharSequence content) {
+            this.content = content;
+            this.line = 1;
+            this.position = 0;
+        }
+
+        private String argument() {
+            if (this.position >= this.content.length() || this.content.charAt(this.position) != '{') {
+                return null;
+            }
+            final int start = this.position + 1;
+            int depth = 0;
+            while (this.position < this.content.length()) {
+                final char c = this.content.charAt(this.position++);
+                switch (c) {
+                case '\\':
+                    this.skip();
+                    break;
+                case '{':
+                    depth++;
+                    break;
+                case '}':
+                    depth--;
+                    if (depth == 0) {
+                        return this.content.subSequence(start, this.position - 1).toString();
+                    }
+                    break;
+                case '\n':
+                    this.line++;
+                    break;
+                default:
+                    break;
+                }
+            }
+            return this.content.subSequence(start, this.content.length()).toString();
+        }
+
+        private boolean isLetter(final char c) {
+            return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+        }
+
+        private String next() {
+            while (this.position < this.content.length()) {
+                final char c = this.content.charAt(this.position++);
+                switch (c) {
+                case '\\':
+                    final int start = this.position;
+                    while (this.position < this.content.length() && this.isLetter(this.content.charAt(this.position))) {
+                        this.position++;
+                    }
+                    if (this.position > start) {
+                        return this.content.subSequence(start, this.position).toString();
+                    }
+                    this.skip();
+                    break;
+                case '%':
+                    while (this.position < this.content.length() && this.content.charAt(this.position) != '\n') {
+                        this.position++;
+                    }
+                    break;
+                case '\n':
+                    this.line++;
+                    break;
+                default:
+                    break;
+                }
+            }
+            return null;
+        }
+
+        private void skip() {
+            if (this.position < this.content.length()) {
+                if (this.content.charAt(this.position) == '\n') {
+                    this.line++;
+                }
+                this.position++;
+            }
+        }
+
+    }
+
+    private static class ScannedPart {
+
+        private double contributions;
+
+        private final Map<String, Double> criteria;
+
+        private final int line;
+
+        private final Map<String, Integer> lines;
+
+        private Double result;
+
+        private ScannedPart(final int line) {
+            this.line = line;
+            this.criteria = new LinkedHashMap<String, Double>();
+            this.lines = new HashMap<String, Integer>();
+        }
+
+        private void add(final String criterion, final double points, final int line) {
+            this.criteria.merge(criterion, points, Math::max);
+            this.lines.putIfAbsent(criterion, line);
+        }
+
+    }
+
+    public static final String FILE_NAME = "gradebook.csv";
+
+    private static final Map<String, Double> FIXED_POINTS = Map.of("handoutdefault", 0.0, "quizpassed", 4.0);
+
+    private static final double[] GRADES = {1.0, 1.3, 1.7, 2.0, 2.3, 2.7, 3.0, 3.3, 3.7, 4.0};
+
+    private static final String PROTOCOL_PREFIX = "protokoll";
+
+    private static final ConcurrentMap<TalkMode, List<Part>> RUBRICS = new ConcurrentHashMap<TalkMode, List<Part>>();
+
+    public static List<ProtocolGradebook> fromDirectory(final Path root, final int parallelism) throws IOException {
+        final List<Path> directories;
+        try (Stream<Path> stream = Files.walk(root)) {
+            directories =
+                stream
+                .filter(path -> Files.isDirectory(path) && path.getFileName().toString().equals("protocols"))
+                .sorted()
+                .toList();
+        }
+        final List<ProtocolGradebook> result = new ArrayList<ProtocolGradebook>(directories.size());
+        final List<Path> files = new ArrayList<Path>();
+        final List<ProtocolGradebook> owners = new ArrayList<ProtocolGradebook>();
+        for (final Path directory : directories) {
+            final ProtocolGradebook gradebook =
+                new ProtocolGradebook(directory.getParent(), ProtocolGradebook.talkMode(directory));
+            result.add(gradebook);
+            try (Stream<Path> stream = Files.list(directory)) {
+                stream
+                .filter(ProtocolGradebook::isProtocol)
+                .sorted()
+                .forEach(
+                    file -> {
+                        files.add(file);
+                        owners.add(gradebook);
+                    }
+                );
+            }
+        }
+        final List<Future<Protocol>> futures = new ArrayList<Future<Protocol>>(files.size());
+        try (
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())))
+        ) {
+            for (int i = 0; i < files.size(); i++) {
+                final Path file = files.get(i);
+                final List<Part> parts = owners.get(i).parts;
+                futures.add(executor.submit(() -> ProtocolGradebook.grade(file, parts)));
+            }
+        }
+        final List<String> failedFiles = new ArrayList<String>();
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                owners.get(i).protocols.add(futures.get(i).get());
+            } catch (final ExecutionException e) {
+                failedFiles.add(files.get(i).toString());
+                failures.add(e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while grading protocols!");
+            }
+        }
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(String.format("Could not grade protocols %s!", String.join(", ", failedFiles)));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return result;
+    }
+
+    public static double grade(final double points, final double maxPoints) {
+        final double percent = maxPoints == 0 ? 0 : points * 100 / maxPoints;
+        for (int i = 0; i < ProtocolGradebook.GRADES.length; i++) {
+            if (percent >= 95 - 5 * i) {
+                return ProtocolGradebook.GRADES[i];
+            }
+        }
+        return 5.0;
+    }
+
+    public static List<Part> parts(final TalkMode talkMode) {
+        return ProtocolGradebook.RUBRICS.computeIfAbsent(talkMode, ProtocolGradebook::loadRubric);
+    }
+
+    public static void writeGradebooks(final File root) throws IOException {
+        final List<ProtocolGradebook> gradebooks =
+            ProtocolGradebook.fromDirectory(root.toPath(), Runtime.getRuntime().availableProcessors());
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            for (final ProtocolGradebook gradebook : gradebooks) {
+                files.writeText(gradebook.classDirectory.resolve(ProtocolGradebook.FILE_NAME), gradebook::writeTable);
+            }
+            files.complete();
+        }
+        int protocols = 0;
+        int warnings = 0;
+        for (final ProtocolGradebook gradebook : gradebooks) {
+            gradebook.writeReportToConsole();
+            protocols += gradebook.protocols.size();
+            warnings += gradebook.warnings().size();
+        }
+        System.out.println(
+            String.format(
+                "Graded %d protocols of %d classes with %d warnings.",
+                protocols,
+                gradebooks.size(),
+                warnings
+            )
+        );
+    }
+
+    private static String format(final double number) {
+        return number == Math.rint(number) ?
+            String.valueOf((long)number) :
+                String.format(Locale.ROOT, "%.1f", number);
+    }
+
+    private static Protocol grade(final Path file, final List<Part> parts) throws IOException {
+        final String name = file.getFileName().toString();
+        final Scan scan;
+        try (TextInput input = TextInput.open(file)) {
+            scan = ProtocolGradebook.scan(input.content());
+        }
+        final List<String> warnings = new ArrayList<String>();
+        final double[][] criteria = new double[parts.size()][];
+        final double[] partPoints = new double[parts.size()];
+        double points = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            final Part part = parts.get(i);
+            criteria[i] = new double[part.criteria().size()];
+            final ScannedPart scanned = scan.parts().get(part.name());
+            if (scanned == null) {
+                warnings.add(String.format("%s: Part %s is missing!", name, part.name()));
+                continue;
+            }
+            for (int j = 0; j < criteria[i].length; j++) {
+                criteria[i][j] = scanned.criteria.getOrDefault(part.criteria().get(j), 0.0);
+                partPoints[i] += criteria[i][j];
+            }
+            for (final String criterion : scanned.criteria.keySet()) {
+                if (!part.criteria().contains(criterion)) {
+                    warnings.add(
+                        String.format(
+                            "%s:%d: Unknown criterion %s in part %s is not graded!",
+                            name,
+                            scanned.lines.get(criterion),
+                            criterion,
+                            part.name()
+                        )
+                    );
+                }
+            }
+            partPoints[i] += scanned.contributions;
+            if (partPoints[i] > part.maxPoints()) {
+                warnings.add(
+                    String.format(
+                        "%s:%d: Part %s yields %s of %s points!",
+                        name,
+                        scanned.line,
+                        part.name(),
+                        ProtocolGradebook.format(partPoints[i]),
+                        ProtocolGradebook.format(part.maxPoints())
+                    )
+                );
+            }
+            points += partPoints[i];
+        }
+        if (scan.student() == null) {
+            warnings.add(String.format("%s: Protocol names no student!", name));
+        }
+        return new Protocol(
+            name,
+            scan.student() == null ? name : scan.student(),
+            criteria,
+            partPoints,
+            points,
+            warnings
+        );
+    }
+
+    private static boolean isProtocol(final Path file) {
+        final String name = file.getFileName().toString();
+        return name.startsWith(ProtocolGradebook.PROTOCOL_PREFIX) && name.endsWith(".tex") && Files.isRegularFile(file);
+    }
+
+    private static List<Part> loadRubric(final TalkMode talkMode) {
+        final String resource = String.format("protocolTemplates/%s.tex", talkMode.name());
+        try (InputStream stream = ProtocolGradebook.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException(String.format("No protocol template found for %s!", talkMode));
+            }
+            final Scan scan;
+            try (TextInput input = TextInput.decode(stream.readAllBytes())) {
+                scan = ProtocolGradebook.scan(input.content());
+            }
+            final List<Part> result = new ArrayList<Part>();
+            for (final Map.Entry<String, ScannedPart> entry : scan.parts().entrySet()) {
+                final ScannedPart part = entry.getValue();
+                if (part.criteria.isEmpty() && part.result == null) {
+                    continue;
+                }
+                result.add(
+                    new Part(
+                        entry.getKey(),
+                        List.copyOf(part.criteria.keySet()),
+                        part.result == null ?
+                            part.criteria.values().stream().mapToDouble(Double::doubleValue).sum() :
+                                part.result
+                    )
+                );
+            }
+            return Collections.unmodifiableList(result);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int romanValue(final char c) {
+        switch (c) {
+        case 'i':
+            return 1;
+        case 'v':
+            return 5;
+        case 'x':
+            return 10;
+        default:
+            return 0;
+        }
+    }
+
+    private static Scan scan(final CharSequence content) {
+        final MacroTokenizer tokenizer = new MacroTokenizer(content);
+        final Map<String, ScannedPart> parts = new LinkedHashMap<String, ScannedPart>();
+        String student = null;
+        ScannedPart part = null;
+        for (String macro = tokenizer.next(); macro != null; macro = tokenizer.next()) {
+            switch (macro) {
+            case "newcommand":
+                final String name = tokenizer.argument();
+                if ("\\student".equals(name)) {
+                    student = ProtocolGradebook.unescape(tokenizer.argument());
+                    part = null;
+                } else if (name != null && name.startsWith("\\")) {
+                    part = new ScannedPart(tokenizer.line);
+                    parts.put(name.substring(1), part);
+                }
+                break;
+            case "evaluationpartresult":
+                final Double result = ProtocolGradebook.toNumber(tokenizer.argument());
+                if (part != null && result != null) {
+                    part.result = result;
+                }
+                break;
+            case "contributionvalue":
+                final Double contribution = ProtocolGradebook.toNumber(tokenizer.argument());
+                if (part != null && contribution != null) {
+                    part.contributions += contribution;
+                }
+                break;
+            default:
+                if (part == null) {
+                    break;
+                }
+                final int suffix = ProtocolGradebook.suffixStart(macro);
+                final boolean fixed = ProtocolGradebook.FIXED_POINTS.containsKey(macro);
+                if (suffix == 0 || suffix == macro.length() && !fixed) {
+                    break;
+                }
+                final String argument = tokenizer.argument();
+                if (argument == null || !argument.isBlank()) {
+                    break;
+                }
+                if (fixed) {
+                    part.add(macro, ProtocolGradebook.FIXED_POINTS.get(macro), tokenizer.line);
+                } else {
+                    part.add(
+                        macro.substring(0, suffix),
+                        ProtocolGradebook.toLevel(macro.substring(suffix)),
+                        tokenizer.line
+                    );
+                }
+            }
+        }
+        return new Scan(student, parts);
+    }
+
+    private static int suffixStart(final String macro) {
+        int result = macro.length();
+        while (result > 0 && ProtocolGradebook.romanValue(macro.charAt(result - 1)) > 0) {
+            result--;
+        }
+        return result;
+    }
+
+    private static int toLevel(final String numeral) {
+        int result = 0;
+        for (int i = 0; i < numeral.length(); i++) {
+            final int value = ProtocolGradebook.romanValue(numeral.charAt(i));
+            final int next = i + 1 < numeral.length() ? ProtocolGradebook.romanValue(numeral.charAt(i + 1)) : 0;
+            result += value < next ? -value : value;
+        }
+        return result;
+    }
+
+    private static Double toNumber(final String argument) {
+        if (argument == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(argument.strip().replace(',', '.'));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static TalkMode talkMode(final Path protocols) throws IOException {
+        final Path meta = protocols.getParent().resolveSibling("meta.txt");
+        if (!Files.isRegularFile(meta)) {
+            throw new IOException(String.format("No meta.txt found for the protocols in %s!", protocols));
+        }
+        final String mode = MetaFile.fromFile(meta.toFile()).mode().orElse("");
+        for (final TalkMode talkMode : TalkMode.values()) {
+            if (talkMode.name().equals(mode)) {
+                return talkMode;
+            }
+        }
+        throw new IOException(String.format("%s names no talk mode for the protocols in %s!", meta, protocols));
+    }
+
+    private static String unescape(final String text) {
+        if (text == null) {
+            return null;
+        }
+        return text.replaceAll("\\\\([&%$#_{}])", "$1").strip();
+    }
+
+    private final Path classDirectory;
+
+    private final List<Part> parts;
+
+    private final List<Protocol> protocols;
+
+    private final TalkMode talkMode;
+
+    private ProtocolGradebook(final Path classDirectory, final TalkMode talkMode) {
+        this.classDirectory = classDirectory;
+        this.talkMode = talkMode;
+        this.parts = ProtocolGradebook.parts(talkMode);
+        this.protocols = new ArrayList<Protocol>();
+    }
+
+    public double averageGrade() {
+        return this.protocols.stream().mapToDouble(this::grade).average().orElse(0);
+    }
+
+    public Path classDirectory() {
+        return this.classDirectory;
+    }
+
+    public double grade(final Protocol protocol) {
+        return ProtocolGradebook.grade(protocol.points(), this.maxPoints());
+    }
+
+    public double maxPoints() {
+        return this.parts.stream().mapToDouble(Part::maxPoints).sum();
+    }
+
+    public List<Part> parts() {
+        return this.parts;
+    }
+
+    public List<Protocol> protocols() {
+        return Collections.unmodifiableList(this.protocols);
+    }
+
+    public TalkMode talkMode() {
+        return this.talkMode;
+    }
+
+    public List<String> warnings() {
+        return this.protocols.stream().flatMap(protocol -> protocol.warnings().stream()).toList();
+    }
+
+    public void writeReportToConsole() {
+        for (final String warning : this.warnings()) {
+            System.out.println(warning);
+        }
+        System.out.println(
+            String.format(
+                Locale.ROOT,
+                "%s (%s): %d protocols, average grade %.1f",
+                this.classDirectory.getFileName(),
+                this.talkMode,
+                this.protocols.size(),
+                this.averageGrade()
+            )
+        );
+    }
+
+    public void writeTable(final BufferedWriter writer) throws IOException {
+        final Set<String> unique = new HashSet<String>();
+        final Set<String> duplicates = new HashSet<String>();
+        for (final Part part : this.parts) {
+            for (final String criterion : part.criteria()) {
+                if (!unique.add(criterion)) {
+                    duplicates.add(criterion);
+                }
+            }
+        }
+        writer.write("Student");
+        for (final Part part : this.parts) {
+            for (final String criterion : part.criteria()) {
+                writer.write(";");
+                writer.write(duplicates.contains(criterion) ? part.name() + "/" + criterion : criterion);
+            }
+        }
+        for (final Part part : this.parts) {
+            writer.write(";");
+            writer.write(part.name());
+        }
+        writer.write(";Points;Max;Grade\n");
+        for (final Protocol protocol : this.protocols) {
+            writer.write(protocol.student());
+            for (final double[] criteria : protocol.criteria()) {
+                for (final double points : criteria) {
+                    writer.write(";");
+                    writer.write(ProtocolGradebook.format(points));
+                }
+            }
+            for (final double points : protocol.parts()) {
+                writer.write(";");
+                writer.write(ProtocolGradebook.format(points));
+            }
+            writer.write(
+                String.format(
+                    Locale.ROOT,
+                    ";%s;%s;%.1f\n",
+                    ProtocolGradebook.format(protocol.points()),
+                    ProtocolGradebook.format(this.maxPoints()),
+                    this.grade(protocol)
+                )
+            );
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class ProtocolTemplate {
+
+    public static enum Slot {
+
+        DATE, PLACE, STUDENT, SUBJECT, TITLE;
+
+    }
+
+    private static final String SLOT_END = ">>";
+
+    private static final String SLOT_START = "<<";
+
+    private static final ConcurrentMap<TalkMode, ProtocolTemplate> TEMPLATES =
+        new ConcurrentHashMap<TalkMode, ProtocolTemplate>();
+
+    public static ProtocolTemplate compile(final String template) {
+        final List<byte[]> literals = new ArrayList<byte[]>();
+        final List<Slot> slots = new ArrayList<Slot>();
+        int position = 0;
+        int start = template.indexOf(ProtocolTemplate.SLOT_START);
+        while (start >= 0) {
+            final int end = template.indexOf(ProtocolTemplate.SLOT_END, start);
+            if (end < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Unterminated slot at position %d in protocol template!", start)
+                );
+            }
+            final String name = template.substring(start + ProtocolTemplate.SLOT_START.length(), end);
+            try {
+                slots.add(Slot.valueOf(name.toUpperCase()));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Unknown slot %s in protocol template!", name));
+            }
+            literals.add(template.substring(position, start).getBytes(StandardCharsets.UTF_8));
+            position = end + ProtocolTemplate.SLOT_END.length();
+            start = template.indexOf(ProtocolTemplate.SLOT_START, position);
+        }
+        literals.add(template.substring(position).getBytes(StandardCharsets.UTF_8));
+        return new ProtocolTemplate(
+            literals.toArray(new byte[literals.size()][]),
+            slots.toArray(new Slot[slots.size()])
+        );
+    }
+
+    public static ProtocolTemplate forTalkMode(final TalkMode talkMode) {
+        return ProtocolTemplate.TEMPLATES.computeIfAbsent(talkMode, ProtocolTemplate::load);
+    }
+
+    private static ProtocolTemplate load(final TalkMode talkMode) {
+        final String resource = String.format("protocolTemplates/%s.tex", talkMode.name());
+        try (InputStream stream = ProtocolTemplate.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException(String.format("No protocol template found for %s!", talkMode));
+            }
+            return ProtocolTemplate.compile(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final byte[][] literals;
+
+    private final Slot[] slots;
+
+    private ProtocolTemplate(final byte[][] literals, final Slot[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    public void render(final OutputStream stream, final Map<Slot, String> values) throws IOException {
+        final byte[][] encoded = new byte[Slot.values().length][];
+        for (final Map.Entry<Slot, String> entry : values.entrySet()) {
+            encoded[entry.getKey().ordinal()] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+        }
+        stream.write(this.literals[0]);
+        for (int i = 0; i < this.slots.length; i++) {
+            final byte[] value = encoded[this.slots[i].ordinal()];
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    String.format("No value given for slot %s in protocol template!", this.slots[i])
+                );
+            }
+            stream.write(value);
+            stream.write(this.literals[i + 1]);
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class QuizAnswerSheets {
+
+    private static final byte[] OWN_TALK = "-".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte SEPARATOR = ';';
+
+    private static final byte NEWLINE = '\n';
+
+    private static String[] toFileNames(final List<String> participants) {
+        final Map<String, Integer> lastNameCounts = new HashMap<String, Integer>();
+        for (final String participant : participants) {
+            lastNameCounts.merge(QuizAnswerSheets.lastName(participant), 1, Integer::sum);
+        }
+        final Set<String> used = new HashSet<String>();
+        final String[] result = new String[participants.size()];
+        for (int i = 0; i < result.length; i++) {
+            final String participant = participants.get(i);
+            final String lastName = QuizAnswerSheets.lastName(participant);
+            final String base =
+                lastNameCounts.get(lastName) > 1 ?
+                    participant.strip().toLowerCase().replaceAll("\\s+", "_") :
+                        lastName;
+            String fileName = base;
+            for (int suffix = 2; !used.add(fileName); suffix++) {
+                fileName = base + "_" + suffix;
+            }
+            result[i] = fileName + ".csv";
+        }
+        return result;
+    }
+
+    private static String lastName(final String participant) {
+        final String[] nameParts = participant.split(" ");
+        return nameParts[nameParts.length - 1].toLowerCase();
+    }
+
+    private final String[] fileNames;
+
+    private final byte[][] headers;
+
+    private final int[] offsets;
+
+    private final byte[] roster;
+
+    public QuizAnswerSheets(final List<String> participants) {
+        final int size = participants.size();
+        this.headers = new byte[size][];
+        this.offsets = new int[size + 1];
+        final ByteArrayOutputStream roster = new ByteArrayOutputStream(size * 24);
+        for (int i = 0; i < size; i++) {
+            final byte[] name = participants.get(i).getBytes(StandardCharsets.UTF_8);
+            this.headers[i] = Arrays.copyOf(name, name.length + 1);
+            this.headers[i][name.length] = QuizAnswerSheets.NEWLINE;
+            this.offsets[i] = roster.size();
+            roster.write(name, 0, name.length);
+            roster.write(QuizAnswerSheets.SEPARATOR);
+            roster.write(QuizAnswerSheets.NEWLINE);
+        }
+        this.offsets[size] = roster.size();
+        this.roster = roster.toByteArray();
+        this.fileNames = QuizAnswerSheets.toFileNames(participants);
+    }
+
+    public String fileName(final int speaker) {
+        return this.fileNames[speaker];
+    }
+
+    public int size() {
+        return this.headers.length;
+    }
+
+    public void writeMatrix(final GeneratedFiles files, final Path file) throws IOException {
+        files.write(file, this::writeMatrix);
+    }
+
+    public void writeMatrix(final OutputStream stream) throws IOException {
+        for (int speaker = 0; speaker < this.size(); speaker++) {
+            stream.write(QuizAnswerSheets.SEPARATOR);
+            stream.write(this.headers[speaker], 0, this.headers[speaker].length - 1);
+        }
+        stream.write(QuizAnswerSheets.NEWLINE);
+        final byte[] emptyCells = new byte[this.size()];
+        Arrays.fill(emptyCells, QuizAnswerSheets.SEPARATOR);
+        for (int participant = 0; participant < this.size(); participant++) {
+            stream.write(this.headers[participant], 0, this.headers[participant].length - 1);
+            stream.write(emptyCells, 0, participant + 1);
+            stream.write(QuizAnswerSheets.OWN_TALK);
+            stream.write(emptyCells, 0, this.size() - participant - 1);
+            stream.write(QuizAnswerSheets.NEWLINE);
+        }
+    }
+
+    public void writeSheet(final GeneratedFiles files, final Path quizAnswers, final int speaker) throws IOException {
+        files.write(
+            quizAnswers.resolve(this.fileNames[speaker]),
+            stream -> this.writeSheet(stream, speaker)
+        );
+    }
+
+    public void writeSheet(final OutputStream stream, final int speaker) throws IOException {
+        stream.write(this.headers[speaker]);
+        stream.write(this.roster, 0, this.offsets[speaker]);
+        stream.write(this.roster, this.offsets[speaker + 1], this.roster.length - this.offsets[speaker + 1]);
+    }
+
+    public void writeSheets(final GeneratedFiles files, final Path quizAnswers) throws IOException {
+        for (int speaker = 0; speaker < this.size(); speaker++) {
+            this.writeSheet(files, quizAnswers, speaker);
+        }
+    }
+
+}
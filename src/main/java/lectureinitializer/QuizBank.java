@@ -0,0 +1,462 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.random.*;
+import java.util.stream.*;
+
+public class QuizBank {
+
+    public static record Source(String path, String topic, long modified, long size, int first, int count) {}
+
+    public static final String FILE_NAME = "quizbank.bin";
+
+    private static final int HEADER_SIZE = 20;
+
+    private static final int MAGIC = 0x4C495142;
+
+    private static final int SOURCE_SIZE = 32;
+
+    private static final int TOPIC_SIZE = 12;
+
+    public static void assembleQuiz(
+        final File root,
+        final File output,
+        final List<String> topics,
+        final int count,
+        final long seed
+    ) throws IOException {
+        final QuizBank bank = QuizBank.open(root.toPath().resolve(QuizBank.FILE_NAME));
+        final List<String> selected = topics.isEmpty() ? bank.topics() : topics;
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<QuizQuestion> questions = bank.sample(selected, count, random);
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.writeText(
+                output.toPath(),
+                writer -> {
+                    final List<Character> correctAnswers =
+                        QuizQuestions.writeQuiz(writer, String.join(", ", selected), questions, random);
+                    writer.write("% ");
+                    writer.write(correctAnswers.stream().map(String::valueOf).collect(Collectors.joining(";")));
+                    writer.write("\n\n\\end{document}\n\n");
+                }
+            );
+            files.complete();
+        }
+        System.out.println(
+            String.format(
+                "Drew %d of %d questions from %d topics with seed %d.",
+                questions.size(),
+                bank.size(selected),
+                selected.size(),
+                seed
+            )
+        );
+    }
+
+    public static QuizBank open(final Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException(
+                String.format("No quiz bank found at %s - build it with -%s first!", file, Flag.BANK.shortName())
+            );
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final QuizBank result = new QuizBank(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            result.validate();
+            return result;
+        }
+    }
+
+    public static void update(final File root) throws IOException {
+        QuizBank.update(root, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void update(final File root, final int parallelism) throws IOException {
+        final Path directory = root.toPath();
+        final Path bankFile = directory.resolve(QuizBank.FILE_NAME);
+        final List<Path> quizFiles;
+        try (Stream<Path> files = Files.walk(directory)) {
+            quizFiles =
+                files
+                .filter(Files::isRegularFile)
+                .filter(QuizBank::isQuizFile)
+                .sorted(Comparator.comparing(file -> QuizBank.toKey(directory, file)))
+                .toList();
+        }
+        final Map<String, Source> previousSources = new LinkedHashMap<String, Source>();
+        QuizBank previousBank = null;
+        if (Files.isRegularFile(bankFile)) {
+            try {
+                previousBank = QuizBank.open(bankFile);
+                for (final Source source : previousBank.sources()) {
+                    previousSources.put(source.path(), source);
+                }
+            } catch (final IOException e) {
+                System.out.println(String.format("Rebuilding %s from scratch: %s", QuizBank.FILE_NAME, e.getMessage()));
+            }
+        }
+        final List<Source> sources = new ArrayList<Source>(quizFiles.size());
+        final List<Path> changed = new ArrayList<Path>();
+        for (final Path file : quizFiles) {
+            final String key = QuizBank.toKey(directory, file);
+            final long modified = Files.getLastModifiedTime(file).toMillis();
+            final long size = Files.size(file);
+            final Source previous = previousSources.get(key);
+            if (previous != null && previous.modified() == modified && previous.size() == size) {
+                sources.add(previous);
+            } else {
+                sources.add(new Source(key, null, modified, size, 0, 0));
+                changed.add(file);
+            }
+        }
+        if (changed.isEmpty() && previousSources.size() == sources.size()) {
+            System.out.println(String.format("%s is up to date (%d quiz files).", QuizBank.FILE_NAME, sources.size()));
+            return;
+        }
+        final Map<String, List<QuizQuestion>> questions = new LinkedHashMap<String, List<QuizQuestion>>();
+        final Map<Path, Map.Entry<String, QuizQuestions>> parsed = QuizBank.parse(changed, parallelism);
+        for (int i = 0; i < sources.size(); i++) {
+            final Source source = sources.get(i);
+            if (source.topic() == null) {
+                final Map.Entry<String, QuizQuestions> entry = parsed.get(directory.resolve(source.path()));
+                final int count = entry.getValue().size();
+                sources.set(i, new Source(source.path(), entry.getKey(), source.modified(), source.size(), 0, count));
+                questions.put(source.path(), entry.getValue());
+            } else {
+                questions.put(source.path(), previousBank.questions(source.first(), source.count()));
+            }
+        }
+        final byte[] bank = QuizBank.encode(sources, questions);
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.write(bankFile, stream -> stream.write(bank));
+            files.complete();
+        }
+        System.out.println(
+            String.format(
+                "Wrote %d questions from %d quiz files to %s (%d parsed, %d reused, %d removed).",
+                questions.values().stream().mapToInt(List::size).sum(),
+                sources.size(),
+                QuizBank.FILE_NAME,
+                changed.size(),
+                sources.size() - changed.size(),
+                previousSources.size() - (sources.size() - changed.size())
+            )
+        );
+    }
+
+    static byte[] encode(
+        final List<Source> sources,
+        final Map<String, List<QuizQuestion>> questions
+    ) throws IOException {
+        final SortedMap<String, List<Source>> sourcesByTopic = new TreeMap<String, List<Source>>();
+        for (final Source source : sources) {
+            sourcesByTopic.computeIfAbsent(source.topic(), topic -> new ArrayList<Source>()).add(source);
+        }
+        final Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+        final ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        final List<Integer> recordOffsets = new ArrayList<Integer>();
+        final List<int[]> topicEntries = new ArrayList<int[]>(sourcesByTopic.size());
+        final Map<String, Source> encodedSources = new HashMap<String, Source>();
+        for (final Source source : sources) {
+            QuizBank.intern(source.path(), strings, stringTable);
+        }
+        try (DataOutputStream out = new DataOutputStream(records)) {
+            for (final Map.Entry<String, List<Source>> topic : sourcesByTopic.entrySet()) {
+                final int topicFirst = recordOffsets.size();
+                for (final Source source : topic.getValue()) {
+                    final int first = recordOffsets.size();
+                    for (final QuizQuestion question : questions.get(source.path())) {
+                        recordOffsets.add(out.size());
+                        out.writeInt(QuizBank.intern(question.question(), strings, stringTable));
+                        out.writeInt(QuizBank.intern(question.correctAnswer(), strings, stringTable));
+                        out.writeInt(question.wrongAnswers().size());
+                        for (final String wrongAnswer : question.wrongAnswers()) {
+                            out.writeInt(QuizBank.intern(wrongAnswer, strings, stringTable));
+                        }
+                    }
+                    encodedSources.put(
+                        source.path(),
+                        new Source(
+                            source.path(),
+                            source.topic(),
+                            source.modified(),
+                            source.size(),
+                            first,
+                            recordOffsets.size() - first
+                        )
+                    );
+                }
+                topicEntries.add(
+                    new int[] {
+                        QuizBank.intern(topic.getKey(), strings, stringTable),
+                        topicFirst,
+                        recordOffsets.size() - topicFirst
+                    }
+                );
+            }
+        }
+        final int recordsStart =
+            QuizBank.HEADER_SIZE
+            + sources.size() * QuizBank.SOURCE_SIZE
+            + topicEntries.size() * QuizBank.TOPIC_SIZE
+            + recordOffsets.size() * Integer.BYTES;
+        final int stringsStart = recordsStart + records.size();
+        final ByteBuffer buffer = ByteBuffer.allocate(stringsStart + stringTable.size());
+        buffer.putInt(QuizBank.MAGIC);
+        buffer.putInt(sources.size());
+        buffer.putInt(topicEntries.size());
+        buffer.putInt(recordOffsets.size());
+        buffer.putInt(stringsStart);
+        for (final Source source : sources) {
+            final Source encoded = encodedSources.get(source.path());
+            buffer.putInt(QuizBank.intern(encoded.path(), strings, stringTable));
+            buffer.putInt(QuizBank.intern(encoded.topic(), strings, stringTable));
+            buffer.putLong(encoded.modified());
+            buffer.putLong(encoded.size());
+            buffer.putInt(encoded.first());
+            buffer.putInt(encoded.count());
+        }
+        for (final int[] topic : topicEntries) {
+            buffer.putInt(topic[0]);
+            buffer.putInt(topic[1]);
+            buffer.putInt(topic[2]);
+        }
+        for (final int offset : recordOffsets) {
+            buffer.putInt(recordsStart + offset);
+        }
+        buffer.put(records.toByteArray());
+        buffer.put(stringTable.toByteArray());
+        return buffer.array();
+    }
+
+    private static int intern(
+        final String string,
+        final Map<String, Integer> strings,
+        final ByteArrayOutputStream stringTable
+    ) {
+        final Integer existing = strings.get(string);
+        if (existing != null) {
+            return existing;
+        }
+        final int offset = stringTable.size();
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        stringTable.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        stringTable.writeBytes(bytes);
+        strings.put(string, offset);
+        return offset;
+    }
+
+    private static boolean isQuizFile(final Path file) {
+        final String name = file.getFileName().toString().toLowerCase();
+        return name.startsWith("quiz") && name.endsWith(".txt");
+    }
+
+    private static Map<Path, Map.Entry<String, QuizQuestions>> parse(
+        final List<Path> files,
+        final int parallelism
+    ) throws IOException {
+        final Map<Path, Map.Entry<String, QuizQuestions>> result =
+            new LinkedHashMap<Path, Map.Entry<String, QuizQuestions>>();
+        if (files.isEmpty()) {
+            return result;
+        }
+        final List<Future<Map.Entry<String, QuizQuestions>>> futures =
+            new ArrayList<Future<Map.Entry<String, QuizQuestions>>>(files.size());
+        try (
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())))
+        ) {
+            for (final Path file : files) {
+                futures.add(executor.submit(() -> QuizBank.parse(file)));
+            }
+        }
+        final List<String> failedFiles = new ArrayList<String>();
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                result.put(files.get(i), futures.get(i).get());
+            } catch (final ExecutionException e) {
+                failedFiles.add(files.get(i).toString());
+                failures.add(e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while parsing quiz files!");
+            }
+        }
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(String.format("Could not parse quiz files %s!", String.join(", ", failedFiles)));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return result;
+    }
+
+    private static Map.Entry<String, QuizQuestions> parse(final Path file) throws IOException {
+        final QuizQuestions questions = QuizParser.parse(file, new SplittableRandom(0));
+        return Map.entry(questions.topic().strip(), questions);
+    }
+
+    private static String toKey(final Path root, final Path file) {
+        return root.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private final MappedByteBuffer buffer;
+
+    private final Path file;
+
+    private final Map<String, Integer> topicIndex;
+
+    private QuizBank(final Path file, final MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        this.topicIndex = new LinkedHashMap<String, Integer>();
+    }
+
+    public QuizQuestion question(final int index) {
+        final int offset = this.buffer.getInt(this.questionTable() + index * Integer.BYTES);
+        final int numOfWrongAnswers = this.buffer.getInt(offset + 8);
+        final List<String> wrongAnswers = new ArrayList<String>(numOfWrongAnswers);
+        for (int i = 0; i < numOfWrongAnswers; i++) {
+            wrongAnswers.add(this.string(this.buffer.getInt(offset + 12 + i * Integer.BYTES)));
+        }
+        return new QuizQuestion(
+            this.string(this.buffer.getInt(offset)),
+            this.string(this.buffer.getInt(offset + 4)),
+            wrongAnswers
+        );
+    }
+
+    public List<QuizQuestion> questions(final int first, final int count) {
+        final List<QuizQuestion> result = new ArrayList<QuizQuestion>(count);
+        for (int i = first; i < first + count; i++) {
+            result.add(this.question(i));
+        }
+        return result;
+    }
+
+    public List<QuizQuestion> sample(
+        final List<String> topics,
+        final int count,
+        final RandomGenerator random
+    ) throws IOException {
+        final int available = this.size(topics);
+        if (count < 0 || count > available) {
+            throw new IOException(
+                String.format("Cannot draw %d questions from %d available in %s!", count, available, topics)
+            );
+        }
+        final int[] pool = new int[available];
+        int next = 0;
+        for (final String topic : new LinkedHashSet<String>(topics)) {
+            final int entry = this.topicEntry(topic);
+            final int first = this.buffer.getInt(entry + 4);
+            final int size = this.buffer.getInt(entry + 8);
+            for (int i = 0; i < size; i++) {
+                pool[next++] = first + i;
+            }
+        }
+        final List<QuizQuestion> result = new ArrayList<QuizQuestion>(count);
+        for (int i = 0; i < count; i++) {
+            final int j = i + random.nextInt(available - i);
+            final int chosen = pool[j];
+            pool[j] = pool[i];
+            pool[i] = chosen;
+            final QuizQuestion question = this.question(chosen);
+            final List<String> wrongAnswers = new ArrayList<String>(question.wrongAnswers());
+            Collections.shuffle(wrongAnswers, random);
+            result.add(new QuizQuestion(question.question(), question.correctAnswer(), wrongAnswers));
+        }
+        return result;
+    }
+
+    public int size() {
+        return this.buffer.getInt(12);
+    }
+
+    public int size(final List<String> topics) throws IOException {
+        int result = 0;
+        for (final String topic : new LinkedHashSet<String>(topics)) {
+            result += this.buffer.getInt(this.topicEntry(topic) + 8);
+        }
+        return result;
+    }
+
+    public List<Source> sources() {
+        final int numOfSources = this.buffer.getInt(4);
+        final List<Source> result = new ArrayList<Source>(numOfSources);
+        for (int i = 0; i < numOfSources; i++) {
+            final int entry = QuizBank.HEADER_SIZE + i * QuizBank.SOURCE_SIZE;
+            result.add(
+                new Source(
+                    this.string(this.buffer.getInt(entry)),
+                    this.string(this.buffer.getInt(entry + 4)),
+                    this.buffer.getLong(entry + 8),
+                    this.buffer.getLong(entry + 16),
+                    this.buffer.getInt(entry + 24),
+                    this.buffer.getInt(entry + 28)
+                )
+            );
+        }
+        return result;
+    }
+
+    public List<String> topics() {
+        return List.copyOf(this.topicIndex.keySet());
+    }
+
+    private int questionTable() {
+        return this.topicTable() + this.buffer.getInt(8) * QuizBank.TOPIC_SIZE;
+    }
+
+    private String string(final int reference) {
+        final int offset = this.buffer.getInt(16) + reference;
+        final byte[] bytes = new byte[this.buffer.getInt(offset)];
+        this.buffer.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int topicEntry(final String topic) throws IOException {
+        final Integer index = this.topicIndex.get(topic);
+        if (index == null) {
+            throw new IOException(
+                String.format(
+                    "Topic %s not found in %s! Available topics: %s",
+                    topic,
+                    this.file.getFileName(),
+                    String.join(", ", this.topicIndex.keySet())
+                )
+            );
+        }
+        return this.topicTable() + index * QuizBank.TOPIC_SIZE;
+    }
+
+    private int topicTable() {
+        return QuizBank.HEADER_SIZE + this.buffer.getInt(4) * QuizBank.SOURCE_SIZE;
+    }
+
+    private void validate() throws IOException {
+        try {
+            if (
+                this.buffer.getInt(0) == QuizBank.MAGIC
+                && this.buffer.getInt(16) <= this.buffer.capacity()
+                && this.questionTable() + this.size() * Integer.BYTES <= this.buffer.getInt(16)
+            ) {
+                for (int i = 0; i < this.buffer.getInt(8); i++) {
+                    final int entry = this.topicTable() + i * QuizBank.TOPIC_SIZE;
+                    this.topicIndex.put(this.string(this.buffer.getInt(entry)), i);
+                }
+                return;
+            }
+        } catch (final IndexOutOfBoundsException | NegativeArraySizeException e) {
+            this.topicIndex.clear();
+        }
+        throw new IOException(String.format("%s is no quiz bank!", this.file.getFileName()));
+    }
+
+}
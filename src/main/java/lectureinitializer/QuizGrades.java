@@ -0,0 +1,548 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+public class QuizGrades {
+
+    private static record Row(int lineNumber, String participant, byte[] answers) {}
+
+    private static record Sheet(String file, String speaker, List<Row> rows, List<String> warnings) {}
+
+    public static final String FILE_NAME = "quizScores.csv";
+
+    private static final byte INVALID = -1;
+
+    private static final char NEWLINE = '\n';
+
+    private static final byte OWN_TALK = '-';
+
+    private static final char SEPARATOR = ';';
+
+    public static QuizGrades fromDirectory(final Path directory, final int parallelism) throws IOException {
+        final List<String> warnings = new ArrayList<String>();
+        final List<String> speakers = new ArrayList<String>();
+        final List<byte[]> solutions = new ArrayList<byte[]>();
+        final Path solutionFile = directory.resolve("quizSolutions.csv");
+        if (!Files.isRegularFile(solutionFile)) {
+            throw new IOException(String.format("No quizSolutions.csv found in %s!", directory));
+        }
+        final Sheet solutionSheet = QuizGrades.readSheet(solutionFile, false);
+        warnings.addAll(solutionSheet.warnings());
+        for (final Row row : solutionSheet.rows()) {
+            speakers.add(row.participant());
+            solutions.add(QuizGrades.toSolution(row, warnings));
+        }
+        final Path sheetDirectory = directory.resolve("quizAnswers");
+        final List<Path> files = new ArrayList<Path>();
+        if (Files.isDirectory(sheetDirectory)) {
+            try (Stream<Path> stream = Files.list(sheetDirectory)) {
+                stream.filter(file -> file.getFileName().toString().endsWith(".csv")).sorted().forEach(files::add);
+            }
+        }
+        final Path matrixFile = directory.resolve("quizAnswers.csv");
+        final List<Future<List<Sheet>>> futures = new ArrayList<Future<List<Sheet>>>(files.size() + 1);
+        try (
+            ExecutorService executor =
+                Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size() + 1)))
+        ) {
+            for (final Path file : files) {
+                futures.add(executor.submit(() -> List.of(QuizGrades.readSheet(file, true))));
+            }
+            if (Files.isRegularFile(matrixFile)) {
+                futures.add(executor.submit(() -> QuizGrades.readMatrix(matrixFile)));
+            }
+        }
+        final QuizGrades result = new QuizGrades(speakers, solutions, warnings);
+        final List<String> failedFiles = new ArrayList<String>();
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                for (final Sheet sheet : futures.get(i).get()) {
+                    result.add(sheet);
+                }
+            } catch (final ExecutionException e) {
+                failedFiles.add(i < files.size() ? files.get(i).getFileName().toString() : matrixFile.toString());
+                failures.add(e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading quiz answers!");
+            }
+        }
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(String.format("Could not read quiz answers %s!", String.join(", ", failedFiles)));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+        result.score();
+        return result;
+    }
+
+    public static void gradeQuizzes(final File directory) throws IOException {
+        final QuizGrades grades =
+            QuizGrades.fromDirectory(directory.toPath(), Runtime.getRuntime().availableProcessors());
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.writeText(directory.toPath().resolve(QuizGrades.FILE_NAME), grades::writeTable);
+            files.complete();
+        }
+        grades.writeReportToConsole();
+    }
+
+    private static byte[] encode(
+        final CharSequence content,
+        final int from,
+        final int to,
+        final String file,
+        final int lineNumber,
+        final List<String> warnings
+    ) {
+        int numOfFields = 1;
+        for (int i = from; i < to; i++) {
+            if (content.charAt(i) == QuizGrades.SEPARATOR) {
+                numOfFields++;
+            }
+        }
+        final byte[] result = new byte[numOfFields];
+        int field = 0;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || content.charAt(i) == QuizGrades.SEPARATOR) {
+                result[field] = QuizGrades.toAnswer(content, start, i, file, lineNumber, warnings);
+                field++;
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isBlank(final char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static boolean isEmpty(final byte[] answers) {
+        for (final byte answer : answers) {
+            if (answer != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static int lineEnd(final CharSequence content, final int start) {
+        int end = start;
+        while (end < content.length() && content.charAt(end) != QuizGrades.NEWLINE) {
+            end++;
+        }
+        return end;
+    }
+
+    private static List<Sheet> readMatrix(final Path file) throws IOException {
+        try (TextInput input = TextInput.open(file)) {
+            return QuizGrades.readMatrix(file.getFileName().toString(), input.content());
+        }
+    }
+
+    private static List<Sheet> readMatrix(final String name, final CharSequence content) {
+        final List<String> warnings = new ArrayList<String>();
+        final List<String> speakers = new ArrayList<String>();
+        final List<List<Row>> rows = new ArrayList<List<Row>>();
+        int lineNumber = 0;
+        int start = 0;
+        while (start < content.length()) {
+            final int end = QuizGrades.lineEnd(content, start);
+            lineNumber++;
+            final List<String> cells = QuizGrades.split(content, start, end);
+            if (lineNumber == 1) {
+                for (final String speaker : cells.subList(Math.min(1, cells.size()), cells.size())) {
+                    speakers.add(speaker.strip());
+                    rows.add(new ArrayList<Row>());
+                }
+            } else if (cells.size() > 1 || !cells.getFirst().isBlank()) {
+                if (cells.size() > speakers.size() + 1) {
+                    warnings.add(
+                        String.format("%s:%d: Row has more cells than the header has speakers!", name, lineNumber)
+                    );
+                }
+                for (int speaker = 0; speaker < Math.min(speakers.size(), cells.size() - 1); speaker++) {
+                    final byte[] answers = QuizGrades.toAnswers(cells.get(speaker + 1), name, lineNumber, warnings);
+                    if (answers != null) {
+                        rows.get(speaker).add(new Row(lineNumber, cells.getFirst().strip(), answers));
+                    }
+                }
+            }
+            start = end + 1;
+        }
+        final List<Sheet> result = new ArrayList<Sheet>(speakers.size());
+        for (int speaker = 0; speaker < speakers.size(); speaker++) {
+            result.add(new Sheet(name, speakers.get(speaker), rows.get(speaker), List.of()));
+        }
+        if (!warnings.isEmpty()) {
+            result.add(new Sheet(name, null, List.of(), warnings));
+        }
+        return result;
+    }
+
+    private static Sheet readSheet(final Path file, final boolean withSpeaker) throws IOException {
+        try (TextInput input = TextInput.open(file)) {
+            return QuizGrades.readSheet(file.getFileName().toString(), input.content(), withSpeaker);
+        }
+    }
+
+    private static Sheet readSheet(final String name, final CharSequence content, final boolean withSpeaker) {
+        final List<String> warnings = new ArrayList<String>();
+        final List<Row> rows = new ArrayList<Row>();
+        String speaker = null;
+        int lineNumber = 0;
+        int start = 0;
+        while (start < content.length()) {
+            final int end = QuizGrades.lineEnd(content, start);
+            lineNumber++;
+            if (withSpeaker && speaker == null) {
+                speaker = content.subSequence(start, end).toString().strip();
+            } else {
+                int separator = start;
+                while (separator < end && content.charAt(separator) != QuizGrades.SEPARATOR) {
+                    separator++;
+                }
+                final String participant = content.subSequence(start, separator).toString();
+                if (separator < end) {
+                    rows.add(
+                        new Row(
+                            lineNumber,
+                            participant.strip(),
+                            QuizGrades.encode(content, separator + 1, end, name, lineNumber, warnings)
+                        )
+                    );
+                } else if (!participant.isBlank()) {
+                    warnings.add(String.format("%s:%d: Row has no separator after the name!", name, lineNumber));
+                }
+            }
+            start = end + 1;
+        }
+        return new Sheet(name, speaker, rows, warnings);
+    }
+
+    private static List<String> split(final CharSequence content, final int from, final int to) {
+        final List<String> result = new ArrayList<String>();
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || content.charAt(i) == QuizGrades.SEPARATOR) {
+                result.add(content.subSequence(start, i).toString());
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    private static byte toAnswer(
+        final CharSequence content,
+        final int from,
+        final int to,
+        final String file,
+        final int lineNumber,
+        final List<String> warnings
+    ) {
+        int start = from;
+        int end = to;
+        while (start < end && QuizGrades.isBlank(content.charAt(start))) {
+            start++;
+        }
+        while (end > start && QuizGrades.isBlank(content.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return 0;
+        }
+        if (end - start == 1 && QuizGrades.isLetter(content.charAt(start))) {
+            return (byte)(content.charAt(start) | 0x20);
+        }
+        warnings.add(
+            String.format(
+                "%s:%d: %s is no single answer letter!",
+                file,
+                lineNumber,
+                content.subSequence(start, end).toString()
+            )
+        );
+        return 0;
+    }
+
+    private static byte[] toAnswers(
+        final String cell,
+        final String file,
+        final int lineNumber,
+        final List<String> warnings
+    ) {
+        final String stripped = cell.strip();
+        if (stripped.equals(String.valueOf((char)QuizGrades.OWN_TALK))) {
+            return null;
+        }
+        final byte[] result = new byte[stripped.length()];
+        int size = 0;
+        for (int i = 0; i < stripped.length(); i++) {
+            final char c = stripped.charAt(i);
+            if (QuizGrades.isLetter(c)) {
+                result[size++] = (byte)(c | 0x20);
+            } else if (c != ' ' && c != ',') {
+                warnings.add(String.format("%s:%d: %s contains no answer letters only!", file, lineNumber, stripped));
+                return null;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static byte[] toSolution(final Row row, final List<String> warnings) {
+        final byte[] result = row.answers();
+        if (result.length == 1 && result[0] == 0) {
+            return new byte[0];
+        }
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] == 0) {
+                warnings.add(
+                    String.format(
+                        "quizSolutions.csv:%d: Question %d of %s has no solution and is not graded!",
+                        row.lineNumber(),
+                        i + 1,
+                        row.participant()
+                    )
+                );
+                result[i] = QuizGrades.INVALID;
+            }
+        }
+        return result;
+    }
+
+    private final int[] answerRows;
+
+    private final byte[][][] answers;
+
+    private final int[][] correct;
+
+    private final int[] maxPoints;
+
+    private final Map<String, Integer> participantIndex;
+
+    private final byte[][] solutions;
+
+    private final List<String> speakers;
+
+    private final List<String> warnings;
+
+    private QuizGrades(final List<String> speakers, final List<byte[]> solutions, final List<String> warnings) {
+        this.speakers = speakers;
+        this.solutions = solutions.toArray(new byte[solutions.size()][]);
+        this.warnings = warnings;
+        this.answers = new byte[speakers.size()][speakers.size()][];
+        this.correct = new int[speakers.size()][speakers.size()];
+        this.answerRows = new int[speakers.size()];
+        this.maxPoints = new int[speakers.size()];
+        this.participantIndex = new HashMap<String, Integer>();
+        for (int i = 0; i < speakers.size(); i++) {
+            this.participantIndex.putIfAbsent(speakers.get(i), i);
+        }
+    }
+
+    public int answerRows(final int speaker) {
+        return this.answerRows[speaker];
+    }
+
+    public int correct(final int speaker, final int participant) {
+        return this.correct[speaker][participant];
+    }
+
+    public boolean hasAnswered(final int speaker, final int participant) {
+        return this.answers[speaker][participant] != null;
+    }
+
+    public boolean hasQuiz(final int speaker) {
+        return this.maxPoints[speaker] > 0;
+    }
+
+    public int maxPoints(final int speaker) {
+        return this.maxPoints[speaker];
+    }
+
+    public int points(final int participant) {
+        int result = 0;
+        for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+            result += this.correct[speaker][participant];
+        }
+        return result;
+    }
+
+    public int possiblePoints(final int participant) {
+        int result = 0;
+        for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+            if (speaker != participant) {
+                result += this.maxPoints[speaker];
+            }
+        }
+        return result;
+    }
+
+    public List<String> speakers() {
+        return Collections.unmodifiableList(this.speakers);
+    }
+
+    public List<String> warnings() {
+        return Collections.unmodifiableList(this.warnings);
+    }
+
+    public void writeReportToConsole() {
+        for (final String warning : this.warnings) {
+            System.out.println(warning);
+        }
+        int rows = 0;
+        int quizzes = 0;
+        for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+            if (!this.hasQuiz(speaker)) {
+                continue;
+            }
+            quizzes++;
+            rows += this.answerRows[speaker];
+            System.out.println(
+                String.format(
+                    Locale.ROOT,
+                    "%s: %.2f of %d points on average (%d answer rows)",
+                    this.speakers.get(speaker),
+                    this.average(speaker),
+                    this.maxPoints[speaker],
+                    this.answerRows[speaker]
+                )
+            );
+        }
+        System.out.println(
+            String.format(
+                "Graded %d answer rows for %d quizzes with %d warnings.",
+                rows,
+                quizzes,
+                this.warnings.size()
+            )
+        );
+    }
+
+    public void writeTable(final BufferedWriter writer) throws IOException {
+        writer.write("Participant");
+        for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+            if (this.hasQuiz(speaker)) {
+                writer.write(";");
+                writer.write(this.speakers.get(speaker));
+            }
+        }
+        writer.write(";Points;Max;Percent\n");
+        for (int participant = 0; participant < this.speakers.size(); participant++) {
+            writer.write(this.speakers.get(participant));
+            for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+                if (!this.hasQuiz(speaker)) {
+                    continue;
+                }
+                writer.write(";");
+                if (speaker == participant) {
+                    writer.write("-");
+                } else if (this.hasAnswered(speaker, participant)) {
+                    writer.write(String.valueOf(this.correct[speaker][participant]));
+                }
+            }
+            final int possible = this.possiblePoints(participant);
+            writer.write(
+                String.format(
+                    Locale.ROOT,
+                    ";%d;%d;%.1f\n",
+                    this.points(participant),
+                    possible,
+                    possible == 0 ? 0.0 : this.points(participant) * 100.0 / possible
+                )
+            );
+        }
+        writer.write("Average");
+        for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+            if (this.hasQuiz(speaker)) {
+                writer.write(String.format(Locale.ROOT, ";%.2f", this.average(speaker)));
+            }
+        }
+        writer.write(";;;\n");
+    }
+
+    private void add(final Sheet sheet) {
+        this.warnings.addAll(sheet.warnings());
+        if (sheet.speaker() == null) {
+            return;
+        }
+        final Integer speaker = this.participantIndex.get(sheet.speaker());
+        if (speaker == null) {
+            this.warnings.add(
+                String.format("%s: Speaker %s has no entry in quizSolutions.csv!", sheet.file(), sheet.speaker())
+            );
+            return;
+        }
+        for (final Row row : sheet.rows()) {
+            final Integer participant = this.participantIndex.get(row.participant());
+            if (participant == null) {
+                this.warnings.add(
+                    String.format("%s:%d: Unknown participant %s!", sheet.file(), row.lineNumber(), row.participant())
+                );
+            } else if (participant.equals(speaker)) {
+                this.warnings.add(
+                    String.format("%s:%d: Speakers cannot answer their own quiz!", sheet.file(), row.lineNumber())
+                );
+            } else if (row.answers().length > this.solutions[speaker].length && !QuizGrades.isEmpty(row.answers())) {
+                this.warnings.add(
+                    String.format(
+                        "%s:%d: %d answers given for %d questions!",
+                        sheet.file(),
+                        row.lineNumber(),
+                        row.answers().length,
+                        this.solutions[speaker].length
+                    )
+                );
+                this.answers[speaker][participant] = row.answers();
+            } else if (!QuizGrades.isEmpty(row.answers())) {
+                this.answers[speaker][participant] = row.answers();
+            }
+        }
+    }
+
+    private double average(final int speaker) {
+        if (this.answerRows[speaker] == 0) {
+            return 0;
+        }
+        int sum = 0;
+        for (int participant = 0; participant < this.speakers.size(); participant++) {
+            sum += this.correct[speaker][participant];
+        }
+        return sum / (double)this.answerRows[speaker];
+    }
+
+    private void score() {
+        for (int speaker = 0; speaker < this.speakers.size(); speaker++) {
+            final byte[] solution = this.solutions[speaker];
+            int max = 0;
+            for (final byte answer : solution) {
+                max += answer == QuizGrades.INVALID ? 0 : 1;
+            }
+            this.maxPoints[speaker] = max;
+            for (int participant = 0; participant < this.speakers.size(); participant++) {
+                final byte[] given = this.answers[speaker][participant];
+                if (given == null) {
+                    continue;
+                }
+                this.answerRows[speaker]++;
+                final int length = Math.min(given.length, solution.length);
+                int points = 0;
+                for (int i = 0; i < length; i++) {
+                    points += given[i] == solution[i] ? 1 : 0;
+                }
+                this.correct[speaker][participant] = points;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.random.*;
+import java.util.regex.*;
+import java.util.stream.*;
+
+public class QuizParser {
+
+    private static final Pattern ANSWER_PREFIX =
+        Pattern.compile("(?:(?:\\d|[abcdABCD])(?:\\.|\\)|:|\\s)+|[e-zE-Z]\\)\\s*)");
+
+    private static final String CORRECT_SUFFIX = "(richtig)";
+
+    private static final int LEGACY_BLOCK_SIZE = 5;
+
+    private static final Pattern QUESTION_PREFIX = Pattern.compile("(?:Frage\\s*)?\\d+(?:\\.|\\)|:|\\s)+");
+
+    public static QuizQuestions parse(final Path quiz, final RandomGenerator random) throws IOException {
+        final QuizParser parser = new QuizParser(quiz.getFileName().toString(), true, random);
+        try (BufferedReader reader = TextInput.openReader(quiz)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                parser.accept(line, ++lineNumber);
+            }
+        }
+        parser.finish();
+        if (!parser.errors.isEmpty()) {
+            throw new IOException(String.join("\n", parser.errors));
+        }
+        return new QuizQuestions(parser.topic, parser.questions, random);
+    }
+
+    static List<QuizQuestion> parse(final Iterator<String> lines, final RandomGenerator random) {
+        final QuizParser parser = new QuizParser("quiz", false, random);
+        int lineNumber = 0;
+        while (lines.hasNext()) {
+            parser.accept(lines.next(), ++lineNumber);
+        }
+        parser.finish();
+        if (!parser.errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("\n", parser.errors));
+        }
+        return parser.questions;
+    }
+
+    private static boolean isCorrect(final String line) {
+        final int suffixLength = QuizParser.CORRECT_SUFFIX.length();
+        return line.regionMatches(true, line.length() - suffixLength, QuizParser.CORRECT_SUFFIX, 0, suffixLength);
+    }
+
+    private static String withoutPrefix(final Pattern prefix, final String line) {
+        final Matcher matcher = prefix.matcher(line);
+        return matcher.lookingAt() ? line.substring(matcher.end()) : line;
+    }
+
+    private final List<String> block;
+
+    private final List<Integer> blockLines;
+
+    private final List<String> errors;
+
+    private final List<QuizQuestion> questions;
+
+    private final RandomGenerator random;
+
+    private final String source;
+
+    private String topic;
+
+    private boolean topicPending;
+
+    private QuizParser(final String source, final boolean withTopic, final RandomGenerator random) {
+        this.source = source;
+        this.topicPending = withTopic;
+        this.random = random;
+        this.block = new ArrayList<String>();
+        this.blockLines = new ArrayList<Integer>();
+        this.errors = new ArrayList<String>();
+        this.questions = new ArrayList<QuizQuestion>();
+    }
+
+    private void accept(final String line, final int lineNumber) {
+        final String stripped = line.strip();
+        if (stripped.isEmpty()) {
+            this.endBlock();
+            return;
+        }
+        if (this.topicPending) {
+            this.topic = line;
+            this.topicPending = false;
+            return;
+        }
+        this.block.add(stripped);
+        this.blockLines.add(lineNumber);
+    }
+
+    private void addQuestion(final int from, final int to) {
+        final String question = QuizParser.withoutPrefix(QuizParser.QUESTION_PREFIX, this.block.get(from));
+        String correctAnswer = null;
+        final List<String> wrongAnswers = new ArrayList<String>(to - from - 1);
+        for (int i = from + 1; i < to; i++) {
+            final String answer = QuizParser.withoutPrefix(QuizParser.ANSWER_PREFIX, this.block.get(i));
+            if (QuizParser.isCorrect(answer)) {
+                final int end = answer.length() - QuizParser.CORRECT_SUFFIX.length();
+                correctAnswer = LaTeXEscaper.escape(answer.substring(0, end).strip());
+            } else {
+                wrongAnswers.add(LaTeXEscaper.escape(answer));
+            }
+        }
+        Collections.shuffle(wrongAnswers, this.random);
+        this.questions.add(new QuizQuestion(LaTeXEscaper.escape(question), correctAnswer, wrongAnswers));
+    }
+
+    private void endBlock() {
+        if (this.block.isEmpty()) {
+            return;
+        }
+        if (this.block.size() > QuizParser.LEGACY_BLOCK_SIZE && this.block.size() % QuizParser.LEGACY_BLOCK_SIZE == 0) {
+            boolean valid = true;
+            for (int from = 0; from < this.block.size(); from += QuizParser.LEGACY_BLOCK_SIZE) {
+                valid &= this.validate(from, from + QuizParser.LEGACY_BLOCK_SIZE);
+            }
+            if (valid) {
+                for (int from = 0; from < this.block.size(); from += QuizParser.LEGACY_BLOCK_SIZE) {
+                    this.addQuestion(from, from + QuizParser.LEGACY_BLOCK_SIZE);
+                }
+            }
+        } else if (this.validate(0, this.block.size())) {
+            this.addQuestion(0, this.block.size());
+        }
+        this.block.clear();
+        this.blockLines.clear();
+    }
+
+    private void error(final int index, final String message) {
+        this.errors.add(String.format("%s:%d: %s", this.source, this.blockLines.get(index), message));
+    }
+
+    private void finish() {
+        this.endBlock();
+        if (this.topicPending) {
+            this.errors.add(String.format("%s:1: Quiz file contains no topic!", this.source));
+        }
+    }
+
+    private boolean validate(final int from, final int to) {
+        if (QuizParser.isCorrect(this.block.get(from))) {
+            this.error(from, "The question itself is marked with (richtig) - is the question line missing?");
+            return false;
+        }
+        final List<Integer> correct = new ArrayList<Integer>();
+        for (int i = from + 1; i < to; i++) {
+            if (QuizParser.isCorrect(this.block.get(i))) {
+                correct.add(this.blockLines.get(i));
+            }
+        }
+        if (correct.isEmpty()) {
+            this.error(from, "Question has no answer marked with (richtig)!");
+            return false;
+        }
+        if (correct.size() > 1) {
+            this.error(
+                from,
+                String.format(
+                    "Several answers marked with (richtig) in lines %s - separate questions by blank lines!",
+                    correct.stream().map(String::valueOf).collect(Collectors.joining(", "))
+                )
+            );
+            return false;
+        }
+        if (to - from < 3) {
+            this.error(from, "Question needs at least one wrong answer!");
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -3,89 +3,228 @@ package lectureinitializer;
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.random.*;
 import java.util.stream.*;
 
 public class QuizQuestions extends ArrayList<QuizQuestion> {
 
+    public static final String KEY_SUFFIX = "-key.csv";
+
     private static final long serialVersionUID = 1L;
 
     public static void transformQuizFile(final File quiz, final File output) throws IOException {
-        final List<String> lines = Files.lines(quiz.toPath()).filter(line -> !line.isBlank()).toList();
-        final Iterator<String> iterator = lines.iterator();
-        final String topic = iterator.next();
-        final QuizQuestions questions = new QuizQuestions(iterator);
         final Random random = new Random();
-        final List<Character> correctAnswers = new LinkedList<Character>();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(output))) {
-            writer.write("\\documentclass[12pt]{article}\n\n");
-            writer.write("\\input{../../../../../../templates/mctests.tex}\n\n");
-            writer.write("\\begin{document}\n\n");
-            writer.write("\\newtest{");
-            writer.write(topic);
-            writer.write("}\n\n");
-            for (final QuizQuestion question : questions) {
-                writer.write("\\question{");
-                writer.write(question.question());
-                writer.write("}{%\n");
-                int skip = random.nextInt(4);
-                for (int i = 0; i < 3; i++) {
-                    writer.write("\\item ");
-//                    writer.write('A' + i + (skip < 0 ? 1 : 0));
-//                    writer.write(") ");
-                    if (skip == 0) {
-                        correctAnswers.add((char)('a' + i));
-                        writer.write(question.correctAnswer());
-                        writer.write("\n\\item ");
-//                        writer.write('A' + i + 1);
-//                        writer.write(") ");
+        final QuizQuestions questions = QuizParser.parse(quiz.toPath(), random);
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            files.writeText(
+                output.toPath(),
+                writer -> {
+                    final List<Character> correctAnswers =
+                        QuizQuestions.writeQuiz(writer, questions.topic(), questions, random);
+                    writer.write("% ");
+                    writer.write(correctAnswers.stream().map(String::valueOf).collect(Collectors.joining(";")));
+                    writer.write("\n\n\\end{document}\n\n");
+                }
+            );
+            files.complete();
+        }
+    }
+
+    public static void writeVariants(
+        final File quiz,
+        final File output,
+        final long seed,
+        final int count
+    ) throws IOException {
+        QuizQuestions.writeVariants(quiz, output, seed, count, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void writeVariants(
+        final File quiz,
+        final File output,
+        final long seed,
+        final int count,
+        final int parallelism
+    ) throws IOException {
+        if (count < 1) {
+            throw new IOException("At least one quiz variant must be generated!");
+        }
+        final SplittableRandom root = new SplittableRandom(seed);
+        final QuizQuestions questions = QuizParser.parse(quiz.toPath(), root.split());
+        final List<SplittableRandom> streams = new ArrayList<SplittableRandom>(count);
+        for (int i = 0; i < count; i++) {
+            streams.add(root.split());
+        }
+        final Path directory = output.getAbsoluteFile().toPath().getParent();
+        final String baseName = QuizQuestions.baseName(output.getName());
+        final String format = "%s-%0" + String.valueOf(count).length() + "d.tex";
+        final List<Future<List<Character>>> keys = new ArrayList<Future<List<Character>>>(count);
+        final Path key = directory.resolve(baseName + QuizQuestions.KEY_SUFFIX);
+        try (GeneratedFiles files = GeneratedFiles.direct()) {
+            try (
+                ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, count)))
+            ) {
+                for (int i = 0; i < count; i++) {
+                    final SplittableRandom random = streams.get(i);
+                    final Path target = directory.resolve(String.format(format, baseName, i + 1));
+                    keys.add(
+                        executor.submit(() -> {
+                            final List<Character> correctAnswers = new ArrayList<Character>(questions.size());
+                            files.writeText(
+                                target,
+                                writer -> {
+                                    final List<QuizQuestion> variant = questions.variant(random);
+                                    correctAnswers.addAll(
+                                        QuizQuestions.writeQuiz(writer, questions.topic(), variant, random)
+                                    );
+                                    writer.write("\n\\end{document}\n\n");
+                                }
+                            );
+                            return correctAnswers;
+                        })
+                    );
+                }
+            }
+            final List<List<Character>> correctAnswers = new ArrayList<List<Character>>(count);
+            final List<String> failedVariants = new ArrayList<String>();
+            final List<Throwable> failures = new ArrayList<Throwable>();
+            for (int i = 0; i < count; i++) {
+                try {
+                    correctAnswers.add(keys.get(i).get());
+                } catch (final ExecutionException e) {
+                    failedVariants.add(String.valueOf(i + 1));
+                    failures.add(e.getCause());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while generating quiz variants!");
+                }
+            }
+            if (!failures.isEmpty()) {
+                final IOException exception =
+                    new IOException(
+                        String.format("Could not generate quiz variants %s!", String.join(", ", failedVariants))
+                    );
+                failures.forEach(exception::addSuppressed);
+                throw exception;
+            }
+            files.writeText(
+                key,
+                writer -> {
+                    writer.write("Variant");
+                    for (int question = 1; question <= questions.size(); question++) {
+                        writer.write(";");
+                        writer.write(String.valueOf(question));
                     }
-                    writer.write(question.wrongAnswers().get(i));
-                    skip--;
                     writer.write("\n");
+                    for (int i = 0; i < count; i++) {
+                        writer.write(String.valueOf(i + 1));
+                        for (final char answer : correctAnswers.get(i)) {
+                            writer.write(";");
+                            writer.write(answer);
+                        }
+                        writer.write("\n");
+                    }
                 }
+            );
+            files.complete();
+        }
+        System.out.println(
+            String.format(
+                "Generated %d variants of %d questions with seed %d, answer key in %s.",
+                count,
+                questions.size(),
+                seed,
+                key.getFileName()
+            )
+        );
+    }
+
+    static List<Character> writeQuiz(
+        final BufferedWriter writer,
+        final String topic,
+        final List<QuizQuestion> questions,
+        final RandomGenerator random
+    ) throws IOException {
+        final List<Character> correctAnswers = new ArrayList<Character>(questions.size());
+        writer.write("\\documentclass[12pt]{article}\n\n");
+        writer.write("\\input{../../../../../../templates/mctests.tex}\n\n");
+        writer.write("\\begin{document}\n\n");
+        writer.write("\\newtest{");
+        writer.write(topic);
+        writer.write("}\n\n");
+        for (final QuizQuestion question : questions) {
+            writer.write("\\question{");
+            writer.write(question.question());
+            writer.write("}{%\n");
+            final int numOfWrongAnswers = question.wrongAnswers().size();
+            int skip = random.nextInt(numOfWrongAnswers + 1);
+            for (int i = 0; i < numOfWrongAnswers; i++) {
+                writer.write("\\item ");
+//                writer.write('A' + i + (skip < 0 ? 1 : 0));
+//                writer.write(") ");
                 if (skip == 0) {
-                    correctAnswers.add('d');
-                    writer.write("\\item ");
-//                    writer.write("D) ");
+                    correctAnswers.add((char)('a' + i));
                     writer.write(question.correctAnswer());
-                    writer.write("\n");
+                    writer.write("\n\\item ");
+//                    writer.write('A' + i + 1);
+//                    writer.write(") ");
                 }
-                writer.write("}{}\n\n");
+                writer.write(question.wrongAnswers().get(i));
+                skip--;
+                writer.write("\n");
+            }
+            if (skip == 0) {
+                correctAnswers.add((char)('a' + numOfWrongAnswers));
+                writer.write("\\item ");
+//                writer.write("D) ");
+                writer.write(question.correctAnswer());
+                writer.write("\n");
             }
-            writer.write("% ");
-            writer.write(correctAnswers.stream().map(String::valueOf).collect(Collectors.joining(";")));
-            writer.write("\n\n\\end{document}\n\n");
+            writer.write("}{}\n\n");
         }
+        return correctAnswers;
+    }
+
+    private static String baseName(final String fileName) {
+        final int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
     }
 
+    private static List<QuizQuestion> shuffled(final List<QuizQuestion> questions, final RandomGenerator random) {
+        final List<QuizQuestion> result = new ArrayList<QuizQuestion>(questions);
+        Collections.shuffle(result, random);
+        return result;
+    }
+
+    private final String topic;
+
     public QuizQuestions(final Iterator<String> iterator) {
-        super();
-        int counter = 0;
-        String question = null;
-        String correctAnswer = null;
-        List<String> wrongAnswers = new ArrayList<String>();
-        while (iterator.hasNext()) {
-            final String line = iterator.next();
-            if (counter == 0) {
-                question = Main.escapeForLaTeX(line.strip().replaceAll("^(Frage\\s*)?\\d+(\\.|\\)|:|\\s)+", ""));
-            } else {
-                final String stripped =
-                    Main.escapeForLaTeX(line.strip().replaceAll("^(\\d|[abcdABCD])(\\.|\\)|:|\\s)+", ""));
-                if (stripped.toLowerCase().endsWith("(richtig)")) {
-                    correctAnswer = stripped.substring(0, stripped.length() - 9).strip();
-                } else {
-                    wrongAnswers.add(stripped);
-                }
-            }
-            counter++;
-            if (counter > 4) {
-                Collections.shuffle(wrongAnswers);
-                this.add(new QuizQuestion(question, correctAnswer, wrongAnswers));
-                wrongAnswers = new ArrayList<String>();
-                counter = 0;
-            }
+        this(iterator, new Random());
+    }
+
+    public QuizQuestions(final Iterator<String> iterator, final RandomGenerator random) {
+        this(null, QuizParser.parse(iterator, random), random);
+    }
+
+    QuizQuestions(final String topic, final List<QuizQuestion> questions, final RandomGenerator random) {
+        super(QuizQuestions.shuffled(questions, random));
+        this.topic = topic;
+    }
+
+    public String topic() {
+        return this.topic;
+    }
+
+    public List<QuizQuestion> variant(final RandomGenerator random) {
+        final List<QuizQuestion> result = new ArrayList<QuizQuestion>(this.size());
+        for (final QuizQuestion question : this) {
+            final List<String> wrongAnswers = new ArrayList<String>(question.wrongAnswers());
+            Collections.shuffle(wrongAnswers, random);
+            result.add(new QuizQuestion(question.question(), question.correctAnswer(), wrongAnswers));
         }
-        Collections.shuffle(this);
+        Collections.shuffle(result, random);
+        return result;
     }
 
 }
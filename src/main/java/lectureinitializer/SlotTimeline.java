@@ -0,0 +1,225 @@
+package lectureinitializer;
+
+import java.time.*;
+import java.util.*;
+
+public class SlotTimeline {
+
+    public static final int DEFAULT_BREAK_LENGTH = 15;
+
+    public static final int DEFAULT_SLOT_LENGTH = 45;
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int CODE_LENGTH = 11;
+
+    private static final int[] DAYS_PER_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static final int SLOTS_BETWEEN_BREAKS = 2;
+
+    public static int decode(final CharSequence code) {
+        if (code.length() != SlotTimeline.CODE_LENGTH) {
+            throw new IllegalArgumentException(String.format("Invalid date code %s!", code));
+        }
+        final int year = 2000 + SlotTimeline.twoDigits(code, 0);
+        final int month = SlotTimeline.twoDigits(code, 2);
+        final int day = SlotTimeline.twoDigits(code, 4);
+        final int hour = SlotTimeline.twoDigits(code, 6);
+        final int minute = SlotTimeline.twoDigits(code, 8);
+        if (
+            month < 1
+            || month > 12
+            || day < 1
+            || day > SlotTimeline.lengthOfMonth(year, month)
+            || hour > 23
+            || minute > 59
+        ) {
+            throw new IllegalArgumentException(String.format("Invalid date code %s!", code));
+        }
+        return SlotTimeline.epochDay(year, month, day) * SlotTimeline.MINUTES_PER_DAY + hour * 60 + minute;
+    }
+
+    public static String encode(final int epochMinute, final int multiplicity) {
+        final StringBuilder result = new StringBuilder(SlotTimeline.CODE_LENGTH);
+        SlotTimeline.encode(epochMinute, multiplicity, result);
+        return result.toString();
+    }
+
+    public static void encode(final int epochMinute, final int multiplicity, final StringBuilder out) {
+        if (multiplicity < 0 || multiplicity > 9) {
+            throw new IllegalArgumentException(
+                String.format("Multiplicity %d does not fit a date code!", multiplicity)
+            );
+        }
+        final int epochDay = Math.floorDiv(epochMinute, SlotTimeline.MINUTES_PER_DAY);
+        final int minuteOfDay = Math.floorMod(epochMinute, SlotTimeline.MINUTES_PER_DAY);
+        final int shifted = epochDay + 719468;
+        final int era = (shifted >= 0 ? shifted : shifted - 146096) / 146097;
+        final int dayOfEra = shifted - era * 146097;
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        SlotTimeline.appendTwoDigits(Math.floorMod(year, 100), out);
+        SlotTimeline.appendTwoDigits(month, out);
+        SlotTimeline.appendTwoDigits(day, out);
+        SlotTimeline.appendTwoDigits(minuteOfDay / 60, out);
+        SlotTimeline.appendTwoDigits(minuteOfDay % 60, out);
+        out.append((char)('0' + multiplicity));
+    }
+
+    public static SlotTimeline fromCodes(final String[] codes, final int slotLength, final int breakLength) {
+        int size = 0;
+        for (final String code : codes) {
+            size += SlotTimeline.multiplicity(code);
+        }
+        final int[] slots = new int[size];
+        int index = 0;
+        for (final String code : codes) {
+            final int start = SlotTimeline.decode(code);
+            final int multiplicity = SlotTimeline.multiplicity(code);
+            for (int i = 0; i < multiplicity; i++) {
+                slots[index++] = start + i * slotLength + i / SlotTimeline.SLOTS_BETWEEN_BREAKS * breakLength;
+            }
+        }
+        return new SlotTimeline(slots, slotLength, breakLength);
+    }
+
+    public static SlotTimeline fromDates(
+        final List<LocalDateTime> dates,
+        final int slotLength,
+        final int breakLength
+    ) {
+        final int[] slots = new int[dates.size()];
+        int index = 0;
+        for (final LocalDateTime date : dates) {
+            slots[index++] = SlotTimeline.toEpochMinute(date);
+        }
+        return new SlotTimeline(slots, slotLength, breakLength);
+    }
+
+    public static int multiplicity(final CharSequence code) {
+        final char digit = code.charAt(code.length() - 1);
+        if (digit < '0' || digit > '9') {
+            throw new IllegalArgumentException(String.format("Invalid date code %s!", code));
+        }
+        return digit - '0';
+    }
+
+    public static int slotsWithin(final int minutes, final int slotLength) {
+        return minutes / slotLength;
+    }
+
+    public static int toEpochMinute(final LocalDateTime date) {
+        return SlotTimeline.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth())
+            * SlotTimeline.MINUTES_PER_DAY
+            + date.getHour() * 60
+            + date.getMinute();
+    }
+
+    public static LocalDateTime toLocalDateTime(final int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    private static void appendTwoDigits(final int value, final StringBuilder out) {
+        out.append((char)('0' + value / 10));
+        out.append((char)('0' + value % 10));
+    }
+
+    private static int dayOf(final int epochMinute) {
+        return Math.floorDiv(epochMinute, SlotTimeline.MINUTES_PER_DAY);
+    }
+
+    private static int epochDay(final int year, final int month, final int day) {
+        final int shiftedYear = month <= 2 ? year - 1 : year;
+        final int era = (shiftedYear >= 0 ? shiftedYear : shiftedYear - 399) / 400;
+        final int yearOfEra = shiftedYear - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        if (month == 2 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+        }
+        return SlotTimeline.DAYS_PER_MONTH[month - 1];
+    }
+
+    private static int twoDigits(final CharSequence code, final int offset) {
+        final char tens = code.charAt(offset);
+        final char ones = code.charAt(offset + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            throw new IllegalArgumentException(String.format("Invalid date code %s!", code));
+        }
+        return (tens - '0') * 10 + ones - '0';
+    }
+
+    private final int breakLength;
+
+    private final int[] dayOffsets;
+
+    private final int slotLength;
+
+    private final int[] slots;
+
+    private SlotTimeline(final int[] slots, final int slotLength, final int breakLength) {
+        Arrays.sort(slots);
+        this.slots = slots;
+        this.slotLength = slotLength;
+        this.breakLength = breakLength;
+        int days = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (i == 0 || SlotTimeline.dayOf(slots[i]) != SlotTimeline.dayOf(slots[i - 1])) {
+                days++;
+            }
+        }
+        this.dayOffsets = new int[days + 1];
+        int day = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (i == 0 || SlotTimeline.dayOf(slots[i]) != SlotTimeline.dayOf(slots[i - 1])) {
+                this.dayOffsets[day++] = i;
+            }
+        }
+        this.dayOffsets[days] = slots.length;
+    }
+
+    public int breakLength() {
+        return this.breakLength;
+    }
+
+    public int days() {
+        return this.dayOffsets.length - 1;
+    }
+
+    public int dayStart(final int day) {
+        return this.dayOffsets[day];
+    }
+
+    public int firstSlotFor(final int neededSlots) {
+        int available = this.slots.length;
+        for (int day = 0; day < this.days(); day++) {
+            final int slotsAtDay = this.dayOffsets[day + 1] - this.dayOffsets[day];
+            if (slotsAtDay > available - neededSlots) {
+                return this.dayOffsets[day];
+            }
+            available -= slotsAtDay;
+        }
+        return this.slots.length;
+    }
+
+    public int size() {
+        return this.slots.length;
+    }
+
+    public int slot(final int index) {
+        return this.slots[index];
+    }
+
+    public int slotLength() {
+        return this.slotLength;
+    }
+
+}
@@ -0,0 +1,43 @@
+package lectureinitializer;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class StringDictionary {
+
+    private final ConcurrentMap<String, Integer> ids;
+
+    private volatile String[] values;
+
+    public StringDictionary() {
+        this.ids = new ConcurrentHashMap<String, Integer>();
+        this.values = new String[16];
+    }
+
+    public int id(final String value) {
+        final Integer id = this.ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            return this.ids.computeIfAbsent(value, this::add);
+        }
+    }
+
+    public int size() {
+        return this.ids.size();
+    }
+
+    public String value(final int id) {
+        return this.values[id];
+    }
+
+    private Integer add(final String value) {
+        final int id = this.ids.size();
+        final String[] values = id < this.values.length ? this.values : Arrays.copyOf(this.values, id * 2);
+        values[id] = value;
+        this.values = values;
+        return id;
+    }
+
+}
@@ -5,86 +5,181 @@ import java.nio.file.*;
 import java.time.*;
 import java.time.format.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 public class TalkAssignments extends LinkedList<TalkAssignment> {
 
     private static final long serialVersionUID = 1L;
 
+    public static void packageClass(
+        final File assignmentFile,
+        final File classFile,
+        final boolean quizAnswersMatrix,
+        final File zipFile
+    ) throws IOException {
+        final ZipSink sink =
+            new ZipSink(zipFile.toPath(), ParticipantsAndDates.toClassDirectory(classFile).getParent());
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            ParticipantsAndDates.writeParticipantsLists(classFile, files);
+            TalkAssignments.prepareTalk(
+                assignmentFile,
+                classFile,
+                quizAnswersMatrix,
+                Runtime.getRuntime().availableProcessors(),
+                files
+            );
+            files.complete();
+        }
+        System.out.println(String.format("Packaged %d files into %s.", sink.entries(), zipFile.getName()));
+    }
+
     public static void prepareTalk(final File assignmentFile, final File classFile) throws IOException {
+        TalkAssignments.prepareTalk(assignmentFile, classFile, false, false);
+    }
+
+    public static void prepareTalk(
+        final File assignmentFile,
+        final File classFile,
+        final boolean quizAnswersMatrix,
+        final boolean incremental
+    ) throws IOException {
+        final Path root = assignmentFile.getAbsoluteFile().toPath().getParent();
+        try (
+            GeneratedFiles files =
+                incremental ? GeneratedFiles.incremental(root, "prepareTalk") : GeneratedFiles.direct()
+        ) {
+            TalkAssignments.prepareTalk(
+                assignmentFile,
+                classFile,
+                quizAnswersMatrix,
+                Runtime.getRuntime().availableProcessors(),
+                files
+            );
+            files.complete();
+        }
+    }
+
+    public static void prepareTalk(
+        final File assignmentFile,
+        final File classFile,
+        final boolean quizAnswersMatrix,
+        final int parallelism,
+        final GeneratedFiles files
+    ) throws IOException {
         final Path root = assignmentFile.getAbsoluteFile().toPath().getParent();
         final Path protocols = root.resolve("protocols");
-        protocols.toFile().mkdir();
         final Path quizAnswers = root.resolve("quizAnswers");
-        quizAnswers.toFile().mkdir();
-        final File metaFile = root.getParent().resolve("meta.txt").toFile();
-        final Subject subject = Subject.fromFile(metaFile);
-        final TalkMode talkMode = TalkMode.fromFile(metaFile);
-        final int numberOfTopics = Integer.parseInt(Files.lines(metaFile.toPath()).skip(3).findFirst().get());
+        final File meta = root.getParent().resolve("meta.txt").toFile();
+        final MetaFile metaFile = MetaFile.fromFile(meta);
+        final Subject subject = metaFile.subject();
+        final TalkMode talkMode = metaFile.talkMode();
         final String place =
             root.toFile().getName().substring(3).toLowerCase().startsWith("m") ? "Mettmann" : "Bergisch Gladbach";
-        final List<LocalDateTime> dates = TalkAssignments.toDates(classFile);
+        final SlotTimeline timeline = TalkAssignments.toTimeline(classFile, metaFile);
         final TalkAssignments assignments;
-        try (BufferedReader assignmentReader = new BufferedReader(new FileReader(assignmentFile))) {
-            assignments = new TalkAssignments(assignmentReader, dates);
+        try (TextInput input = TextInput.open(assignmentFile.toPath())) {
+            assignments = new TalkAssignments(input.reader(), timeline);
+        }
+        TalkAssignments.writeScheduleToConsole(assignments, timeline);
+        final List<Path> inputs = new ArrayList<Path>();
+        inputs.add(assignmentFile.toPath());
+        inputs.add(classFile.toPath());
+        inputs.add(meta.toPath());
+        inputs.addAll(metaFile.solutionFiles());
+        if (files.upToDate(inputs, quizAnswersMatrix ? "matrix" : "sheets")) {
+            return;
+        }
+        TalkAssignments.writeBuildFile(files, protocols);
+        final QuizAnswerSheets quizAnswerSheets =
+            new QuizAnswerSheets(
+                assignments.stream().map(assignment -> assignment.topicAssignment().participant()).toList()
+            );
+        if (quizAnswersMatrix) {
+            quizAnswerSheets.writeMatrix(files, root.resolve("quizAnswers.csv"));
+        }
+        final List<TalkAssignment> ordered = new ArrayList<TalkAssignment>(assignments);
+        final Map<Path, Integer> protocolWriters = new LinkedHashMap<Path, Integer>();
+        for (int i = 0; i < ordered.size(); i++) {
+            protocolWriters.put(ProtocolFileWriter.toProtocolFile(protocols, subject, ordered.get(i)), i);
         }
-        TalkAssignments.writeBuildFile(protocols);
+        final List<Future<String>> solutionLines = new ArrayList<Future<String>>(ordered.size());
         try (
-            BufferedWriter solutionsWriter =
-                new BufferedWriter(new FileWriter(root.resolve("quizSolutions.csv").toFile()))
+            ExecutorService executor =
+                Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, ordered.size())))
         ) {
-            LocalDate current = LocalDate.MIN;
-            int numOfTalksWithoutBreak = 0;
-            for (final TalkAssignment assignment : assignments) {
-                if (!assignment.date().toLocalDate().equals(current)) {
-                    current = assignment.date().toLocalDate();
-                    TalkAssignments.writeDateLineToConsole(current);
-                    numOfTalksWithoutBreak = 0;
-                } else if (numOfTalksWithoutBreak > 1) {
-                    TalkAssignments.writeBreakLineToConsole(assignment);
-                    numOfTalksWithoutBreak = 0;
-                }
-                TalkAssignments.writeAnnouncementLineToConsole(assignment);
-                numOfTalksWithoutBreak++;
-                TalkAssignments.writeLineToSolutionFile(solutionsWriter, assignment, metaFile, numberOfTopics);
-                ProtocolFileWriter.writeProtocolFile(protocols, talkMode, subject, place, assignment);
-                final String[] nameParts = assignment.topicAssignment().participant().split(" ");
-                final String lastName = nameParts[nameParts.length - 1].toLowerCase();
-                try (
-                    BufferedWriter quizAnswersWriter =
-                        new BufferedWriter(new FileWriter(quizAnswers.resolve(lastName + ".csv").toFile()))
-                ) {
-                    quizAnswersWriter.write(assignment.topicAssignment().participant());
-                    quizAnswersWriter.write("\n");
-                    for (final TalkAssignment assignment2 : assignments) {
-                        if (assignment2.equals(assignment)) {
-                            continue;
+            for (int i = 0; i < ordered.size(); i++) {
+                final TalkAssignment assignment = ordered.get(i);
+                final int speaker = i;
+                final boolean protocol =
+                    protocolWriters.get(ProtocolFileWriter.toProtocolFile(protocols, subject, assignment)) == speaker;
+                solutionLines.add(
+                    executor.submit(() -> {
+                        if (protocol) {
+                            ProtocolFileWriter.writeProtocolFile(
+                                files,
+                                protocols,
+                                talkMode,
+                                subject,
+                                place,
+                                assignment
+                            );
                         }
-                        quizAnswersWriter.write(assignment2.topicAssignment().participant());
-                        quizAnswersWriter.write(";\n");
+                        if (!quizAnswersMatrix) {
+                            quizAnswerSheets.writeSheet(files, quizAnswers, speaker);
+                        }
+                        return TalkAssignments.toSolutionLine(assignment, metaFile);
+                    })
+                );
+            }
+        }
+        final List<String> failedParticipants = new ArrayList<String>();
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        files.writeText(
+            root.resolve("quizSolutions.csv"),
+            solutionsWriter -> {
+                for (int i = 0; i < ordered.size(); i++) {
+                    try {
+                        solutionsWriter.write(solutionLines.get(i).get());
+                    } catch (final ExecutionException e) {
+                        failedParticipants.add(ordered.get(i).topicAssignment().participant());
+                        failures.add(e.getCause());
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while generating talk files!");
                     }
                 }
             }
+        );
+        if (!failures.isEmpty()) {
+            final IOException exception =
+                new IOException(
+                    String.format(
+                        "Could not generate talk files for %s!",
+                        String.join(", ", failedParticipants)
+                    )
+                );
+            failures.forEach(exception::addSuppressed);
+            throw exception;
         }
     }
 
     static Stream<LocalDateTime> toLocalDateTime(final String dateString) {
-        final int multiplicity = Integer.parseInt(dateString.substring(dateString.length() - 1));
-        final LocalDateTime start =
-            LocalDate.of(
-                2000 + Integer.parseInt(dateString.substring(0, 2)),
-                Integer.parseInt(dateString.substring(2, 4)),
-                Integer.parseInt(dateString.substring(4, 6))
-            ).atTime(Integer.parseInt(dateString.substring(6, 8)), Integer.parseInt(dateString.substring(8, 10)));
-        final List<LocalDateTime> result = new LinkedList<LocalDateTime>();
-        int numOfBreaks = 0;
-        for (int i = 0; i < multiplicity; i++) {
-            if (i > 0 && i % 2 == 0) {
-                numOfBreaks++;
-            }
-            result.add(start.plusMinutes(i * 45 + numOfBreaks * 15));
-        }
-        return result.stream();
+        final SlotTimeline timeline =
+            SlotTimeline.fromCodes(
+                new String[] {dateString},
+                SlotTimeline.DEFAULT_SLOT_LENGTH,
+                SlotTimeline.DEFAULT_BREAK_LENGTH
+            );
+        return IntStream.range(0, timeline.size()).mapToObj(i -> SlotTimeline.toLocalDateTime(timeline.slot(i)));
+    }
+
+    static SlotTimeline toTimeline(final File classFile, final MetaFile metaFile) throws IOException {
+        return SlotTimeline.fromCodes(
+            ParticipantsAndDates.fromFile(classFile).dates(),
+            metaFile.slotLength(),
+            metaFile.breakLength()
+        );
     }
 
     private static String extractTopic(final String topicEntry) {
@@ -94,67 +189,45 @@ public class TalkAssignments extends LinkedList<TalkAssignment> {
         return topicEntry.strip();
     }
 
-    private static Optional<String> getSolution(
-        final String topic,
-        final File metaFile,
-        final int numberOfTopics
-    ) throws IOException {
-        final Path path = metaFile.toPath();
-        final Optional<Path> solutionFile =
-            Files
-            .lines(path)
-            .skip(4)
-            .limit(numberOfTopics)
-            .map(line -> line.split(";"))
-            .filter(split -> split.length == 2)
-            .filter(split -> topic.equals(split[0]))
-            .map(split -> path.getParent().resolve(split[1]))
-            .findAny();
-        return solutionFile.isEmpty() ?
-            Optional.empty() :
-                Optional.of(Files.lines(solutionFile.get()).findFirst().get().substring(1));
-    }
-
-    private static List<LocalDateTime> toDates(final File classFile) throws IOException {
-        return
-            Arrays
-            .stream(ParticipantsAndDates.fromFile(classFile).dates())
-            .flatMap(TalkAssignments::toLocalDateTime)
-            .toList();
+    private static String toSolutionLine(final TalkAssignment assignment, final MetaFile metaFile) throws IOException {
+        final Optional<String> solution = metaFile.solution(assignment.topicAssignment().topic());
+        return assignment.topicAssignment().participant() + ";" + solution.orElseGet(() -> "") + "\n";
     }
 
-    private static void writeAnnouncementLineToConsole(final TalkAssignment assignment) {
+    private static void writeAnnouncementLineToConsole(final TalkAssignment assignment, final int slotLength) {
         System.out.println(
             String.format(
                 "%s-%s: %s (%s)",
                 assignment.date().format(DateTimeFormatter.ofPattern("HH:mm")),
-                assignment.date().plusMinutes(45).format(DateTimeFormatter.ofPattern("HH:mm")),
+                assignment.date().plusMinutes(slotLength).format(DateTimeFormatter.ofPattern("HH:mm")),
                 assignment.topicAssignment().topic(),
                 assignment.topicAssignment().participant()
             )
         );
     }
 
-    private static void writeBreakLineToConsole(final TalkAssignment assignment) {
+    private static void writeBreakLineToConsole(final TalkAssignment assignment, final int breakLength) {
         System.out.println(
             String.format(
                 "%s-%s: Pause",
-                assignment.date().minusMinutes(15).format(DateTimeFormatter.ofPattern("HH:mm")),
+                assignment.date().minusMinutes(breakLength).format(DateTimeFormatter.ofPattern("HH:mm")),
                 assignment.date().format(DateTimeFormatter.ofPattern("HH:mm"))
             )
         );
     }
 
-    private static void writeBuildFile(final Path protocols) throws IOException {
-        final File build = protocols.resolve("build.sh").toFile();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(build))) {
-            writer.write("#!/bin/bash\n\n");
-            writer.write("for i in *.tex; do\n");
-            writer.write("    pdflatex \"$i\"\n");
-            writer.write("    pdflatex \"$i\"\n");
-            writer.write("done\n");
-        }
-        build.setExecutable(true);
+    private static void writeBuildFile(final GeneratedFiles files, final Path protocols) throws IOException {
+        final Path build = protocols.resolve("build.sh");
+        files.writeExecutable(
+            build,
+            writer -> {
+                writer.write("#!/bin/bash\n\n");
+                writer.write("for i in *.tex; do\n");
+                writer.write("    pdflatex \"$i\"\n");
+                writer.write("    pdflatex \"$i\"\n");
+                writer.write("done\n");
+            }
+        );
     }
 
     private static void writeDateLineToConsole(final LocalDate date) {
@@ -162,21 +235,34 @@ public class TalkAssignments extends LinkedList<TalkAssignment> {
         System.out.println(String.format("%s:", date.format(DateTimeFormatter.ofPattern("dd.MM.uuuu"))));
     }
 
-    private static void writeLineToSolutionFile(
-        final BufferedWriter solutionsWriter,
-        final TalkAssignment assignment,
-        final File metaFile,
-        final int numberOfTopics
-    ) throws IOException {
-        solutionsWriter.write(assignment.topicAssignment().participant());
-        solutionsWriter.write(";");
-        final Optional<String> solution =
-            TalkAssignments.getSolution(assignment.topicAssignment().topic(), metaFile, numberOfTopics);
-        solutionsWriter.write(solution.orElseGet(() -> ""));
-        solutionsWriter.write("\n");
+    private static void writeScheduleToConsole(
+        final List<TalkAssignment> assignments,
+        final SlotTimeline timeline
+    ) {
+        LocalDate current = LocalDate.MIN;
+        int numOfTalksWithoutBreak = 0;
+        for (final TalkAssignment assignment : assignments) {
+            if (!assignment.date().toLocalDate().equals(current)) {
+                current = assignment.date().toLocalDate();
+                TalkAssignments.writeDateLineToConsole(current);
+                numOfTalksWithoutBreak = 0;
+            } else if (numOfTalksWithoutBreak > 1) {
+                TalkAssignments.writeBreakLineToConsole(assignment, timeline.breakLength());
+                numOfTalksWithoutBreak = 0;
+            }
+            TalkAssignments.writeAnnouncementLineToConsole(assignment, timeline.slotLength());
+            numOfTalksWithoutBreak++;
+        }
     }
 
     TalkAssignments(final BufferedReader assignmentReader, final List<LocalDateTime> dates) throws IOException {
+        this(
+            assignmentReader,
+            SlotTimeline.fromDates(dates, SlotTimeline.DEFAULT_SLOT_LENGTH, SlotTimeline.DEFAULT_BREAK_LENGTH)
+        );
+    }
+
+    TalkAssignments(final BufferedReader assignmentReader, final SlotTimeline timeline) throws IOException {
         final List<TopicAssignment> assignmentsWithoutDates = new ArrayList<TopicAssignment>();
         String line = assignmentReader.readLine();
         while (line != null && !line.isBlank()) {
@@ -189,37 +275,15 @@ public class TalkAssignments extends LinkedList<TalkAssignment> {
             );
             line = assignmentReader.readLine();
         }
-        final Map<LocalDate, List<LocalDateTime>> datesByDate =
-            dates.stream().collect(
-                Collectors.toMap(
-                    LocalDateTime::toLocalDate,
-                    d -> List.of(d),
-                    (l1, l2) -> Stream.concat(l1.stream(), l2.stream()).toList()
+        final int firstSlot = timeline.firstSlotFor(assignmentsWithoutDates.size());
+        final int slots = Math.min(assignmentsWithoutDates.size(), timeline.size() - firstSlot);
+        for (int i = 0; i < slots; i++) {
+            this.add(
+                new TalkAssignment(
+                    assignmentsWithoutDates.get(i),
+                    SlotTimeline.toLocalDateTime(timeline.slot(firstSlot + i))
                 )
             );
-        int availableDates = dates.size();
-        final int neededDates = assignmentsWithoutDates.size();
-        final List<LocalDate> keys = new ArrayList<LocalDate>(datesByDate.keySet());
-        Collections.sort(keys);
-        for (final LocalDate key : keys) {
-            final int datesAtDate = datesByDate.get(key).size();
-            if (datesAtDate > availableDates - neededDates) {
-                break;
-            } else {
-                availableDates -= datesAtDate;
-                datesByDate.remove(key);
-            }
-        }
-        int i = 0;
-        keys.retainAll(datesByDate.keySet());
-        outer: for (final LocalDate key : keys) {
-            for (final LocalDateTime date : datesByDate.get(key)) {
-                this.add(new TalkAssignment(assignmentsWithoutDates.get(i), date));
-                i++;
-                if (i == neededDates) {
-                    break outer;
-                }
-            }
         }
     }
 
@@ -0,0 +1,383 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+public class TextInput implements Closeable {
+
+    @FunctionalInterface
+    public static interface LineConsumer {
+
+        void accept(CharSequence line, int number) throws IOException;
+
+    }
+
+    private final class View implements CharSequence {
+
+        private final int end;
+
+        private final int start;
+
+        private View(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            Objects.checkIndex(index, this.length());
+            return TextInput.this.open().get(this.start + index);
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            Objects.checkFromToIndex(start, end, this.length());
+            return new View(this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return TextInput.this.open().subSequence(this.start, this.end).toString();
+        }
+
+    }
+
+    public static final Charset FALLBACK = Charset.forName("windows-1252");
+
+    private static final ConcurrentLinkedQueue<ByteBuffer> BYTE_BUFFERS = new ConcurrentLinkedQueue<ByteBuffer>();
+
+    private static final ConcurrentLinkedQueue<CharBuffer> CHAR_BUFFERS = new ConcurrentLinkedQueue<CharBuffer>();
+
+    private static final int MAX_POOLED_BYTES = 1 << 23;
+
+    private static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+    private static final int MIN_CAPACITY = 1 << 12;
+
+    private static final AtomicLong POOLED_BYTES = new AtomicLong();
+
+    private static final int SNIFF_LENGTH = 512;
+
+    private static final int STREAM_SNIFF_LENGTH = 1 << 16;
+
+    public static TextInput decode(final byte[] bytes) throws IOException {
+        return TextInput.decode(ByteBuffer.wrap(bytes), "input");
+    }
+
+    public static boolean isBlank(final CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static TextInput open(final Path file) throws IOException {
+        try (FileChannel channel = TextInput.channel(file)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE - TextInput.MIN_CAPACITY) {
+                throw new IOException(String.format("%s is too large to be read as text!", file));
+            }
+            final ByteBuffer bytes = TextInput.acquire(TextInput.BYTE_BUFFERS, (int)size, ByteBuffer::allocate);
+            try {
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                }
+                bytes.flip();
+                return TextInput.decode(bytes, file.toString());
+            } finally {
+                TextInput.release(TextInput.BYTE_BUFFERS, bytes);
+            }
+        }
+    }
+
+    public static BufferedReader openReader(final Path file) throws IOException {
+        final FileChannel channel = TextInput.channel(file);
+        try {
+            final ByteBuffer head = ByteBuffer.allocate(TextInput.STREAM_SNIFF_LENGTH);
+            while (head.hasRemaining() && channel.read(head) >= 0) {
+            }
+            final boolean complete = head.hasRemaining();
+            head.flip();
+            final Charset sniffed = TextInput.sniff(head);
+            final Charset charset =
+                sniffed.equals(StandardCharsets.UTF_8)
+                && head.position() == 0
+                && !TextInput.isUtf8(head.duplicate(), complete) ?
+                    TextInput.FALLBACK :
+                        sniffed;
+            return new BufferedReader(
+                new InputStreamReader(
+                    new SequenceInputStream(
+                        new ByteArrayInputStream(head.array(), head.position(), head.remaining()),
+                        Channels.newInputStream(channel)
+                    ),
+                    charset
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                ),
+                TextInput.MIN_CAPACITY
+            );
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static <B extends Buffer> B acquire(
+        final Queue<B> pool,
+        final int capacity,
+        final IntFunction<B> allocator
+    ) {
+        final B pooled = pool.poll();
+        if (pooled != null) {
+            TextInput.POOLED_BYTES.addAndGet(-TextInput.sizeOf(pooled));
+        }
+        if (pooled != null && pooled.capacity() >= capacity) {
+            pooled.clear();
+            pooled.limit(capacity);
+            return pooled;
+        }
+        final B result = allocator.apply(Math.max(capacity, TextInput.MIN_CAPACITY));
+        result.limit(capacity);
+        return result;
+    }
+
+    private static FileChannel channel(final Path file) throws IOException {
+        try {
+            return FileChannel.open(file, StandardOpenOption.READ);
+        } catch (final NoSuchFileException e) {
+            final FileNotFoundException exception =
+                new FileNotFoundException(String.format("%s (No such file or directory)", file));
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private static TextInput decode(final ByteBuffer bytes, final String source) throws IOException {
+        final Charset charset = TextInput.sniff(bytes);
+        final boolean strict = charset.equals(StandardCharsets.UTF_8) && bytes.position() == 0;
+        final int start = bytes.position();
+        final CharBuffer chars =
+            TextInput.acquire(
+                TextInput.CHAR_BUFFERS,
+                (int)Math.ceil(bytes.remaining() * (double)charset.newDecoder().maxCharsPerByte()) + 1,
+                CharBuffer::allocate
+            );
+        try {
+            if (TextInput.decode(bytes, chars, charset, strict)) {
+                return new TextInput(charset, chars);
+            }
+            bytes.position(start);
+            chars.clear();
+            TextInput.decode(bytes, chars, TextInput.FALLBACK, false);
+            return new TextInput(TextInput.FALLBACK, chars);
+        } catch (final CharacterCodingException e) {
+            TextInput.release(TextInput.CHAR_BUFFERS, chars);
+            throw new IOException(String.format("Could not decode %s!", source), e);
+        } catch (final RuntimeException e) {
+            TextInput.release(TextInput.CHAR_BUFFERS, chars);
+            throw e;
+        }
+    }
+
+    private static boolean decode(
+        final ByteBuffer bytes,
+        final CharBuffer chars,
+        final Charset charset,
+        final boolean strict
+    ) throws CharacterCodingException {
+        if (charset.equals(StandardCharsets.UTF_16LE) || charset.equals(StandardCharsets.UTF_16BE)) {
+            final ByteOrder order =
+                charset.equals(StandardCharsets.UTF_16LE) ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            chars.put(bytes.duplicate().order(order).asCharBuffer());
+            chars.flip();
+            return true;
+        }
+        final CodingErrorAction action = strict ? CodingErrorAction.REPORT : CodingErrorAction.REPLACE;
+        final CharsetDecoder decoder =
+            charset.newDecoder().onMalformedInput(action).onUnmappableCharacter(action);
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (result.isError()) {
+            return false;
+        }
+        if (result.isOverflow()) {
+            result.throwException();
+        }
+        chars.flip();
+        return true;
+    }
+
+    private static boolean isUtf8(final ByteBuffer bytes, final boolean endOfInput) {
+        final CharsetDecoder decoder =
+            StandardCharsets.UTF_8
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        final CharBuffer chars = CharBuffer.allocate(TextInput.MIN_CAPACITY);
+        while (true) {
+            final CoderResult result = decoder.decode(bytes, chars, endOfInput);
+            if (result.isError()) {
+                return false;
+            }
+            if (result.isUnderflow()) {
+                return true;
+            }
+            chars.clear();
+        }
+    }
+
+    private static <B extends Buffer> void release(final Queue<B> pool, final B buffer) {
+        if (buffer.capacity() > TextInput.MAX_POOLED_CAPACITY) {
+            return;
+        }
+        final long size = TextInput.sizeOf(buffer);
+        if (TextInput.POOLED_BYTES.addAndGet(size) > TextInput.MAX_POOLED_BYTES) {
+            TextInput.POOLED_BYTES.addAndGet(-size);
+            return;
+        }
+        pool.offer(buffer);
+    }
+
+    private static long sizeOf(final Buffer buffer) {
+        return buffer instanceof CharBuffer ? 2L * buffer.capacity() : buffer.capacity();
+    }
+
+    private static Charset sniff(final ByteBuffer bytes) {
+        final int length = bytes.remaining();
+        final int first = length > 0 ? bytes.get(0) & 0xFF : -1;
+        final int second = length > 1 ? bytes.get(1) & 0xFF : -1;
+        if (length > 2 && first == 0xEF && second == 0xBB && (bytes.get(2) & 0xFF) == 0xBF) {
+            bytes.position(3);
+            return StandardCharsets.UTF_8;
+        }
+        if (first == 0xFF && second == 0xFE) {
+            bytes.position(2);
+            return StandardCharsets.UTF_16LE;
+        }
+        if (first == 0xFE && second == 0xFF) {
+            bytes.position(2);
+            return StandardCharsets.UTF_16BE;
+        }
+        final int sample = Math.min(length, TextInput.SNIFF_LENGTH) & ~1;
+        int evenZeros = 0;
+        int oddZeros = 0;
+        for (int i = 0; i < sample; i += 2) {
+            if (bytes.get(i) == 0) {
+                evenZeros++;
+            }
+            if (bytes.get(i + 1) == 0) {
+                oddZeros++;
+            }
+        }
+        if (sample > 0 && oddZeros * 4 > sample && evenZeros * 16 < sample) {
+            return StandardCharsets.UTF_16LE;
+        }
+        if (sample > 0 && evenZeros * 4 > sample && oddZeros * 16 < sample) {
+            return StandardCharsets.UTF_16BE;
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private final Charset charset;
+
+    private CharBuffer content;
+
+    private TextInput(final Charset charset, final CharBuffer content) {
+        this.charset = charset;
+        this.content = content;
+    }
+
+    public Charset charset() {
+        return this.charset;
+    }
+
+    @Override
+    public void close() {
+        if (this.content != null) {
+            TextInput.release(TextInput.CHAR_BUFFERS, this.content);
+            this.content = null;
+        }
+    }
+
+    public CharSequence content() {
+        return new View(0, this.open().limit());
+    }
+
+    public void forEachLine(final LineConsumer consumer) throws IOException {
+        final CharBuffer content = this.open();
+        final int length = content.remaining();
+        int start = 0;
+        int number = 1;
+        while (start < length) {
+            int end = start;
+            while (end < length && content.get(end) != '\n' && content.get(end) != '\r') {
+                end++;
+            }
+            consumer.accept(new View(start, end), number);
+            number++;
+            if (end < length - 1 && content.get(end) == '\r' && content.get(end + 1) == '\n') {
+                end++;
+            }
+            start = end + 1;
+        }
+    }
+
+    public List<String> lines() throws IOException {
+        final List<String> result = new ArrayList<String>();
+        this.forEachLine((line, number) -> result.add(line.toString()));
+        return result;
+    }
+
+    public BufferedReader reader() {
+        this.open();
+        return new BufferedReader(
+            new Reader() {
+
+                private int position = 0;
+
+                @Override
+                public void close() {
+                }
+
+                @Override
+                public int read(final char[] buffer, final int offset, final int length) {
+                    final CharBuffer content = TextInput.this.open();
+                    if (this.position >= content.limit()) {
+                        return -1;
+                    }
+                    final int count = Math.min(length, content.limit() - this.position);
+                    content.get(this.position, buffer, offset, count);
+                    this.position += count;
+                    return count;
+                }
+
+            },
+            TextInput.MIN_CAPACITY
+        );
+    }
+
+    private CharBuffer open() {
+        if (this.content == null) {
+            throw new IllegalStateException("Text input is already closed!");
+        }
+        return this.content;
+    }
+
+}
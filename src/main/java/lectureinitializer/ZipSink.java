@@ -0,0 +1,103 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.zip.*;
+
+public class ZipSink implements OutputSink {
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private final Path base;
+
+    private final Set<String> names;
+
+    private final Path temporary;
+
+    private ZipOutputStream zip;
+
+    private final Path zipFile;
+
+    public ZipSink(final Path zipFile, final Path base) {
+        this.zipFile = zipFile.toAbsolutePath().normalize();
+        this.base = base.toAbsolutePath().normalize();
+        this.names = new LinkedHashSet<String>();
+        this.temporary =
+            this.zipFile.resolveSibling(
+                String.format(".%s.%d.tmp", this.zipFile.getFileName(), ZipSink.COUNTER.incrementAndGet())
+            );
+        this.zip = null;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (this.zip != null) {
+                this.zip.close();
+            }
+        } finally {
+            this.zip = null;
+            Files.deleteIfExists(this.temporary);
+        }
+    }
+
+    @Override
+    public synchronized void commit() throws IOException {
+        this.open().close();
+        this.zip = null;
+        AtomicFileWriter.move(this.temporary, this.zipFile);
+    }
+
+    public synchronized int entries() {
+        return this.names.size();
+    }
+
+    @Override
+    public synchronized void write(
+        final Path target,
+        final boolean executable,
+        final AtomicFileWriter.BinaryContent content
+    ) throws IOException {
+        final Path normalized = target.toAbsolutePath().normalize();
+        if (!normalized.startsWith(this.base) || normalized.equals(this.base)) {
+            throw new IOException(String.format("%s is not located below %s!", target, this.base));
+        }
+        final String name = this.base.relativize(normalized).toString().replace(File.separatorChar, '/');
+        if (!this.names.add(name)) {
+            throw new IOException(String.format("%s is written twice into %s!", name, this.zipFile));
+        }
+        final ZipOutputStream zip = this.open();
+        zip.putNextEntry(new ZipEntry(name));
+        content.writeTo(
+            new FilterOutputStream(zip) {
+
+                @Override
+                public void close() {
+                }
+
+                @Override
+                public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                    this.out.write(bytes, offset, length);
+                }
+
+            }
+        );
+        zip.closeEntry();
+    }
+
+    private ZipOutputStream open() throws IOException {
+        if (this.zip == null) {
+            Files.createDirectories(this.zipFile.getParent());
+            this.zip =
+                new ZipOutputStream(
+                    new BufferedOutputStream(
+                        Files.newOutputStream(this.temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+                    )
+                );
+        }
+        return this.zip;
+    }
+
+}
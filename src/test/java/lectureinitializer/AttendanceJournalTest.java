@@ -0,0 +1,78 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class AttendanceJournalTest {
+
+    private static BitSet bits(final int... indices) {
+        final BitSet result = new BitSet();
+        for (final int index : indices) {
+            result.set(index);
+        }
+        return result;
+    }
+
+    private static String export(final AttendanceJournal journal, final int session) throws IOException {
+        final StringWriter result = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(result)) {
+            journal.export(journal.sessions().get(session), writer);
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void recordAndQueryTest() throws IOException {
+        final Path file = Files.createTempDirectory("journal").resolve(AttendanceJournal.FILE_NAME);
+        final List<String> participants = List.of("Max Mustermann", "Melanie Musterfrau", "Jörg Müller");
+        try (AttendanceJournal journal = AttendanceJournal.open(file, participants)) {
+            Assert.assertTrue(journal.record("241007", AttendanceJournalTest.bits(0, 2), List.of()));
+            Assert.assertTrue(journal.record("241014", AttendanceJournalTest.bits(0), List.of("Erika Musterfrau")));
+            Assert.assertFalse(journal.record("241014", AttendanceJournalTest.bits(0), List.of("Erika Musterfrau")));
+        }
+        final long size = Files.size(file);
+        try (AttendanceJournal journal = AttendanceJournal.open(file, participants)) {
+            Assert.assertEquals(journal.sessions().size(), 2);
+            Assert.assertEquals(journal.count(0), 2);
+            Assert.assertEquals(journal.count(1), 0);
+            Assert.assertEquals(journal.count(2), 1);
+            Assert.assertEquals(journal.absentMoreThan(0), List.of(1, 2));
+            Assert.assertEquals(journal.absentMoreThan(1), List.of(1));
+            Assert.assertEquals(journal.coverage(1), 1 / 3.0, 1e-9);
+            Assert.assertEquals(
+                AttendanceJournalTest.export(journal, 1),
+                "Max Mustermann\n//Melanie Musterfrau\n//Jörg Müller\n\n//Erika Musterfrau\n"
+            );
+            Assert.assertTrue(journal.record("241014", AttendanceJournalTest.bits(0, 1), List.of()));
+        }
+        Files.write(file, new byte[] {0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+        try (
+            AttendanceJournal journal =
+                AttendanceJournal.open(file, List.of("Max Mustermann", "Melanie Musterfrau", "Jörg Müller", "Neu"))
+        ) {
+            Assert.assertEquals(journal.sessions().size(), 2);
+            Assert.assertEquals(journal.count(1), 1);
+            Assert.assertEquals(journal.participants().size(), 4);
+            Assert.assertEquals(journal.absentMoreThan(1), List.of(3));
+            Assert.assertEquals(
+                AttendanceJournalTest.export(journal, 1),
+                "Max Mustermann\nMelanie Musterfrau\n//Jörg Müller\n//Neu\n"
+            );
+        }
+        Assert.assertTrue(Files.size(file) > size);
+    }
+
+    @Test(expectedExceptions=IOException.class)
+    public void reorderedParticipantsTest() throws IOException {
+        final Path file = Files.createTempDirectory("journal").resolve(AttendanceJournal.FILE_NAME);
+        try (AttendanceJournal journal = AttendanceJournal.open(file, List.of("Max Mustermann", "Jörg Müller"))) {
+            journal.record("241007", AttendanceJournalTest.bits(1), List.of());
+        }
+        AttendanceJournal.open(file, List.of("Jörg Müller", "Max Mustermann")).close();
+    }
+
+}
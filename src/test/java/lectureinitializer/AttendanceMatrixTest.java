@@ -0,0 +1,69 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class AttendanceMatrixTest {
+
+    private static final String HEADER =
+        "Name\tErste Teilnahme\tLetztes Verlassen\tDauer\tE-Mail\tTeilnehmer-ID\tRolle\n";
+
+    @DataProvider
+    public Object[][] fromExportsData() {
+        return new Object[][] {
+            {
+                List.of("Max Mustermann", "Melanie Musterfrau", "Jörg Müller"),
+                List.of(),
+                1,
+                "Name;Rate\nMax Mustermann;0.0%\nMelanie Musterfrau;0.0%\nJörg Müller;0.0%\n",
+                List.of()
+            },
+            {
+                List.of("Max Mustermann", "Melanie Musterfrau", "Jörg Müller"),
+                List.of(
+                    "Max Mustermann / Gast\t07.10.24, 09:01:12\nJörg Müller\t07.10.24, 09:02:00\n\n",
+                    "Erika Musterfrau\t14.10.24, 09:00:00\nMax Mustermann\t14.10.24, 09:00:00\n",
+                    ""
+                ),
+                2,
+                "Name;241007;241014;241021;Rate\n"
+                + "Max Mustermann;x;x;;66.7%\n"
+                + "Melanie Musterfrau;;;;0.0%\n"
+                + "Jörg Müller;x;;;33.3%\n",
+                List.of(List.of(), List.of("Erika Musterfrau"), List.of())
+            }
+        };
+    }
+
+    @Test(dataProvider="fromExportsData")
+    public void fromExportsTest(
+        final List<String> participants,
+        final List<String> exports,
+        final int parallelism,
+        final String expected,
+        final List<List<String>> unknownAttendees
+    ) throws IOException {
+        final Path directory = Files.createTempDirectory("attendance");
+        final List<Path> files = new ArrayList<Path>();
+        for (int i = 0; i < exports.size(); i++) {
+            final Path file = directory.resolve(String.format("2410%02d.csv", 7 + 7 * i));
+            Files.writeString(file, AttendanceMatrixTest.HEADER + exports.get(i), StandardCharsets.UTF_16LE);
+            files.add(file);
+        }
+        final AttendanceMatrix matrix = AttendanceMatrix.fromExports(participants, files, parallelism);
+        final StringWriter result = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(result)) {
+            matrix.write(writer);
+        }
+        Assert.assertEquals(result.toString(), expected);
+        for (int session = 0; session < exports.size(); session++) {
+            Assert.assertEquals(matrix.unknownAttendees(session), unknownAttendees.get(session));
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class BatchTest {
+
+    @Test
+    public void directoryCommandsTest() throws IOException {
+        final Path directory = Files.createTempDirectory("batch");
+        Files.createDirectories(directory.resolve("bank/tex"));
+        Files.writeString(
+            directory.resolve("bank/tex/quiz.txt"),
+            "Sortieren\n\nFrage 1: Was ist 1 + 1?\na) 2 (richtig)\nb) 3\nc) 4\nd) 5\n"
+        );
+        Files.createDirectories(directory.resolve("grading/quizAnswers"));
+        Files.writeString(directory.resolve("grading/quizSolutions.csv"), "Max Mustermann;a\n");
+        Files.createDirectories(directory.resolve("classes"));
+        final List<Batch.Job> jobs;
+        try (
+            BufferedReader reader =
+                new BufferedReader(new StringReader("-f bank\n-qs grading\n-gb classes\n-w classes\n"))
+        ) {
+            jobs = Batch.parseManifest(reader);
+        }
+        final List<Batch.Result> results = Batch.execute(jobs, directory, 4);
+        Assert.assertEquals(results.stream().map(Batch.Result::job).toList(), jobs);
+        Assert.assertEquals(
+            results.stream().map(Batch.Result::successful).toList(),
+            List.of(true, true, true, false)
+        );
+        Assert.assertTrue(results.get(3).output().contains("--watch runs until it is stopped"));
+        Assert.assertTrue(Files.isRegularFile(directory.resolve("bank").resolve(QuizBank.FILE_NAME)));
+        Assert.assertTrue(Files.isRegularFile(directory.resolve("grading").resolve(QuizGrades.FILE_NAME)));
+    }
+
+    @Test
+    public void executeTest() throws IOException {
+        final Path directory = Files.createTempDirectory("batch");
+        for (final String lecture : List.of("se", "or")) {
+            final Path classes = Files.createDirectories(directory.resolve(lecture));
+            Files.writeString(classes.resolve("meta.txt"), "Software Engineering\nSE\nTALK40QUIZ20\n1\nTopic A\n");
+            Files.writeString(
+                classes.resolve("244bwiin123a.txt"),
+                "2\nMax Mustermann\nErika Musterfrau\n2\n24101109454\n24101209454\n"
+            );
+            Files.createDirectories(classes.resolve("244bwiin123a"));
+            Files.writeString(
+                classes.resolve("244bwiin123a").resolve("assignment.txt"),
+                "Max Mustermann -> Topic A\nErika Musterfrau -> Topic A\n"
+            );
+        }
+        final List<Batch.Job> jobs;
+        try (
+            BufferedReader reader =
+                new BufferedReader(
+                    new StringReader(
+                        "# semester start\n"
+                        + "-c se/244bwiin123a.txt -i\n"
+                        + "-c or/244bwiin123a.txt -i\n"
+                        + "\n"
+                        + "-c se/244bwiin123a.txt -a se/244bwiin123a/assignment.txt\n"
+                        + "-c missing/244bwiin123a.txt\n"
+                        + "-q quiz.txt\n"
+                        + "-c \"or/244bwiin123a.txt\" -a or/244bwiin123a/assignment.txt -x\n"
+                    )
+                )
+        ) {
+            jobs = Batch.parseManifest(reader);
+        }
+        Assert.assertEquals(jobs.stream().map(Batch.Job::line).toList(), List.of(2, 3, 5, 6, 7, 8));
+        final List<Batch.Result> results = Batch.execute(jobs, directory, 3);
+        Assert.assertEquals(results.stream().map(Batch.Result::job).toList(), jobs);
+        results.forEach(r -> System.out.println("DBG " + r));
+        Assert.assertEquals(
+            results.stream().map(Batch.Result::successful).toList(),
+            List.of(true, true, true, false, false, true)
+        );
+        Assert.assertTrue(results.get(2).output().contains("12.10.2024:"));
+        Assert.assertTrue(results.get(3).output().contains("Could not create directory 244bwiin123a!"));
+        Assert.assertTrue(results.get(4).output().contains("not allowed"));
+        Assert.assertTrue(Files.isRegularFile(directory.resolve("se/244bwiin123a/241011.txt")));
+        Assert.assertTrue(Files.isRegularFile(directory.resolve("se/244bwiin123a/quizAnswers/mustermann.csv")));
+        Assert.assertTrue(Files.isRegularFile(directory.resolve("or/244bwiin123a/quizAnswers.csv")));
+    }
+
+    @DataProvider
+    public Object[][] tokenizeData() {
+        return new Object[][] {
+            {"-c classes/244bwiin123a.txt", List.of("-c", "classes/244bwiin123a.txt")},
+            {"  -q  quiz.txt\t-o out.tex ", List.of("-q", "quiz.txt", "-o", "out.tex")},
+            {"-b tex -l \"pdflatex -draftmode\"", List.of("-b", "tex", "-l", "pdflatex -draftmode")},
+            {"-t \"Attendance List.txt\" -e \"\"", List.of("-t", "Attendance List.txt", "-e", "")}
+        };
+    }
+
+    @Test(dataProvider="tokenizeData")
+    public void tokenizeTest(final String command, final List<String> expected) throws IOException {
+        Assert.assertEquals(Batch.tokenize(command), expected);
+    }
+
+}
@@ -0,0 +1,77 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import ocp.*;
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class CalendarExportTest {
+
+    private static final String[] SUBJECTS = {
+        "Programmierung I (Vorlesung) | BWIN123A, BWIN123B",
+        "Operations Research (E-Learning) | BWIN123A",
+        "Programmierung I (Klausur) | BWIN123A, BWIN123B",
+        "Technologie-Trends (Hybrid-Vorlesung) | BWIN124A"
+    };
+
+    private static String calendarExport(final int records) {
+        final StringBuilder result = new StringBuilder();
+        result.append("\"Betreff\",\"Beginnt am\",\"Beginnt um\",\"Endet am\",\"Endet um\"\n");
+        for (int i = 0; i < records; i++) {
+            result.append("\"");
+            result.append(CalendarExportTest.SUBJECTS[i % CalendarExportTest.SUBJECTS.length]);
+            result.append("\",\"");
+            result.append(1 + i % 28);
+            result.append(".10.2024\",\"09:00:00\",\"");
+            result.append(1 + i % 28);
+            result.append(".10.2024\",\"12:00:00\",\"Aus\",\"Aus\",\"\",\"\",\"Dozent ");
+            result.append(i);
+            result.append("\",\"\",\"\",\"\",\"\",\"");
+            switch (i % 3) {
+            case 0:
+                result.append("Raum A");
+                break;
+            case 1:
+                result.append("Erste Zeile\nZweite \\\"Zeile\\\"\n\nletzte Zeile");
+                break;
+            default:
+                result.append("Zitat \"\"wörtlich\"\"\nEnde");
+            }
+            result.append("\",\"\",\"Campus\",\"Normal\",\"Aus\",\"\",\"Normal\",\"2\"\n");
+        }
+        return result.toString();
+    }
+
+    @DataProvider
+    public Object[][] parseCalendarExportData() {
+        return new Object[][] {
+            {0, 1},
+            {1, 1},
+            {7, 4},
+            {2000, 1},
+            {2000, 3},
+            {5000, 8}
+        };
+    }
+
+    @Test(dataProvider="parseCalendarExportData")
+    public void parseCalendarExportTest(final int records, final int parallelism) throws IOException {
+        final Path export = Files.createTempFile("calendar", ".csv");
+        Files.writeString(export, CalendarExportTest.calendarExport(records));
+        final Map<Lecture, List<OCEntry>> expected;
+        try (BufferedReader reader = Files.newBufferedReader(export)) {
+            expected = OCEntry.parseAndGroup(reader, LectureExtractor.INSTANCE);
+        }
+        final CalendarExport result = CalendarExport.parseCalendarExport(export.toFile(), parallelism);
+        Assert.assertEquals(new ArrayList<Lecture>(result.keySet()), new ArrayList<Lecture>(expected.keySet()));
+        Assert.assertEquals(
+            new ArrayList<List<OCEntry>>(result.values()),
+            new ArrayList<List<OCEntry>>(expected.values())
+        );
+        Files.delete(export);
+    }
+
+}
@@ -0,0 +1,126 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class DaemonTest {
+
+    private static final String CLASS_FILE =
+        "3\nMax Mustermann\nErika Musterfrau\nJörg Müller\n2\n24100709004\n24101409004\n";
+
+    private static Path classDirectory(final Path root, final int index) throws IOException {
+        final Path directory = Files.createDirectories(root.resolve("class" + index));
+        Files.writeString(directory.resolve("meta.txt"), "Programmierung I\nBWIN123A\n");
+        Files.writeString(directory.resolve("bwin123a.txt"), DaemonTest.CLASS_FILE);
+        return directory;
+    }
+
+    private static Map<String, String> contents(final Path directory) throws IOException {
+        final Map<String, String> result = new TreeMap<String, String>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (final Path file : files) {
+                result.put(file.getFileName().toString(), Files.readString(file));
+            }
+        }
+        return result;
+    }
+
+    private Daemon daemon;
+
+    private Path root;
+
+    private Path socket;
+
+    @AfterClass
+    public void stop() throws IOException {
+        this.daemon.close();
+    }
+
+    @BeforeClass
+    public void start() throws IOException {
+        this.root = Files.createTempDirectory("daemon");
+        this.socket = this.root.resolve("daemon.socket");
+        this.daemon = Daemon.open(this.socket);
+        Thread.ofPlatform().daemon().start(() -> {
+            try {
+                this.daemon.serve();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    public void concurrentRequestsTest() throws Exception {
+        final Path expected = DaemonTest.classDirectory(this.root, 0);
+        ParticipantsAndDates.writeParticipantsLists(expected.resolve("bwin123a.txt").toFile());
+        final List<Callable<Integer>> requests = new ArrayList<Callable<Integer>>();
+        for (int i = 1; i <= 8; i++) {
+            final Path directory = DaemonTest.classDirectory(this.root, i);
+            requests.add(() ->
+                Daemon.forward(
+                    this.socket,
+                    directory,
+                    List.of("-c", "bwin123a.txt"),
+                    OutputStream.nullOutputStream(),
+                    OutputStream.nullOutputStream()
+                )
+            );
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (final Future<Integer> exitCode : executor.invokeAll(requests)) {
+                Assert.assertEquals(exitCode.get().intValue(), 0);
+            }
+        }
+        for (int i = 1; i <= 8; i++) {
+            Assert.assertEquals(
+                DaemonTest.contents(this.root.resolve("class" + i).resolve("bwin123a")),
+                DaemonTest.contents(expected.resolve("bwin123a"))
+            );
+        }
+    }
+
+    @Test
+    public void failureTest() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final int exitCode = Daemon.forward(this.socket, this.root, List.of("-c", "missing.txt"), out, err);
+        Assert.assertEquals(exitCode, 1);
+        Assert.assertEquals(out.size(), 0);
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains("FileNotFoundException"));
+    }
+
+    @Test
+    public void helpTest() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int exitCode =
+            Daemon.forward(this.socket, this.root, List.of("-q", "quiz.txt"), out, OutputStream.nullOutputStream());
+        Assert.assertEquals(exitCode, 0);
+        Assert.assertTrue(out.toString(StandardCharsets.UTF_8).contains("Allowed combinations: "));
+    }
+
+    @Test
+    public void permissionsTest() throws IOException {
+        Assert.assertEquals(Files.getPosixFilePermissions(this.socket), PosixFilePermissions.fromString("rw-------"));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.root, ".li*")) {
+            Assert.assertFalse(files.iterator().hasNext());
+        }
+    }
+
+    @Test(timeOut=60000)
+    public void watchTest() throws IOException {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final int exitCode =
+            Daemon.forward(this.socket, this.root, List.of("-w", "."), OutputStream.nullOutputStream(), err);
+        Assert.assertEquals(exitCode, 1);
+        Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains("cannot be served by the daemon"));
+    }
+
+}
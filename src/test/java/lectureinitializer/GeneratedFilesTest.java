@@ -0,0 +1,64 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class GeneratedFilesTest {
+
+    private static Map<String, GeneratedFiles.Status> generate(
+        final Path directory,
+        final String options
+    ) throws IOException {
+        try (GeneratedFiles files = GeneratedFiles.incremental(directory, "test")) {
+            final Path input = directory.resolve("input.txt");
+            if (!files.upToDate(List.of(input), options)) {
+                final String content = Files.readString(input) + options + "\n";
+                files.writeText(directory.resolve("a.txt"), writer -> writer.write(content));
+                files.writeText(directory.resolve("b.txt"), writer -> writer.write(content));
+            }
+            files.complete();
+            return files.statuses();
+        }
+    }
+
+    @Test
+    public void manifestTest() throws IOException {
+        final Path directory = Files.createTempDirectory("generated");
+        Files.writeString(directory.resolve("input.txt"), "Jörg\n");
+        final GeneratedFiles.Status created = GeneratedFiles.Status.CREATED;
+        final GeneratedFiles.Status kept = GeneratedFiles.Status.KEPT;
+        final GeneratedFiles.Status skipped = GeneratedFiles.Status.SKIPPED;
+        final GeneratedFiles.Status updated = GeneratedFiles.Status.UPDATED;
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", created, "b.txt", created));
+        Assert.assertEquals(Files.readString(directory.resolve("a.txt")), "Jörg\nx\n");
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", skipped, "b.txt", skipped));
+        Files.writeString(directory.resolve("input.txt"), "Max\n");
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", updated, "b.txt", updated));
+        Assert.assertEquals(Files.readString(directory.resolve("b.txt")), "Max\nx\n");
+        Files.writeString(directory.resolve("b.txt"), "by hand\n");
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", skipped, "b.txt", kept));
+        Assert.assertEquals(Files.readString(directory.resolve("b.txt")), "by hand\n");
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", skipped, "b.txt", kept));
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "y"), Map.of("a.txt", updated, "b.txt", kept));
+        Assert.assertEquals(Files.readString(directory.resolve("a.txt")), "Max\ny\n");
+        Assert.assertEquals(Files.readString(directory.resolve("b.txt")), "by hand\n");
+    }
+
+    @Test
+    public void unknownOutputTest() throws IOException {
+        final Path directory = Files.createTempDirectory("generated");
+        Files.writeString(directory.resolve("input.txt"), "Jörg\n");
+        Files.writeString(directory.resolve("a.txt"), "before the manifest\n");
+        Files.writeString(directory.resolve("b.txt"), "Jörg\nx\n");
+        final GeneratedFiles.Status skipped = GeneratedFiles.Status.SKIPPED;
+        final GeneratedFiles.Status updated = GeneratedFiles.Status.UPDATED;
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", updated, "b.txt", skipped));
+        Assert.assertEquals(Files.readString(directory.resolve("a.txt")), "Jörg\nx\n");
+        Assert.assertEquals(GeneratedFilesTest.generate(directory, "x"), Map.of("a.txt", skipped, "b.txt", skipped));
+    }
+
+}
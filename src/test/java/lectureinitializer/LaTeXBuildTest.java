@@ -0,0 +1,70 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class LaTeXBuildTest {
+
+    private static final String STUB_COMPILER =
+        String.join(
+            "\n",
+            "name=\"${1%.tex}\"",
+            "echo run >> \"$name.runs\"",
+            "if grep -q broken \"$1\"; then exit 1; fi",
+            "if grep -q unstable \"$1\"; then date +%s%N >> \"$name.aux\"; else cat \"$1\" > \"$name.aux\"; fi",
+            "touch \"$name.pdf\"",
+            ""
+        );
+
+    @DataProvider
+    public Object[][] buildData() {
+        return new Object[][] {
+            {"stable", 2, 0},
+            {"unstable", 3, 0},
+            {"broken", 1, 1}
+        };
+    }
+
+    @Test(dataProvider="buildData")
+    public void buildTest(final String content, final int passes, final int exitCode)
+    throws IOException {
+        final Path directory = Files.createTempDirectory("latex");
+        final Path compiler = directory.resolve("compiler.sh");
+        Files.writeString(compiler, LaTeXBuildTest.STUB_COMPILER);
+        final Path texFile = directory.resolve("document.tex");
+        Files.writeString(texFile, content);
+        final List<LaTeXBuild.Result> results =
+            LaTeXBuild.build(List.of(texFile), List.of("sh", compiler.toString()), 2);
+        Assert.assertEquals(results.size(), 1);
+        Assert.assertEquals(results.get(0).file(), texFile);
+        Assert.assertEquals(results.get(0).passes(), passes);
+        Assert.assertEquals(results.get(0).exitCode(), exitCode);
+        Assert.assertEquals(Files.readAllLines(directory.resolve("document.runs")).size(), passes);
+    }
+
+    @Test
+    public void rebuildTest() throws IOException {
+        final Path directory = Files.createTempDirectory("latex");
+        final Path compiler = directory.resolve("compiler.sh");
+        Files.writeString(compiler, LaTeXBuildTest.STUB_COMPILER);
+        final List<Path> texFiles = new ArrayList<Path>();
+        for (int i = 0; i < 5; i++) {
+            final Path texFile = directory.resolve(String.format("protocol%d.tex", i));
+            Files.writeString(texFile, "stable " + i);
+            texFiles.add(texFile);
+        }
+        final List<String> command = List.of("sh", compiler.toString());
+        Assert.assertTrue(LaTeXBuild.build(texFiles, command, 3).stream().allMatch(result -> result.passes() == 2));
+        final List<LaTeXBuild.Result> results = LaTeXBuild.build(texFiles, command, 3);
+        for (int i = 0; i < texFiles.size(); i++) {
+            Assert.assertEquals(results.get(i).file(), texFiles.get(i));
+            Assert.assertEquals(results.get(i).passes(), 1);
+            Assert.assertTrue(results.get(i).successful());
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package lectureinitializer;
+
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class LaTeXEscaperTest {
+
+    private static final String ALPHABET = "\\&$%{}_#~^\"'ab äß\n";
+
+    private static String randomText(final Random random) {
+        final int length = random.nextInt(24);
+        final StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            result.append(LaTeXEscaperTest.ALPHABET.charAt(random.nextInt(LaTeXEscaperTest.ALPHABET.length())));
+        }
+        return result.toString();
+    }
+
+    private static String regexEscape(final String text) {
+        return text.replaceAll("\\\\", "\\\\textbackslash")
+            .replaceAll("([&\\$%\\{\\}_#])", "\\\\$1")
+            .replaceAll("~", "\\\\textasciitilde{}")
+            .replaceAll("\\^", "\\\\textasciicircum{}")
+            .replaceAll("\\\\textbackslash", "\\\\textbackslash{}")
+            .replaceAll("([^\\\\])\"", "$1''")
+            .replaceAll("^\"", "''");
+    }
+
+    @DataProvider
+    public Object[][] escapeData() {
+        return new Object[][] {
+            {"", ""},
+            {"Softwaretechnik", "Softwaretechnik"},
+            {"A & B", "A \\& B"},
+            {"50% von $x_1$", "50\\% von \\$x\\_1\\$"},
+            {"\\section{#1}", "\\textbackslash{}section\\{\\#1\\}"},
+            {"~^", "\\textasciitilde{}\\textasciicircum{}"},
+            {"\"Zitat\"", "''Zitat''"},
+            {"a\"\"b", "a''\"b"},
+            {"\"\"\"", "''''\""}
+        };
+    }
+
+    @Test(dataProvider="escapeData")
+    public void escapeTest(final String text, final String expected) {
+        Assert.assertEquals(LaTeXEscaper.escape(text), expected);
+        Assert.assertEquals(LaTeXEscaperTest.regexEscape(text), expected);
+    }
+
+    @DataProvider
+    public Object[][] seedData() {
+        return new Object[][] {{1L}, {2L}, {3L}, {4L}, {5L}};
+    }
+
+    @Test(dataProvider="seedData")
+    public void regexEquivalenceTest(final long seed) {
+        final Random random = new Random(seed);
+        for (int i = 0; i < 2000; i++) {
+            final String text = LaTeXEscaperTest.randomText(random);
+            Assert.assertEquals(LaTeXEscaper.escape(text), LaTeXEscaperTest.regexEscape(text), text);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package lectureinitializer;
+
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class LectureTest {
+
+    @DataProvider
+    public Object[][] parseData() {
+        return new Object[][] {
+            {"Programmierung I | BWIN123A, BWIN123B", "Programmierung I", Set.of("BWIN123A", "BWIN123B")},
+            {" Operations Research |BWIN123A", "Operations Research", Set.of("BWIN123A")},
+            {
+                "Wirtschaftsmathematik | WIIN123a, WIIN123a ,BWIN123A",
+                "Wirtschaftsmathematik",
+                Set.of("WIIN123a", "BWIN123A")
+            }
+        };
+    }
+
+    @Test(dataProvider="parseData")
+    public void parseTest(final String line, final String title, final Set<String> groups) {
+        final Lecture lecture = Lecture.parse(line);
+        Assert.assertEquals(lecture.title(), title);
+        Assert.assertEquals(lecture.groups(), groups);
+        Assert.assertSame(Lecture.of(title, groups), lecture);
+    }
+
+    @Test
+    public void internTest() {
+        final Lecture lecture = Lecture.parse("Software Testing & DevOps | BWIN123A, BWIN123B");
+        Assert.assertSame(Lecture.parse("Software Testing & DevOps|BWIN123B,BWIN123A"), lecture);
+        Assert.assertSame(Lecture.of("Software Testing & DevOps", List.of("BWIN123B", "BWIN123A")), lecture);
+        Assert.assertNotEquals(Lecture.parse("Software Testing & DevOps | BWIN123A"), lecture);
+        Assert.assertNotEquals(Lecture.parse("Software Testing | BWIN123A, BWIN123B"), lecture);
+    }
+
+    @Test
+    public void rotationTest() {
+        final Lecture lecture = Lecture.parse("Datenbanken | BWIN123A, BWIN123B");
+        final Set<Lecture> interned = new HashSet<Lecture>();
+        Lecture current = lecture;
+        for (int i = 0; current == lecture; i++) {
+            Assert.assertTrue(i < 100000);
+            interned.add(Lecture.of(String.format("Lecture %d", i), Set.of("BWIN123A")));
+            current = Lecture.of("Datenbanken", Set.of("BWIN123B", "BWIN123A"));
+        }
+        Assert.assertEquals(current, lecture);
+        Assert.assertEquals(lecture, current);
+        Assert.assertEquals(current.hashCode(), lecture.hashCode());
+        Assert.assertEquals(lecture.title(), "Datenbanken");
+        Assert.assertEquals(lecture.groups(), Set.of("BWIN123A", "BWIN123B"));
+        Assert.assertTrue(interned.contains(Lecture.of("Lecture 0", Set.of("BWIN123A"))));
+        Assert.assertNotEquals(Lecture.of("Lecture 0", Set.of("BWIN123B")), Lecture.of("Lecture 0", Set.of("BWIN123A")));
+    }
+
+}
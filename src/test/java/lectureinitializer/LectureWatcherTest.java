@@ -0,0 +1,91 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class LectureWatcherTest {
+
+    private static final String QUIZ = "Sortieren\n\nWas ist 1 + 1?\na) 2 (richtig)\nb) 3\nc) 4\nd) 5\n";
+
+    private static Path lecture() throws IOException {
+        final Path result = Files.createTempDirectory("lecture");
+        final Path classes = result.resolve("classes");
+        Files.createDirectories(classes.resolve("c1/protocols"));
+        Files.createDirectories(result.resolve("tex"));
+        Files.writeString(classes.resolve("meta.txt"), "Software Engineering\nSE\nTALK40QUIZ20\n1\nTopic A;solA.txt\n");
+        Files.writeString(classes.resolve("solA.txt"), "Xa\n");
+        Files.writeString(classes.resolve("c1.txt"), "1\nMax Mustermann\n1\n24101109454\n");
+        Files.writeString(classes.resolve("c2.txt"), "1\nMelanie Musterfrau\n1\n24101109454\n");
+        Files.writeString(classes.resolve("c1/assignment.txt"), "Max Mustermann -> Topic A\n");
+        Files.writeString(classes.resolve("c1/241011.txt"), "Max Mustermann\n");
+        Files.writeString(classes.resolve("c1/protocols/protokollSEMustermann.tex"), "\\documentclass{article}\n");
+        Files.writeString(result.resolve("tex/quiz.txt"), LectureWatcherTest.QUIZ);
+        return result;
+    }
+
+    @Test
+    public void jobsTest() throws IOException {
+        final Path lecture = LectureWatcherTest.lecture();
+        final Path classes = lecture.resolve("classes");
+        final LectureWatcher.Job lists1 =
+            new LectureWatcher.Job(LectureWatcher.Artifact.PARTICIPANTS_LISTS, classes.resolve("c1.txt"));
+        final LectureWatcher.Job lists2 =
+            new LectureWatcher.Job(LectureWatcher.Artifact.PARTICIPANTS_LISTS, classes.resolve("c2.txt"));
+        final LectureWatcher.Job talk1 =
+            new LectureWatcher.Job(LectureWatcher.Artifact.TALK, classes.resolve("c1.txt"));
+        final LectureWatcher.Job quiz =
+            new LectureWatcher.Job(LectureWatcher.Artifact.QUIZ, lecture.resolve("tex/quiz.txt"));
+        Assert.assertEquals(LectureWatcher.jobs(List.of(classes.resolve("meta.txt"))), List.of(lists1, talk1, lists2));
+        Assert.assertEquals(LectureWatcher.jobs(List.of(classes.resolve("c2.txt"))), List.of(lists2));
+        Assert.assertEquals(LectureWatcher.jobs(List.of(classes.resolve("c1/assignment.txt"))), List.of(talk1));
+        Assert.assertEquals(LectureWatcher.jobs(List.of(classes.resolve("solA.txt"))), List.of(talk1));
+        Assert.assertEquals(
+            LectureWatcher.jobs(
+                List.of(
+                    lecture.resolve("tex/quiz.txt"),
+                    classes.resolve("c1/241011.txt"),
+                    classes.resolve("c1/protocols/protokollSEMustermann.tex"),
+                    classes.resolve("c1.txt"),
+                    classes.resolve("c1/assignment.txt"),
+                    lecture.resolve("tex/quiz.tex")
+                )
+            ),
+            List.of(quiz, lists1, talk1)
+        );
+        Assert.assertEquals(LectureWatcher.jobs(List.of(lecture.resolve("tex/quizOld.txt"))), List.of());
+        Assert.assertEquals(quiz.description(), "quiz quiz.tex");
+        Assert.assertEquals(talk1.description(), "talk files of c1.txt");
+    }
+
+    @Test
+    public void watchTest() throws Exception {
+        final Path lecture = LectureWatcherTest.lecture();
+        final Path tex = lecture.resolve("tex/quiz.tex");
+        try (LectureWatcher watcher = LectureWatcher.open(lecture)) {
+            final Thread thread = Thread.ofPlatform().start(
+                () -> {
+                    try {
+                        watcher.watch();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            );
+            Files.writeString(
+                lecture.resolve("tex/quiz.txt"),
+                LectureWatcherTest.QUIZ + "\nWas ist 2 + 2?\na) 4 (richtig)\nb) 5\n"
+            );
+            for (int i = 0; i < 100 && !Files.isRegularFile(tex); i++) {
+                Thread.sleep(100);
+            }
+            watcher.close();
+            thread.join();
+        }
+        Assert.assertTrue(Files.readString(tex).contains("Was ist 2 + 2?"));
+    }
+
+}
@@ -0,0 +1,78 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class MainTest {
+
+    private static final List<String> OPTIONAL_CLASSES =
+        List.of("ocp.", "lectureinitializer.CalendarExport ", "lectureinitializer.QuizQuestions ");
+
+    @DataProvider
+    public Object[][] lazyLoadingData() {
+        return new Object[][] {
+            {List.of("-c", "bwin123a.txt"), List.of()},
+            {List.of("-t", "attendance.txt", "-e", "teams.csv"), List.of()},
+            {List.of("-q", "quiz.txt", "-o", "quiz.tex"), List.of("lectureinitializer.QuizQuestions ")},
+            {
+                List.of("-p", "participants.txt", "-e", "calendar.csv"),
+                List.of("ocp.", "lectureinitializer.CalendarExport ")
+            }
+        };
+    }
+
+    @Test(dataProvider="lazyLoadingData")
+    public void lazyLoadingTest(final List<String> args, final List<String> expected)
+    throws IOException, InterruptedException {
+        final Path directory = Files.createTempDirectory("main");
+        Files.writeString(directory.resolve("meta.txt"), "Programmierung I\nBWIN123A\n");
+        Files.writeString(directory.resolve("bwin123a.txt"), "1\nMax Mustermann\n1\n24100709004\n");
+        Files.writeString(directory.resolve("attendance.txt"), "Max Mustermann\n");
+        Files.writeString(
+            directory.resolve("teams.csv"),
+            "Name\tErste Teilnahme\nMax Mustermann\t07.10.24, 09:01:12\n",
+            StandardCharsets.UTF_16LE
+        );
+        Files.writeString(
+            directory.resolve("quiz.txt"),
+            "Topic\n\nFrage 1: Was ist Scrum?\na) Ein Framework (richtig)\nb) Eine Sprache\nc) Ein Tool\nd) Ein Team\n"
+        );
+        Files.writeString(
+            directory.resolve("participants.txt"),
+            "Programmierung I | BWIN123A |\nBWIN123A Max Mustermann\n"
+        );
+        Files.writeString(
+            directory.resolve("calendar.csv"),
+            "\"Betreff\",\"Beginnt am\",\"Beginnt um\",\"Endet am\",\"Endet um\"\n"
+            + "\"Programmierung I (Vorlesung) | BWIN123A\",\"7.10.2024\",\"09:00:00\",\"7.10.2024\",\"12:00:00\","
+            + "\"Aus\",\"Aus\",\"\",\"\",\"Dozent\",\"\",\"\",\"\",\"\",\"Raum A\",\"\",\"Campus\",\"Normal\","
+            + "\"Aus\",\"\",\"Normal\",\"2\"\n"
+        );
+        Files.createDirectories(directory.resolve("Programmierung_I").resolve("classes"));
+        final Path log = directory.resolve("classes.log");
+        final List<String> command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xlog:class+load:file=" + log);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Main.class.getName());
+        command.addAll(args);
+        final Process process =
+            new ProcessBuilder(command)
+            .directory(directory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        Assert.assertEquals(process.waitFor(), 0);
+        final String loaded = Files.readString(log);
+        for (final String optional : MainTest.OPTIONAL_CLASSES) {
+            Assert.assertEquals(loaded.contains(optional), expected.contains(optional), optional);
+        }
+    }
+
+}
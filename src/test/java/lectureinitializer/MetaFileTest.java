@@ -0,0 +1,82 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.Optional;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class MetaFileTest {
+
+    @DataProvider
+    public Object[][] fromReaderData() {
+        return new Object[][] {
+            {"Subject\nSUB\n", new Subject("Subject", "SUB"), Optional.empty(), List.of()},
+            {"Subject\nSUB\nEXAM\n", new Subject("Subject", "SUB"), Optional.of("EXAM"), List.of()},
+            {
+                "Subject\nSUB\nTALK40QUIZ20\n2\nTopic A;solA.txt\nTopic B\n",
+                new Subject("Subject", "SUB"),
+                Optional.of("TALK40QUIZ20"),
+                List.of("Topic A", "Topic B")
+            }
+        };
+    }
+
+    @Test(dataProvider="fromReaderData")
+    public void fromReaderTest(
+        final String content,
+        final Subject subject,
+        final Optional<String> mode,
+        final List<String> topics
+    ) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+            final MetaFile metaFile = MetaFile.fromReader(reader, Path.of("."));
+            Assert.assertEquals(metaFile.subject(), subject);
+            Assert.assertEquals(metaFile.mode(), mode);
+            Assert.assertEquals(metaFile.topics(), topics);
+        }
+    }
+
+    @DataProvider
+    public Object[][] slotTimingData() {
+        return new Object[][] {
+            {"Subject\nSUB\nTALK40QUIZ20\n1\nTopic A\n", 45, 15},
+            {"Subject\nSUB\nTALK40QUIZ20\n1\nTopic A\n\n", 45, 15},
+            {"Subject\nSUB\nTALK80QUIZ20\n1\nTopic A\n90;30\n", 90, 30},
+            {"Subject\nSUB\nTALK40QUIZ20\n0\n60 ; 0\n", 60, 0},
+            {"Subject\nSUB\nTALK40QUIZ20\n1\nTopic A\nNotes for the tutors\n90;30\n", 45, 15},
+            {"Subject\nSUB\nTALK40QUIZ20\n1\nTopic A\n90;30;10\n", 45, 15}
+        };
+    }
+
+    @Test(dataProvider="slotTimingData")
+    public void slotTimingTest(final String content, final int slotLength, final int breakLength) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+            final MetaFile metaFile = MetaFile.fromReader(reader, Path.of("."));
+            Assert.assertEquals(metaFile.slotLength(), slotLength);
+            Assert.assertEquals(metaFile.breakLength(), breakLength);
+        }
+    }
+
+    @Test
+    public void solutionTest() throws IOException {
+        final Path directory = Files.createTempDirectory("meta");
+        Files.writeString(directory.resolve("solA.txt"), "% a;b;c\nignored\n");
+        try (
+            BufferedReader reader =
+                new BufferedReader(new StringReader("Subject\nSUB\nTALK40QUIZ20\n2\nTopic A;solA.txt\nTopic B\n"))
+        ) {
+            final MetaFile metaFile = MetaFile.fromReader(reader, directory);
+            Assert.assertEquals(metaFile.solution("Topic A"), Optional.of(" a;b;c"));
+            Assert.assertEquals(metaFile.solution("Topic B"), Optional.empty());
+            Assert.assertEquals(metaFile.solution("Topic C"), Optional.empty());
+            Files.delete(directory.resolve("solA.txt"));
+            Assert.assertEquals(metaFile.solution("Topic A"), Optional.of(" a;b;c"));
+        } finally {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+}
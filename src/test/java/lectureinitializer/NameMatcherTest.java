@@ -0,0 +1,86 @@
+package lectureinitializer;
+
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class NameMatcherTest {
+
+    private static final List<String> PARTICIPANTS =
+        List.of(
+            "Max Mustermann",
+            "Melanie Musterfrau",
+            "Jörg Müller",
+            "Anna Lena Schmidt",
+            "Jan Meier",
+            "Jan Meyer",
+            "François Dupont"
+        );
+
+    @DataProvider
+    public Object[][] exactData() {
+        return new Object[][] {
+            {"Max Mustermann", 0},
+            {"François Dupont", 6},
+            {"Mustermann, Max", -1},
+            {"jörg müller", -1},
+            {"Max Peter Mustermann", -1}
+        };
+    }
+
+    @Test(dataProvider="exactData")
+    public void exactTest(final String attendee, final int participant) {
+        final NameMatcher.Match match = NameMatcher.exact(NameMatcherTest.PARTICIPANTS).match(attendee);
+        Assert.assertEquals(match.participant(), participant);
+        Assert.assertEquals(match.candidates(), participant < 0 ? List.of() : List.of(participant));
+    }
+
+    @DataProvider
+    public Object[][] matchData() {
+        return new Object[][] {
+            {"Max Mustermann", 0.8, 0, List.of(0)},
+            {"Mustermann, Max", 0.8, 0, List.of(0)},
+            {"Joerg Mueller", 0.8, 2, List.of(2)},
+            {"jörg müller", 0.8, 2, List.of(2)},
+            {"Max Peter Mustermann", 0.8, 0, List.of(0)},
+            {"Anna Schmidt", 0.8, 3, List.of(3)},
+            {"Schmidt, Anna", 0.9, -1, List.of()},
+            {"Francois Dupont", 0.8, 6, List.of(6)},
+            {"Jan M.", 0.5, -1, List.of(4, 5)},
+            {"Erika Musterfrau", 0.8, -1, List.of()},
+            {"Unbekannt", 0.8, -1, List.of()}
+        };
+    }
+
+    @Test(dataProvider="matchData")
+    public void matchTest(
+        final String attendee,
+        final double similarity,
+        final int participant,
+        final List<Integer> candidates
+    ) {
+        final NameMatcher.Match match =
+            new NameMatcher(NameMatcherTest.PARTICIPANTS, similarity, NameMatcher.DEFAULT_MARGIN).match(attendee);
+        Assert.assertEquals(match.participant(), participant);
+        Assert.assertEquals(match.candidates(), candidates);
+        Assert.assertEquals(match.ambiguous(), candidates.size() > 1);
+    }
+
+    @DataProvider
+    public Object[][] normalizeData() {
+        return new Object[][] {
+            {"Max Mustermann", "max mustermann"},
+            {"Mustermann, Max", "max mustermann"},
+            {"  Jörg   MÜLLER ", "joerg mueller"},
+            {"Straße", "strasse"},
+            {"François-Dupont", "dupont francois"}
+        };
+    }
+
+    @Test(dataProvider="normalizeData")
+    public void normalizeTest(final String name, final String expected) {
+        Assert.assertEquals(NameMatcher.normalize(name), expected);
+    }
+
+}
@@ -0,0 +1,139 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+import java.util.zip.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class OutputSinkTest {
+
+    private static void write(final GeneratedFiles files, final Path root) throws IOException {
+        files.writeText(root.resolve("a.txt"), writer -> writer.write("first\n"));
+        files.writeText(root.resolve("sub/b.txt"), writer -> writer.write("Jörg\n"));
+        files.writeExecutable(root.resolve("sub/run.sh"), writer -> writer.write("#!/bin/bash\n"));
+        files.writeText(root.resolve("a.txt"), writer -> writer.write("second\n"));
+    }
+
+    @Test
+    public void directorySinkDiscardTest() throws IOException {
+        final Path root = Files.createTempDirectory("directorySink");
+        final DirectorySink sink = new DirectorySink();
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            OutputSinkTest.write(files, root);
+        }
+        Assert.assertTrue(sink.staged().isEmpty());
+        try (Stream<Path> stream = Files.walk(root)) {
+            Assert.assertEquals(stream.filter(Files::isRegularFile).count(), 0);
+        }
+    }
+
+    @Test
+    public void directorySinkTest() throws IOException {
+        final Path root = Files.createTempDirectory("directorySink");
+        final DirectorySink sink = new DirectorySink();
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            OutputSinkTest.write(files, root);
+            Assert.assertFalse(Files.exists(root.resolve("a.txt")));
+            Assert.assertEquals(sink.staged().size(), 3);
+            files.complete();
+        }
+        Assert.assertTrue(sink.staged().isEmpty());
+        Assert.assertEquals(Files.readString(root.resolve("a.txt")), "second\n");
+        Assert.assertEquals(Files.readString(root.resolve("sub/b.txt")), "Jörg\n");
+        Assert.assertTrue(Files.isExecutable(root.resolve("sub/run.sh")));
+        try (Stream<Path> stream = Files.walk(root)) {
+            Assert.assertEquals(stream.filter(file -> file.getFileName().toString().endsWith(".tmp")).count(), 0);
+        }
+    }
+
+    @Test
+    public void memorySinkDiscardTest() throws IOException {
+        final Path root = Files.createTempDirectory("memorySink");
+        final MemorySink sink = new MemorySink();
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            OutputSinkTest.write(files, root);
+        }
+        Assert.assertTrue(sink.targets().isEmpty());
+    }
+
+    @Test
+    public void memorySinkTest() throws IOException {
+        final Path root = Files.createTempDirectory("memorySink");
+        final MemorySink sink = new MemorySink();
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            OutputSinkTest.write(files, root);
+            files.complete();
+        }
+        Assert.assertEquals(
+            sink.targets(),
+            new TreeSet<Path>(List.of(root.resolve("a.txt"), root.resolve("sub/b.txt"), root.resolve("sub/run.sh")))
+        );
+        Assert.assertEquals(sink.text(root.resolve("a.txt")), "second\n");
+        Assert.assertEquals(sink.content(root.resolve("sub/b.txt")), "Jörg\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(sink.isExecutable(root.resolve("sub/run.sh")));
+        Assert.assertFalse(sink.isExecutable(root.resolve("a.txt")));
+        Assert.assertNull(sink.text(root.resolve("c.txt")));
+        try (Stream<Path> stream = Files.list(root)) {
+            Assert.assertEquals(stream.count(), 0);
+        }
+    }
+
+    @Test
+    public void zipSinkDiscardTest() throws IOException {
+        final Path root = Files.createTempDirectory("zipSink");
+        final Path zipFile = root.resolve("out.zip");
+        try (GeneratedFiles files = GeneratedFiles.direct(new ZipSink(zipFile, root.resolve("class")))) {
+            files.writeText(root.resolve("class/a.txt"), writer -> writer.write("first\n"));
+            Assert.assertThrows(
+                IOException.class,
+                () -> files.writeText(
+                    root.resolve("class/b.txt"),
+                    writer -> {
+                        writer.write("partial\n");
+                        throw new IOException("Failed!");
+                    }
+                )
+            );
+        }
+        try (Stream<Path> stream = Files.list(root)) {
+            Assert.assertEquals(stream.count(), 0);
+        }
+    }
+
+    @Test
+    public void zipSinkTest() throws IOException {
+        final Path root = Files.createTempDirectory("zipSink");
+        final Path zipFile = root.resolve("out.zip");
+        final ZipSink sink = new ZipSink(zipFile, root.resolve("class"));
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            files.writeText(root.resolve("class/sub/b.txt"), writer -> writer.write("Jörg\n"));
+            files.writeText(root.resolve("class/a.txt"), writer -> writer.write("first\n"));
+            Assert.assertThrows(
+                IOException.class,
+                () -> files.writeText(root.resolve("class/a.txt"), writer -> writer.write("second\n"))
+            );
+            Assert.assertThrows(
+                IOException.class,
+                () -> files.writeText(root.resolve("other/c.txt"), writer -> writer.write("outside\n"))
+            );
+            Assert.assertFalse(Files.exists(zipFile));
+            files.complete();
+        }
+        Assert.assertEquals(sink.entries(), 2);
+        final Map<String, String> entries = new LinkedHashMap<String, String>();
+        try (ZipInputStream stream = new ZipInputStream(Files.newInputStream(zipFile))) {
+            for (ZipEntry entry = stream.getNextEntry(); entry != null; entry = stream.getNextEntry()) {
+                entries.put(entry.getName(), new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assert.assertEquals(List.copyOf(entries.keySet()), List.of("sub/b.txt", "a.txt"));
+        Assert.assertEquals(entries, Map.of("a.txt", "first\n", "sub/b.txt", "Jörg\n"));
+        Assert.assertFalse(Files.exists(root.resolve("class")));
+    }
+
+}
@@ -0,0 +1,82 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class ParticipantsListTest {
+
+    @DataProvider
+    public Object[][] parseData() {
+        return new Object[][] {
+            {
+                "Programmierung I | BWIN123A, BWIN123B |\n"
+                + "Nr Name\n"
+                + "BWIN123A Max Mustermann\n"
+                + "BWIN123B Melanie\n"
+                + "\n"
+                + "BWIN123A\n"
+                + "Jörg Müller\n"
+                + "Seite 1 von 2\n"
+                + "\n"
+                + " Programmierung I | BWIN123A,\n"
+                + "BWIN123B |\n"
+                + "BWIN123B Anna Müller\n"
+                + "Seite 2 von 3\n"
+                + "\n"
+                + " Operations Research | BWIN123A |\n"
+                + "BWIN123A Hans Meier\n"
+                + "Seite 3 von 3\n"
+                + "\n"
+                + "\n",
+                List.of(
+                    Lecture.of("Programmierung I", Set.of("BWIN123A", "BWIN123B")),
+                    Lecture.of("Operations Research", Set.of("BWIN123A"))
+                ),
+                List.of(
+                    List.of("Max Mustermann", "Melanie", "Jörg Müller", "Anna Müller"),
+                    List.of("Hans Meier")
+                )
+            }
+        };
+    }
+
+    @Test(dataProvider="parseData")
+    public void parseTest(final String content, final List<Lecture> lectures, final List<List<String>> participants)
+    throws IOException {
+        final Map<Lecture, List<String>> result = new LinkedHashMap<Lecture, List<String>>();
+        ParticipantsList.parse(new StringReader(content), result::put);
+        Assert.assertEquals(new ArrayList<Lecture>(result.keySet()), lectures);
+        Assert.assertEquals(new ArrayList<List<String>>(result.values()), participants);
+    }
+
+    @DataProvider
+    public Object[][] malformedData() {
+        return new Object[][] {
+            {"", "Participants list is empty!"},
+            {"Programmierung I | BWIN123A\nBWIN123A Max Mustermann\n", "Unterminated lecture header in line 1!"},
+            {
+                "Programmierung I | BWIN123A |\nBWIN123A Max Mustermann\nSeite 1 von 2\n",
+                "Missing page header after page break in line 3!"
+            },
+            {
+                "Programmierung I | BWIN123A |\nSeite 1 von 2\n\n A | B | C |\n",
+                "Malformed lecture header in line 4: A | B | C |"
+            },
+            {"Programmierung I | BWIN123A |\nBWIN123A\n", "Incomplete participant entry in line 2!"}
+        };
+    }
+
+    @Test(dataProvider="malformedData")
+    public void malformedTest(final String content, final String message) {
+        try {
+            ParticipantsList.parse(new StringReader(content), (lecture, participants) -> {});
+            Assert.fail();
+        } catch (final IOException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class PreferenceAssignmentTest {
+
+    private static int bruteForce(
+        final Preferences preferences,
+        final int participant,
+        final int[] load,
+        final int capacity
+    ) {
+        if (participant == preferences.participants().size()) {
+            return 0;
+        }
+        int result = Integer.MAX_VALUE;
+        for (int topic = 0; topic < load.length; topic++) {
+            if (load[topic] < capacity) {
+                load[topic]++;
+                result =
+                    Math.min(
+                        result,
+                        preferences.cost(participant, topic)
+                        + PreferenceAssignmentTest.bruteForce(preferences, participant + 1, load, capacity)
+                    );
+                load[topic]--;
+            }
+        }
+        return result;
+    }
+
+    private static Preferences parse(final String preferences) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new StringReader(preferences))) {
+            return Preferences.fromReader(reader);
+        }
+    }
+
+    @Test
+    public void assignTest() throws IOException {
+        final Preferences preferences =
+            PreferenceAssignmentTest.parse(
+                "3\nTopic A\nTopic B\nTopic C\n5\n"
+                + "Max Mustermann;1,2\n"
+                + "Melanie Musterfrau;Topic A, 3\n"
+                + "Jörg Müller;1\n"
+                + "Anna Müller;\n"
+                + "Hans Meier;2\n"
+            );
+        Assert.assertEquals(preferences.choices().get(1), List.of(0, 2));
+        Assert.assertEquals(preferences.choices().get(3), List.of());
+        final int[] topics = PreferenceAssignment.assign(preferences);
+        int cost = 0;
+        final int[] load = new int[3];
+        for (int participant = 0; participant < topics.length; participant++) {
+            cost += preferences.cost(participant, topics[participant]);
+            load[topics[participant]]++;
+        }
+        Assert.assertEquals(cost, 4);
+        Assert.assertTrue(Arrays.stream(load).allMatch(count -> count <= 2));
+        Assert.assertEquals(topics[4], 1);
+    }
+
+    @Test
+    public void optimalTest() throws IOException {
+        final Random random = new Random(17);
+        for (int instance = 0; instance < 50; instance++) {
+            final int numOfTopics = 1 + random.nextInt(4);
+            final int numOfParticipants = 1 + random.nextInt(7);
+            final StringBuilder file = new StringBuilder();
+            file.append(numOfTopics).append("\n");
+            for (int topic = 1; topic <= numOfTopics; topic++) {
+                file.append("Topic ").append(topic).append("\n");
+            }
+            file.append(numOfParticipants).append("\n");
+            for (int participant = 0; participant < numOfParticipants; participant++) {
+                final List<Integer> choices = new ArrayList<Integer>();
+                for (int topic = 1; topic <= numOfTopics; topic++) {
+                    choices.add(topic);
+                }
+                Collections.shuffle(choices, random);
+                file.append("P").append(participant).append(";");
+                for (final int topic : choices.subList(0, random.nextInt(numOfTopics + 1))) {
+                    file.append(topic).append(",");
+                }
+                file.append("\n");
+            }
+            final Preferences preferences = PreferenceAssignmentTest.parse(file.toString());
+            final int capacity = (numOfParticipants + numOfTopics - 1) / numOfTopics;
+            final int[] topics = PreferenceAssignment.assign(preferences);
+            final int[] load = new int[numOfTopics];
+            int cost = 0;
+            for (int participant = 0; participant < numOfParticipants; participant++) {
+                cost += preferences.cost(participant, topics[participant]);
+                load[topics[participant]]++;
+            }
+            Assert.assertTrue(Arrays.stream(load).allMatch(count -> count <= capacity));
+            Assert.assertEquals(
+                cost,
+                PreferenceAssignmentTest.bruteForce(preferences, 0, new int[numOfTopics], capacity)
+            );
+        }
+    }
+
+    @Test
+    public void overwriteTest() throws IOException {
+        final Path directory = Files.createTempDirectory("preferences");
+        final Path preferences = directory.resolve("preferences.txt");
+        final Path assignment = directory.resolve(PreferenceAssignment.FILE_NAME);
+        Files.writeString(preferences, "2\nTopic A\nTopic B\n2\nMax Mustermann;2\nJörg Müller;1\n");
+        PreferenceAssignment.assignTopics(preferences.toFile(), directory.resolve("class.txt").toFile(), false);
+        final String expected = "Max Mustermann -> 2) Topic B\nJörg Müller -> 1) Topic A\n";
+        Assert.assertEquals(Files.readString(assignment), expected);
+        Files.writeString(assignment, "edited by hand\n");
+        Assert.assertThrows(
+            IOException.class,
+            () -> PreferenceAssignment.assignTopics(
+                preferences.toFile(),
+                directory.resolve("class.txt").toFile(),
+                false
+            )
+        );
+        Assert.assertEquals(Files.readString(assignment), "edited by hand\n");
+        PreferenceAssignment.assignTopics(
+            preferences.toFile(),
+            directory.resolve("class.txt").toFile(),
+            false,
+            assignment.toFile()
+        );
+        Assert.assertEquals(Files.readString(assignment), expected);
+    }
+
+    @DataProvider
+    public Object[][] scheduleData() {
+        return new Object[][] {
+            {new int[] {0, 0, 1, 1, 2}, 3, List.of(2, 3), List.of(0, 2, 1, 3, 4)},
+            {new int[] {1, 0, 1, 0}, 2, List.of(2, 2), List.of(1, 0, 3, 2)},
+            {new int[] {0, 0, 0, 1}, 2, List.of(1, 1, 2), List.of(0, 1, 2, 3)}
+        };
+    }
+
+    @Test(dataProvider="scheduleData")
+    public void scheduleTest(
+        final int[] topics,
+        final int numOfTopics,
+        final List<Integer> slotsPerDay,
+        final List<Integer> expected
+    ) throws IOException {
+        Assert.assertEquals(PreferenceAssignment.schedule(topics, numOfTopics, slotsPerDay), expected);
+    }
+
+    @Test(expectedExceptions=IOException.class)
+    public void scheduleInfeasibleTest() throws IOException {
+        PreferenceAssignment.schedule(new int[] {0, 0, 0}, 1, List.of(2, 1));
+    }
+
+    @Test(expectedExceptions=IOException.class)
+    public void unknownTopicTest() throws IOException {
+        PreferenceAssignmentTest.parse("1\nTopic A\n1\nMax Mustermann;2\n");
+    }
+
+}
@@ -0,0 +1,60 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.time.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class ProtocolFileWriterTest {
+
+    @Test
+    public void rawTitleTest() throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ProtocolFileWriter.writeProtocol(
+            stream,
+            TalkMode.TALK40QUIZ20,
+            new Subject("Softwaretechnik", "SE"),
+            "Bergisch Gladbach",
+            new TalkAssignment(
+                new TopicAssignment("Jörg & Müller", "Laufzeit $O(n \\log n)$ von \\emph{Mergesort}"),
+                LocalDateTime.of(2024, 3, 5, 9, 45)
+            )
+        );
+        final String protocol = stream.toString(StandardCharsets.UTF_8);
+        Assert.assertTrue(
+            protocol.contains("\\newcommand{\\presentationtitle}{Laufzeit $O(n \\log n)$ von \\emph{Mergesort}}\n")
+        );
+        Assert.assertTrue(protocol.contains("\\newcommand{\\student}{Jörg \\& Müller}\n"));
+    }
+
+    @DataProvider
+    public Object[][] writeProtocolData() {
+        return new Object[][] {
+            {TalkMode.TALK40QUIZ10},
+            {TalkMode.TALK40QUIZ20},
+            {TalkMode.TALK50SCIENCE},
+            {TalkMode.TALK80QUIZ20}
+        };
+    }
+
+    @Test(dataProvider="writeProtocolData")
+    public void writeProtocolTest(final TalkMode talkMode) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ProtocolFileWriter.writeProtocol(
+            stream,
+            talkMode,
+            new Subject("Softwaretechnik", "SE"),
+            "Bergisch Gladbach",
+            new TalkAssignment(
+                new TopicAssignment("Jörg Müller", "Künstliche Intelligenz im Alltag"),
+                LocalDateTime.of(2024, 3, 5, 9, 45)
+            )
+        );
+        try (InputStream expected = this.getClass().getResourceAsStream("protocols/" + talkMode.name() + ".tex")) {
+            Assert.assertEquals(stream.toByteArray(), expected.readAllBytes());
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class ProtocolGradebookTest {
+
+    private static String protocol(final TalkMode talkMode, final String student) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ProtocolTemplate.forTalkMode(talkMode).render(
+            stream,
+            Map.of(
+                ProtocolTemplate.Slot.SUBJECT, "Software Engineering",
+                ProtocolTemplate.Slot.STUDENT, "",
+                ProtocolTemplate.Slot.TITLE, "Topic A",
+                ProtocolTemplate.Slot.DATE, "7.\\ Oktober 2024",
+                ProtocolTemplate.Slot.PLACE, "Raum 1"
+            )
+        );
+        return stream.toString(StandardCharsets.UTF_8).replaceFirst(
+            "\\\\newcommand\\{\\\\student\\}\\{[^}]*\\}",
+            Matcher.quoteReplacement("\\newcommand{\\student}{" + student + "}")
+        );
+    }
+
+    @DataProvider
+    public Object[][] gradeData() {
+        return new Object[][] {
+            {100.0, 100.0, 1.0},
+            {95.0, 100.0, 1.0},
+            {94.5, 100.0, 1.3},
+            {75.5, 100.0, 2.3},
+            {50.0, 100.0, 4.0},
+            {49.5, 100.0, 5.0},
+            {18.0, 20.0, 1.3},
+            {0.0, 0.0, 5.0}
+        };
+    }
+
+    @Test(dataProvider = "gradeData")
+    public void gradeTest(final double points, final double maxPoints, final double expected) {
+        Assert.assertEquals(ProtocolGradebook.grade(points, maxPoints), expected);
+    }
+
+    @Test
+    public void gradebookTest() throws IOException {
+        final Path root = Files.createTempDirectory("gradebook");
+        final Path classes = root.resolve("classes");
+        final Path protocols = classes.resolve("244bwiin123b/protocols");
+        Files.createDirectories(protocols);
+        Files.writeString(classes.resolve("meta.txt"), "Software Engineering\nSE\nTALK40QUIZ10\n1\nTopic A\n");
+        Files.writeString(
+            protocols.resolve("protokollSEMusterfrau.tex"),
+            ProtocolGradebookTest.protocol(TalkMode.TALK40QUIZ10, "Melanie Musterfrau")
+        );
+        Files.writeString(
+            protocols.resolve("protokollSEMustermann.tex"),
+            ProtocolGradebookTest.protocol(TalkMode.TALK40QUIZ10, "Max Mustermann")
+            .replace("\\understandingstructureiv{}", "\\understandingstructureii{}")
+            .replace("\\quizbonusii{}\n", "")
+            .replace("\\quizbonusiii{}\n", "% \\quizbonusiii{}\n")
+            .replace("\\item \\contributionvalue{0}", "\\item \\contributionvalue{12}\n\\item \\contributionvalue{7,5}")
+        );
+        Files.writeString(
+            protocols.resolve("protokollSEMueller.tex"),
+            ProtocolGradebookTest.protocol(TalkMode.TALK40QUIZ10, "J\\\"org M\\\"uller \\& Sohn")
+            .replace("\\quizpassed{}", "\\quizextraii{}")
+            .replace("\\item \\contributionvalue{0}", "\\item \\contributionvalue{45}")
+        );
+        Files.writeString(protocols.resolve("notizen.tex"), "\\understandingstructurei{}");
+        final List<ProtocolGradebook> gradebooks = ProtocolGradebook.fromDirectory(root, 2);
+        Assert.assertEquals(gradebooks.size(), 1);
+        final ProtocolGradebook gradebook = gradebooks.getFirst();
+        Assert.assertEquals(gradebook.talkMode(), TalkMode.TALK40QUIZ10);
+        Assert.assertEquals(gradebook.maxPoints(), 100.0);
+        final List<ProtocolGradebook.Protocol> graded = gradebook.protocols();
+        Assert.assertEquals(
+            graded.stream().map(ProtocolGradebook.Protocol::student).toList(),
+            List.of("J\\\"org M\\\"uller & Sohn", "Melanie Musterfrau", "Max Mustermann")
+        );
+        Assert.assertEquals(graded.get(0).points(), 101.0);
+        Assert.assertEquals(graded.get(1).points(), 60.0);
+        Assert.assertEquals(gradebook.grade(graded.get(1)), 3.3);
+        Assert.assertEquals(graded.get(2).points(), 75.5);
+        Assert.assertEquals(graded.get(2).parts(), new double[] {18, 10, 10, 10, 8, 19.5});
+        Assert.assertEquals(graded.get(2).criteria()[0], new double[] {2, 4, 4, 4, 4});
+        Assert.assertEquals(gradebook.grade(graded.get(2)), 2.3);
+        Assert.assertEquals(
+            gradebook.warnings(),
+            List.of(
+                "protokollSEMueller.tex:55: Unknown criterion quizextra in part quiz is not graded!",
+                "protokollSEMueller.tex:65: Part additionalEvaluation yields 45 of 40 points!"
+            )
+        );
+        ProtocolGradebook.writeGradebooks(root.toFile());
+        final List<String> table = Files.readAllLines(protocols.resolveSibling(ProtocolGradebook.FILE_NAME));
+        Assert.assertEquals(table.size(), 4);
+        Assert.assertTrue(table.get(0).startsWith("Student;understandingstructure;understandinglogic;"));
+        Assert.assertTrue(table.get(0).endsWith(";quiz;additionalEvaluation;Points;Max;Grade"));
+        Assert.assertEquals(
+            table.get(3),
+            "Max Mustermann;2;4;4;4;4;2;2;2;2;2;4;3;3;0;3;4;3;4;1;3;18;10;10;10;8;19.5;75.5;100;2.3"
+        );
+    }
+
+    @Test
+    public void partsTest() {
+        for (final TalkMode talkMode : TalkMode.values()) {
+            Assert.assertEquals(
+                ProtocolGradebook.parts(talkMode).stream().mapToDouble(ProtocolGradebook.Part::maxPoints).sum(),
+                100.0,
+                talkMode.name()
+            );
+        }
+        Assert.assertEquals(
+            ProtocolGradebook.parts(TalkMode.TALK50SCIENCE).stream().map(ProtocolGradebook.Part::name).toList(),
+            List.of(
+                "presentationUnderstandability",
+                "presentationDepth",
+                "presentationApplication",
+                "paperEvaluation",
+                "reviewi",
+                "reviewii",
+                "reviewiii"
+            )
+        );
+        Assert.assertEquals(
+            ProtocolGradebook.parts(TalkMode.TALK40QUIZ20).get(3).criteria(),
+            List.of("quizcontent", "quizdifficulty", "quizpassed", "quizbonus", "quizparticipantbonus")
+        );
+    }
+
+}
@@ -0,0 +1,65 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class QuizAnswerSheetsTest {
+
+    @DataProvider
+    public Object[][] fileNameData() {
+        return new Object[][] {
+            {List.of("Max Mustermann", "Melanie Musterfrau"), List.of("mustermann.csv", "musterfrau.csv")},
+            {
+                List.of("Jörg Müller", "Anna Müller", "Hans Meier"),
+                List.of("jörg_müller.csv", "anna_müller.csv", "meier.csv")
+            },
+            {List.of("Anna Müller", "Anna Müller"), List.of("anna_müller.csv", "anna_müller_2.csv")}
+        };
+    }
+
+    @Test(dataProvider="fileNameData")
+    public void fileNameTest(final List<String> participants, final List<String> expected) {
+        final QuizAnswerSheets sheets = new QuizAnswerSheets(participants);
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(sheets.fileName(i), expected.get(i));
+        }
+    }
+
+    @DataProvider
+    public Object[][] writeMatrixData() {
+        return new Object[][] {
+            {List.of("A B"), ";A B\nA B;-\n"},
+            {List.of("A B", "C D", "E F"), ";A B;C D;E F\nA B;-;;\nC D;;-;\nE F;;;-\n"}
+        };
+    }
+
+    @Test(dataProvider="writeMatrixData")
+    public void writeMatrixTest(final List<String> participants, final String expected) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new QuizAnswerSheets(participants).writeMatrix(stream);
+        Assert.assertEquals(stream.toString(StandardCharsets.UTF_8), expected);
+    }
+
+    @DataProvider
+    public Object[][] writeSheetData() {
+        return new Object[][] {
+            {List.of("A B"), 0, "A B\n"},
+            {List.of("A B", "C D", "E F"), 0, "A B\nC D;\nE F;\n"},
+            {List.of("A B", "C D", "E F"), 1, "C D\nA B;\nE F;\n"},
+            {List.of("A B", "C D", "E F"), 2, "E F\nA B;\nC D;\n"}
+        };
+    }
+
+    @Test(dataProvider="writeSheetData")
+    public void writeSheetTest(final List<String> participants, final int speaker, final String expected)
+    throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new QuizAnswerSheets(participants).writeSheet(stream, speaker);
+        Assert.assertEquals(stream.toString(StandardCharsets.UTF_8), expected);
+    }
+
+}
@@ -0,0 +1,88 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class QuizBankTest {
+
+    private static String quiz(final String topic, final int first, final int count) {
+        final StringBuilder result = new StringBuilder(topic).append("\n\n");
+        for (int i = first; i < first + count; i++) {
+            result.append(String.format("Frage %d: Was ist %d + %d?\n", i, i, i));
+            result.append(
+                String.format("a) %d (richtig)\nb) %d\nc) %d\nd) %d\n\n", 2 * i, 2 * i + 1, 2 * i + 2, 3 * i)
+            );
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void sampleTest() throws IOException {
+        final Path root = Files.createTempDirectory("bank");
+        Files.createDirectories(root.resolve("Algorithmen/tex"));
+        Files.createDirectories(root.resolve("Programmierung/tex"));
+        Files.writeString(root.resolve("Algorithmen/tex/quiz.txt"), QuizBankTest.quiz("Sortieren", 1, 10));
+        Files.writeString(root.resolve("Programmierung/tex/quiz.txt"), QuizBankTest.quiz("Schleifen", 11, 5));
+        Files.writeString(root.resolve("Programmierung/tex/quizExtra.txt"), QuizBankTest.quiz("Sortieren", 16, 2));
+        Files.writeString(root.resolve("Programmierung/tex/notes.txt"), "Keine Fragen");
+        QuizBank.update(root.toFile(), 2);
+        final QuizBank bank = QuizBank.open(root.resolve(QuizBank.FILE_NAME));
+        Assert.assertEquals(bank.topics(), List.of("Schleifen", "Sortieren"));
+        Assert.assertEquals(bank.size(), 17);
+        Assert.assertEquals(bank.size(List.of("Sortieren")), 12);
+        Assert.assertEquals(bank.sources().size(), 3);
+        final List<QuizQuestion> sample = bank.sample(List.of("Sortieren"), 12, new SplittableRandom(5));
+        final Set<String> questions = new HashSet<String>();
+        for (final QuizQuestion question : sample) {
+            final int operand = Integer.parseInt(question.question().split(" ")[2]);
+            Assert.assertTrue(operand <= 10 || operand > 15, question.question());
+            Assert.assertEquals(question.correctAnswer(), String.valueOf(2 * operand));
+            Assert.assertEquals(question.wrongAnswers().size(), 3);
+            questions.add(question.question());
+        }
+        Assert.assertEquals(questions.size(), 12);
+        Assert.assertEquals(bank.sample(List.of("Schleifen", "Sortieren"), 7, new SplittableRandom(5)).size(), 7);
+        Assert.assertEquals(
+            bank.sample(List.of("Schleifen", "Sortieren"), 7, new SplittableRandom(5)),
+            bank.sample(List.of("Schleifen", "Sortieren"), 7, new SplittableRandom(5))
+        );
+        Assert.assertThrows(IOException.class, () -> bank.sample(List.of("Schleifen"), 6, new SplittableRandom()));
+        Assert.assertThrows(IOException.class, () -> bank.sample(List.of("Graphen"), 1, new SplittableRandom()));
+    }
+
+    @Test
+    public void updateTest() throws IOException {
+        final Path root = Files.createTempDirectory("bank");
+        final Path first = root.resolve("quiz1.txt");
+        final Path second = root.resolve("quiz2.txt");
+        Files.writeString(first, QuizBankTest.quiz("Sortieren", 1, 3));
+        Files.writeString(second, QuizBankTest.quiz("Schleifen", 4, 3));
+        QuizBank.update(root.toFile());
+        final Path bankFile = root.resolve(QuizBank.FILE_NAME);
+        final FileTime built = Files.getLastModifiedTime(bankFile);
+        QuizBank.update(root.toFile());
+        Assert.assertEquals(Files.getLastModifiedTime(bankFile), built);
+        final List<QuizQuestion> unchanged = QuizBank.open(bankFile).questions(0, 3);
+        Files.writeString(first, QuizBankTest.quiz("Sortieren", 1, 5));
+        Files.setLastModifiedTime(first, FileTime.fromMillis(built.toMillis() + 10000));
+        QuizBank.update(root.toFile());
+        QuizBank bank = QuizBank.open(bankFile);
+        Assert.assertEquals(bank.size(), 8);
+        Assert.assertEquals(bank.questions(0, 3), unchanged);
+        Assert.assertEquals(bank.size(List.of("Sortieren")), 5);
+        Files.delete(second);
+        QuizBank.update(root.toFile());
+        bank = QuizBank.open(bankFile);
+        Assert.assertEquals(bank.topics(), List.of("Sortieren"));
+        Assert.assertEquals(bank.sources().getFirst().count(), 5);
+        Files.writeString(bankFile, "kaputt");
+        QuizBank.update(root.toFile());
+        Assert.assertEquals(QuizBank.open(bankFile).size(), 5);
+    }
+
+}
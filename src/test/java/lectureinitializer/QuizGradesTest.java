@@ -0,0 +1,110 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class QuizGradesTest {
+
+    private static Path directory() throws IOException {
+        final Path result = Files.createTempDirectory("grades");
+        Files.writeString(
+            result.resolve("quizSolutions.csv"),
+            "Max Mustermann; a;b;c\nMelanie Musterfrau;d;c\nJörg Müller;\nAnna Müller; a;b;x1\n"
+        );
+        Files.createDirectories(result.resolve("quizAnswers"));
+        return result;
+    }
+
+    @Test
+    public void gradeMatrixTest() throws IOException {
+        final Path directory = QuizGradesTest.directory();
+        Files.writeString(
+            directory.resolve("quizAnswers.csv"),
+            ";Max Mustermann;Melanie Musterfrau;Jörg Müller;Anna Müller\n"
+            + "Max Mustermann;-;dc;;a b\n"
+            + "Melanie Musterfrau;abc;-;;a,c\n"
+            + "Jörg Müller;a?c;d;-;\n"
+            + "Anna Müller;ABC;cd;;-;extra\n"
+        );
+        final QuizGrades grades = QuizGrades.fromDirectory(directory, 2);
+        Assert.assertEquals(grades.correct(0, 1), 3);
+        Assert.assertEquals(grades.correct(0, 3), 3);
+        Assert.assertFalse(grades.hasAnswered(0, 2));
+        Assert.assertEquals(grades.correct(1, 0), 2);
+        Assert.assertEquals(grades.correct(1, 3), 0);
+        Assert.assertEquals(grades.correct(3, 0), 2);
+        Assert.assertEquals(grades.correct(3, 1), 1);
+        Assert.assertEquals(
+            grades.warnings(),
+            List.of(
+                "quizSolutions.csv:4: x1 is no single answer letter!",
+                "quizSolutions.csv:4: Question 3 of Anna Müller has no solution and is not graded!",
+                "quizAnswers.csv:4: a?c contains no answer letters only!",
+                "quizAnswers.csv:5: Row has more cells than the header has speakers!"
+            )
+        );
+    }
+
+    @Test
+    public void gradeSheetsTest() throws IOException {
+        final Path directory = QuizGradesTest.directory();
+        Files.writeString(
+            directory.resolve("quizAnswers/mustermann.csv"),
+            "Max Mustermann\nMelanie Musterfrau; a;B;c\nJörg Müller;a;c;\nAnna Müller;\nErika Mustermann;a;b;c\n"
+        );
+        Files.writeString(
+            directory.resolve("quizAnswers/musterfrau.csv"),
+            "Melanie Musterfrau\r\nMax Mustermann;d;c;a\r\nJörg Müller;dd;c\r\nAnna Müller;d;c\r\nkaputt\r\n"
+        );
+        Files.writeString(
+            directory.resolve("quizAnswers/anna_mueller.csv"),
+            "Anna Müller\nMax Mustermann;a;b;c\nMelanie Musterfrau;b;b\nJörg Müller;a;b\n"
+        );
+        Files.writeString(directory.resolve("quizAnswers/fremd.csv"), "Hans Meier\nMax Mustermann;a\n");
+        final QuizGrades grades = QuizGrades.fromDirectory(directory, 3);
+        Assert.assertEquals(grades.speakers().size(), 4);
+        Assert.assertFalse(grades.hasQuiz(2));
+        Assert.assertEquals(grades.maxPoints(3), 2);
+        Assert.assertEquals(grades.correct(0, 1), 3);
+        Assert.assertEquals(grades.correct(0, 2), 1);
+        Assert.assertFalse(grades.hasAnswered(0, 3));
+        Assert.assertEquals(grades.correct(1, 0), 2);
+        Assert.assertEquals(grades.correct(1, 2), 1);
+        Assert.assertEquals(grades.correct(1, 3), 2);
+        Assert.assertEquals(grades.correct(3, 0), 2);
+        Assert.assertEquals(grades.correct(3, 1), 1);
+        Assert.assertEquals(grades.points(0), 4);
+        Assert.assertEquals(grades.possiblePoints(0), 4);
+        Assert.assertEquals(grades.possiblePoints(2), 7);
+        Assert.assertEquals(
+            grades.warnings(),
+            List.of(
+                "quizSolutions.csv:4: x1 is no single answer letter!",
+                "quizSolutions.csv:4: Question 3 of Anna Müller has no solution and is not graded!",
+                "fremd.csv: Speaker Hans Meier has no entry in quizSolutions.csv!",
+                "musterfrau.csv:3: dd is no single answer letter!",
+                "musterfrau.csv:5: Row has no separator after the name!",
+                "musterfrau.csv:2: 3 answers given for 2 questions!",
+                "mustermann.csv:5: Unknown participant Erika Mustermann!"
+            )
+        );
+        final StringWriter table = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(table)) {
+            grades.writeTable(writer);
+        }
+        Assert.assertEquals(
+            table.toString(),
+            "Participant;Max Mustermann;Melanie Musterfrau;Anna Müller;Points;Max;Percent\n"
+            + "Max Mustermann;-;2;2;4;4;100.0\n"
+            + "Melanie Musterfrau;3;-;1;4;5;80.0\n"
+            + "Jörg Müller;1;1;2;4;7;57.1\n"
+            + "Anna Müller;;2;-;2;5;40.0\n"
+            + "Average;2.00;1.67;1.67;;;\n"
+        );
+    }
+
+}
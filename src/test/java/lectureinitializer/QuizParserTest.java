@@ -0,0 +1,73 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class QuizParserTest {
+
+    private static QuizQuestions parse(final String quiz) throws IOException {
+        final Path file = Files.createTempDirectory("quiz").resolve("quiz.txt");
+        Files.writeString(file, quiz);
+        return QuizParser.parse(file, new SplittableRandom(3));
+    }
+
+    @DataProvider
+    public Object[][] malformedData() {
+        return new Object[][] {
+            {"", "quiz.txt:1: Quiz file contains no topic!"},
+            {"Thema\n\nFrage 1: Eins?\na) 1\nb) 2\n", "quiz.txt:3: Question has no answer marked with (richtig)!"},
+            {
+                "Thema\n\nFrage 1: Eins?\na) 1 (richtig)\nb) 2 (richtig)\nc) 3\n",
+                "quiz.txt:3: Several answers marked with (richtig) in lines 4, 5 - separate questions by blank lines!"
+            },
+            {"Thema\n\nFrage 1: Eins?\na) 1 (richtig)\n", "quiz.txt:3: Question needs at least one wrong answer!"},
+            {
+                "Thema\n1. Eins?\na) 1\nb) 2\nc) 3\nd) 4\n"
+                + "2. Zwei?\na) 2 (richtig)\nb) 3\nc) 4\nd) 5 (richtig)\n",
+                "quiz.txt:2: Question has no answer marked with (richtig)!\n"
+                + "quiz.txt:7: Several answers marked with (richtig) in lines 8, 11 - separate questions by blank lines!"
+            }
+        };
+    }
+
+    @Test(dataProvider="malformedData")
+    public void malformedTest(final String quiz, final String expected) {
+        final IOException exception = Assert.expectThrows(IOException.class, () -> QuizParserTest.parse(quiz));
+        Assert.assertEquals(exception.getMessage(), expected);
+    }
+
+    @Test
+    public void parseTest() throws IOException {
+        final QuizQuestions questions =
+            QuizParserTest.parse(
+                "Software & Co\n\n"
+                + "Frage 1: Was ist 1 + 1?\na) 2 (richtig)\nb) 3\nc) 4\nd) 5\n"
+                + "Frage 2: Was ist 2 + 2?\na) 3\nb) 4 (Richtig)\nc) 5\nd) 6\n\n\n"
+                + "3) Welche Farben hat die Ampel?\n"
+                + "a) Rot, Gelb, Grün (richtig)\nb) Rot\nc) Blau\nd) Grün\ne) Gelb\nf) Lila\n\n"
+                + "Frage 4: Ja oder nein?\nJa (richtig)\nNein\n"
+            );
+        Assert.assertEquals(questions.topic(), "Software & Co");
+        Assert.assertEquals(questions.size(), 4);
+        final Map<String, QuizQuestion> byQuestion = new LinkedHashMap<String, QuizQuestion>();
+        for (final QuizQuestion question : questions) {
+            byQuestion.put(question.question(), question);
+        }
+        Assert.assertEquals(byQuestion.get("Was ist 2 + 2?").correctAnswer(), "4");
+        Assert.assertEquals(
+            new TreeSet<String>(byQuestion.get("Was ist 2 + 2?").wrongAnswers()),
+            new TreeSet<String>(List.of("3", "5", "6"))
+        );
+        Assert.assertEquals(byQuestion.get("Welche Farben hat die Ampel?").correctAnswer(), "Rot, Gelb, Grün");
+        Assert.assertEquals(
+            new TreeSet<String>(byQuestion.get("Welche Farben hat die Ampel?").wrongAnswers()),
+            new TreeSet<String>(List.of("Rot", "Blau", "Grün", "Gelb", "Lila"))
+        );
+        Assert.assertEquals(byQuestion.get("Ja oder nein?").wrongAnswers(), List.of("Nein"));
+    }
+
+}
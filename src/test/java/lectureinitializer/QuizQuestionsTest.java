@@ -0,0 +1,83 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class QuizQuestionsTest {
+
+    private static final String QUIZ =
+        "Testthema\n\n"
+        + "Frage 1: Was ist 1 + 1?\na) 2 (richtig)\nb) 3\nc) 4\nd) 5\n\n"
+        + "Frage 2: Was ist 2 + 2?\na) 3\nb) 4 (richtig)\nc) 5\nd) 6\n\n"
+        + "Frage 3: Was ist 3 + 3?\na) 5\nb) 7\nc) 6 (richtig)\nd) 8\n\n"
+        + "Frage 4: Was ist 4 + 4?\na) 6\nb) 7\nc) 9\nd) 8 (richtig)\n";
+
+    private static Map<String, String> generate(final long seed, final int count) throws IOException {
+        final Path directory = Files.createTempDirectory("quiz");
+        try {
+            final Path quiz = directory.resolve("quiz.txt");
+            Files.writeString(quiz, QuizQuestionsTest.QUIZ);
+            QuizQuestions.writeVariants(quiz.toFile(), directory.resolve("quiz.tex").toFile(), seed, count, 3);
+            final Map<String, String> result = new TreeMap<String, String>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (final Path file : files) {
+                    result.put(file.getFileName().toString(), Files.readString(file));
+                }
+            }
+            return result;
+        } finally {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (final Path file : files) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void answerKeyTest() throws IOException {
+        final Map<String, String> files = QuizQuestionsTest.generate(42, 12);
+        final List<String> key = files.get("quiz-key.csv").lines().toList();
+        Assert.assertEquals(key.size(), 13);
+        Assert.assertEquals(key.getFirst(), "Variant;1;2;3;4");
+        for (int variant = 1; variant <= 12; variant++) {
+            final String[] fields = key.get(variant).split(";");
+            Assert.assertEquals(fields[0], String.valueOf(variant));
+            final List<String> lines = files.get(String.format("quiz-%02d.tex", variant)).lines().toList();
+            int question = 0;
+            for (int i = 0; i < lines.size(); i++) {
+                if (lines.get(i).startsWith("\\question{")) {
+                    final int operand = Integer.parseInt(lines.get(i).replaceAll("\\D", "").substring(0, 1));
+                    final int answer = fields[question + 1].charAt(0) - 'a';
+                    Assert.assertEquals(lines.get(i + 1 + answer), "\\item " + (2 * operand));
+                    question++;
+                }
+            }
+            Assert.assertEquals(question, 4);
+        }
+    }
+
+    @Test
+    public void rawTopicTest() throws IOException {
+        final StringWriter result = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(result)) {
+            QuizQuestions.writeQuiz(writer, "Laufzeit $O(n)$ und \\emph{Sortieren}", List.of(), new Random(42));
+        }
+        Assert.assertTrue(result.toString().contains("\\newtest{Laufzeit $O(n)$ und \\emph{Sortieren}}\n"));
+    }
+
+    @Test
+    public void reproducibleTest() throws IOException {
+        final Map<String, String> first = QuizQuestionsTest.generate(42, 12);
+        Assert.assertEquals(first.size(), 14);
+        Assert.assertEquals(QuizQuestionsTest.generate(42, 12), first);
+        Assert.assertNotEquals(QuizQuestionsTest.generate(43, 12), first);
+        Assert.assertEquals(new HashSet<String>(first.values()).size(), 14);
+    }
+
+}
@@ -0,0 +1,106 @@
+package lectureinitializer;
+
+import java.time.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class SlotTimelineTest {
+
+    @DataProvider
+    public Object[][] codecData() {
+        return new Object[][] {
+            {"24101109454", LocalDateTime.of(2024, 10, 11, 9, 45), 4},
+            {"24022913452", LocalDateTime.of(2024, 2, 29, 13, 45), 2},
+            {"00010100001", LocalDateTime.of(2000, 1, 1, 0, 0), 1},
+            {"00022923591", LocalDateTime.of(2000, 2, 29, 23, 59), 1},
+            {"99123123599", LocalDateTime.of(2099, 12, 31, 23, 59), 9}
+        };
+    }
+
+    @Test(dataProvider="codecData")
+    public void codecTest(final String code, final LocalDateTime start, final int multiplicity) {
+        final int epochMinute = SlotTimeline.decode(code);
+        Assert.assertEquals(epochMinute, SlotTimeline.toEpochMinute(start));
+        Assert.assertEquals(SlotTimeline.toLocalDateTime(epochMinute), start);
+        Assert.assertEquals(SlotTimeline.multiplicity(code), multiplicity);
+        Assert.assertEquals(SlotTimeline.encode(epochMinute, multiplicity), code);
+    }
+
+    @DataProvider
+    public Object[][] firstSlotForData() {
+        return new Object[][] {
+            {new String[] {"24101109454", "24101209454", "24111113452"}, 1, 8},
+            {new String[] {"24101109454", "24101209454", "24111113452"}, 3, 4},
+            {new String[] {"24101109454", "24101209454", "24111113452"}, 6, 4},
+            {new String[] {"24101109454", "24101209454", "24111113452"}, 7, 0},
+            {new String[] {"24101109454", "24101209454", "24111113452"}, 20, 0},
+            {new String[] {"24101109454"}, 0, 4}
+        };
+    }
+
+    @Test(dataProvider="firstSlotForData")
+    public void firstSlotForTest(final String[] codes, final int needed, final int expected) {
+        Assert.assertEquals(
+            SlotTimeline
+            .fromCodes(codes, SlotTimeline.DEFAULT_SLOT_LENGTH, SlotTimeline.DEFAULT_BREAK_LENGTH)
+            .firstSlotFor(needed),
+            expected
+        );
+    }
+
+    @Test
+    public void fromCodesTest() {
+        final SlotTimeline timeline = SlotTimeline.fromCodes(new String[] {"24101213304", "24101109453"}, 90, 30);
+        Assert.assertEquals(timeline.size(), 7);
+        Assert.assertEquals(timeline.days(), 2);
+        Assert.assertEquals(timeline.dayStart(1), 3);
+        final List<LocalDateTime> slots = new ArrayList<LocalDateTime>();
+        for (int i = 0; i < timeline.size(); i++) {
+            slots.add(SlotTimeline.toLocalDateTime(timeline.slot(i)));
+        }
+        Assert.assertEquals(
+            slots,
+            List.of(
+                LocalDateTime.of(2024, 10, 11, 9, 45),
+                LocalDateTime.of(2024, 10, 11, 11, 15),
+                LocalDateTime.of(2024, 10, 11, 13, 15),
+                LocalDateTime.of(2024, 10, 12, 13, 30),
+                LocalDateTime.of(2024, 10, 12, 15, 0),
+                LocalDateTime.of(2024, 10, 12, 17, 0),
+                LocalDateTime.of(2024, 10, 12, 18, 30)
+            )
+        );
+    }
+
+    @DataProvider
+    public Object[][] invalidCodeData() {
+        return new Object[][] {
+            {"2410110945"},
+            {"24131109454"},
+            {"2410110945x"},
+            {"24101125004"},
+            {"24023009454"},
+            {"23022909454"},
+            {"24043109454"},
+            {"24113109454"}
+        };
+    }
+
+    @Test(dataProvider="invalidCodeData", expectedExceptions=IllegalArgumentException.class)
+    public void invalidCodeTest(final String code) {
+        SlotTimeline.fromCodes(new String[] {code}, 45, 15);
+    }
+
+    @DataProvider
+    public Object[][] slotsWithinData() {
+        return new Object[][] {{44, 0}, {45, 1}, {90, 2}, {135, 3}, {180, 4}, {225, 5}, {240, 5}, {405, 9}};
+    }
+
+    @Test(dataProvider="slotsWithinData")
+    public void slotsWithinTest(final int minutes, final int expected) {
+        Assert.assertEquals(SlotTimeline.slotsWithin(minutes, SlotTimeline.DEFAULT_SLOT_LENGTH), expected);
+    }
+
+}
@@ -1,9 +1,10 @@
 /*
  * This Java source file was generated by the Gradle 'init' task.
  */
-package lectureinitializer;
+package lectureinitializer;
 
 import java.io.*;
+import java.nio.file.*;
 import java.time.*;
 import java.util.*;
 import java.util.stream.*;
@@ -13,6 +14,55 @@ import org.testng.annotations.*;
 
 public class TalkAssignmentsTest {
 
+    private static Path classes(final String solutionB) throws IOException {
+        final Path classes = Files.createTempDirectory("talks").resolve("classes");
+        Files.createDirectories(classes.resolve("244bwiin123b"));
+        Files.writeString(
+            classes.resolve("meta.txt"),
+            "Software Engineering\nSE\nTALK40QUIZ20\n3\nTopic A;solA.txt\nTopic B;solB.txt\nTopic C;solC.txt\n"
+        );
+        Files.writeString(classes.resolve("solA.txt"), "Xa\n");
+        Files.writeString(classes.resolve("solB.txt"), solutionB);
+        Files.writeString(classes.resolve("solC.txt"), "Xc\n");
+        Files.writeString(
+            classes.resolve("244bwiin123b.txt"),
+            "5\nAnna Alpha\nBernd Beta\nCarla Gamma\nDora Delta\nEmil Epsilon\n2\n24101109454\n24101209454\n"
+        );
+        Files.writeString(
+            classes.resolve("244bwiin123b/assignment.txt"),
+            "Anna Alpha -> Topic A\nBernd Beta -> Topic B\nCarla Gamma -> Topic C\n"
+            + "Dora Delta -> Topic B\nEmil Epsilon -> Topic A\n"
+        );
+        return classes;
+    }
+
+    private static Map<Path, String> prepareTalk(
+        final Path classes,
+        final int parallelism,
+        final String failure
+    ) throws IOException {
+        final MemorySink sink = new MemorySink();
+        try (GeneratedFiles files = GeneratedFiles.direct(sink)) {
+            TalkAssignments.prepareTalk(
+                classes.resolve("244bwiin123b/assignment.txt").toFile(),
+                classes.resolve("244bwiin123b.txt").toFile(),
+                false,
+                parallelism,
+                files
+            );
+            files.complete();
+            Assert.assertNull(failure);
+        } catch (final IOException e) {
+            Assert.assertEquals(e.getMessage(), failure);
+            Assert.assertEquals(e.getSuppressed().length, 2);
+        }
+        final Map<Path, String> result = new TreeMap<Path, String>();
+        for (final Path target : sink.targets()) {
+            result.put(target, sink.text(target));
+        }
+        return result;
+    }
+
     @DataProvider
     public Object[][] talkAssignmentsData() {
         final TopicAssignment a1 = new TopicAssignment("P1", "T1");
@@ -63,6 +113,75 @@ public class TalkAssignmentsTest {
         };
     }
 
+    @Test
+    public void duplicateLastNameTest() throws IOException {
+        final Path classes = TalkAssignmentsTest.classes("Xb\n");
+        Files.writeString(
+            classes.resolve("244bwiin123b.txt"),
+            "5\nAnna Alpha\nBernd Beta\nCarla Gamma\nDora Delta\nEmil Alpha\n2\n24101109454\n24101209454\n"
+        );
+        Files.writeString(
+            classes.resolve("244bwiin123b/assignment.txt"),
+            "Anna Alpha -> Topic A\nBernd Beta -> Topic B\nCarla Gamma -> Topic C\n"
+            + "Dora Delta -> Topic B\nEmil Alpha -> Topic A\n"
+        );
+        final Path protocol =
+            classes.resolve("244bwiin123b/protocols/protokollSEAlpha.tex").toAbsolutePath().normalize();
+        final Map<Path, String> sequential = TalkAssignmentsTest.prepareTalk(classes, 1, null);
+        Assert.assertTrue(sequential.get(protocol).contains("Emil Alpha"));
+        Assert.assertFalse(sequential.get(protocol).contains("Anna Alpha"));
+        for (int run = 0; run < 10; run++) {
+            Assert.assertEquals(TalkAssignmentsTest.prepareTalk(classes, 4, null), sequential);
+        }
+    }
+
+    @Test
+    public void matrixOptionTest() throws IOException {
+        for (final boolean firstMatrix : new boolean[] {false, true}) {
+            final Path classes = TalkAssignmentsTest.classes("Xb\n");
+            final File assignment = classes.resolve("244bwiin123b/assignment.txt").toFile();
+            final File classFile = classes.resolve("244bwiin123b.txt").toFile();
+            final Path matrix = classes.resolve("244bwiin123b/quizAnswers.csv");
+            final Path sheet = classes.resolve("244bwiin123b/quizAnswers/alpha.csv");
+            TalkAssignments.prepareTalk(assignment, classFile, firstMatrix, true);
+            Assert.assertEquals(Files.exists(matrix), firstMatrix);
+            Assert.assertEquals(Files.exists(sheet), !firstMatrix);
+            TalkAssignments.prepareTalk(assignment, classFile, !firstMatrix, true);
+            Assert.assertTrue(Files.exists(matrix));
+            Assert.assertTrue(Files.exists(sheet));
+        }
+    }
+
+    @DataProvider
+    public Object[][] parallelData() {
+        return new Object[][] {
+            {"Xb\n", null, 5L, "Anna Alpha;a\nBernd Beta;b\nCarla Gamma;c\nDora Delta;b\nEmil Epsilon;a\n"},
+            {"", "Could not generate talk files for Bernd Beta, Dora Delta!", 0L, null}
+        };
+    }
+
+    @Test(dataProvider="parallelData")
+    public void parallelTest(
+        final String solutionB,
+        final String failure,
+        final long protocols,
+        final String solutions
+    ) throws IOException {
+        final Path classes = TalkAssignmentsTest.classes(solutionB);
+        final Map<Path, String> sequential = TalkAssignmentsTest.prepareTalk(classes, 1, failure);
+        final Map<Path, String> parallel = TalkAssignmentsTest.prepareTalk(classes, 4, failure);
+        Assert.assertEquals(parallel, sequential);
+        Assert.assertEquals(sequential.isEmpty(), failure != null);
+        Assert.assertEquals(
+            sequential.keySet().stream().filter(file -> file.getFileName().toString().endsWith(".tex")).count(),
+            protocols
+        );
+        Assert.assertEquals(
+            sequential.get(classes.resolve("244bwiin123b/quizSolutions.csv").toAbsolutePath().normalize()),
+            solutions
+        );
+    }
+
     @Test(dataProvider="talkAssignmentsData")
     public void talkAssignmentsTest(
         final BufferedReader assignmentReader,
@@ -0,0 +1,148 @@
+package lectureinitializer;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class TextInputTest {
+
+    private static byte[] concat(final byte[] prefix, final byte[] content) {
+        final byte[] result = Arrays.copyOf(prefix, prefix.length + content.length);
+        System.arraycopy(content, 0, result, prefix.length, content.length);
+        return result;
+    }
+
+    @Test
+    public void closedViewsTest() throws IOException {
+        final List<CharSequence> lines = new ArrayList<CharSequence>();
+        final CharSequence content;
+        final BufferedReader reader;
+        try (TextInput input = TextInput.decode("eins\nzwei\n".getBytes(StandardCharsets.UTF_8))) {
+            input.forEachLine((line, number) -> lines.add(line));
+            content = input.content();
+            reader = input.reader();
+            Assert.assertEquals(lines.get(1).toString(), "zwei");
+            Assert.assertEquals(content.subSequence(5, 9).toString(), "zwei");
+        }
+        try (TextInput other = TextInput.decode("drei\nvier\n".getBytes(StandardCharsets.UTF_8))) {
+            Assert.assertEquals(other.lines(), List.of("drei", "vier"));
+            Assert.assertThrows(IllegalStateException.class, () -> lines.get(0).charAt(0));
+            Assert.assertThrows(IllegalStateException.class, () -> content.toString());
+            Assert.assertThrows(IllegalStateException.class, () -> reader.readLine());
+        }
+    }
+
+    @DataProvider
+    public Object[][] decodeData() {
+        final String text = "Vorname\tNachname\nJörg Müller\r\nÆsa Øre\n";
+        final List<String> lines = List.of("Vorname\tNachname", "Jörg Müller", "Æsa Øre");
+        return new Object[][] {
+            {text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, lines},
+            {
+                TextInputTest.concat(
+                    new byte[] {(byte)0xEF, (byte)0xBB, (byte)0xBF},
+                    text.getBytes(StandardCharsets.UTF_8)
+                ),
+                StandardCharsets.UTF_8,
+                lines
+            },
+            {
+                TextInputTest.concat(new byte[] {(byte)0xFF, (byte)0xFE}, text.getBytes(StandardCharsets.UTF_16LE)),
+                StandardCharsets.UTF_16LE,
+                lines
+            },
+            {
+                TextInputTest.concat(new byte[] {(byte)0xFE, (byte)0xFF}, text.getBytes(StandardCharsets.UTF_16BE)),
+                StandardCharsets.UTF_16BE,
+                lines
+            },
+            {text.getBytes(StandardCharsets.UTF_16LE), StandardCharsets.UTF_16LE, lines},
+            {text.getBytes(StandardCharsets.UTF_16BE), StandardCharsets.UTF_16BE, lines},
+            {text.getBytes(TextInput.FALLBACK), TextInput.FALLBACK, lines},
+            {"a\rb\n\nc".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, List.of("a", "b", "", "c")},
+            {new byte[0], StandardCharsets.UTF_8, List.of()}
+        };
+    }
+
+    @Test(dataProvider = "decodeData")
+    public void decodeTest(final byte[] bytes, final Charset charset, final List<String> lines) throws IOException {
+        try (TextInput input = TextInput.decode(bytes)) {
+            Assert.assertEquals(input.charset(), charset);
+            Assert.assertEquals(input.lines(), lines);
+            final List<String> read = new ArrayList<String>();
+            final BufferedReader reader = input.reader();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                read.add(line);
+            }
+            Assert.assertEquals(read, lines);
+        }
+    }
+
+    @Test
+    public void forEachLineTest() throws IOException {
+        final List<Integer> numbers = new ArrayList<Integer>();
+        try (TextInput input = TextInput.decode("eins\n \nzwei\n".getBytes(StandardCharsets.UTF_8))) {
+            input.forEachLine(
+                (line, number) -> {
+                    if (!TextInput.isBlank(line)) {
+                        numbers.add(number);
+                    }
+                }
+            );
+            Assert.assertEquals(input.content().toString(), "eins\n \nzwei\n");
+        }
+        Assert.assertEquals(numbers, List.of(1, 3));
+    }
+
+    @Test
+    public void openReaderLargeTest() throws IOException {
+        final Path file = Files.createTempFile("textInput", ".txt");
+        final String content = "Jörg Müller\n".repeat(20000);
+        Files.writeString(file, content, TextInput.FALLBACK);
+        final StringBuilder read = new StringBuilder();
+        try (BufferedReader reader = TextInput.openReader(file)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                read.append(line).append('\n');
+            }
+        } finally {
+            Files.delete(file);
+        }
+        Assert.assertEquals(read.toString(), content);
+    }
+
+    @Test(dataProvider = "decodeData")
+    public void openReaderTest(final byte[] bytes, final Charset charset, final List<String> lines) throws IOException {
+        final Path file = Files.createTempFile("textInput", ".txt");
+        Files.write(file, bytes);
+        final List<String> read = new ArrayList<String>();
+        try (BufferedReader reader = TextInput.openReader(file)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                read.add(line);
+            }
+        } finally {
+            Files.delete(file);
+        }
+        Assert.assertEquals(read, lines);
+    }
+
+    @Test
+    public void openTest() throws IOException {
+        final Path file = Files.createTempFile("textInput", ".txt");
+        final String content = "Zeile\n".repeat(10000);
+        Files.writeString(file, content, StandardCharsets.UTF_16LE);
+        for (int i = 0; i < 3; i++) {
+            try (TextInput input = TextInput.open(file)) {
+                Assert.assertEquals(input.charset(), StandardCharsets.UTF_16LE);
+                Assert.assertEquals(input.content().toString(), content);
+            }
+        }
+        final TextInput closed = TextInput.open(file);
+        closed.close();
+        Assert.assertThrows(IllegalStateException.class, () -> closed.content());
+    }
+
+}